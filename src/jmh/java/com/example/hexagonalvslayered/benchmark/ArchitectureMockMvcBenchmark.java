@@ -0,0 +1,152 @@
+package com.example.hexagonalvslayered.benchmark;
+
+import com.example.hexagonalvslayered.hexagonal.application.port.in.ManageTodoUseCase;
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.layered.dto.TodoDto;
+import com.example.hexagonalvslayered.layered.dto.TodoRequest;
+import com.example.hexagonalvslayered.layered.service.LayeredTodoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+
+/**
+ * 웹 계층까지 포함한 전체 스택(MockMvc → 컨트롤러 → 서비스 → H2)을 비교하는 벤치마크
+ * 
+ * 실제 네트워크 없이 DispatcherServlet부터 요청을 처리하므로, JSON 역직렬화/직렬화와 컨트롤러의 DTO 변환까지
+ * 측정 대상에 포함됩니다. 두 스택의 같은 엔드포인트(/api/layered/todos, /api/hexagonal/todos)를 호출합니다.
+ * 
+ * 처리량과 평균 시간을 함께 측정하고, gc 프로파일러의 gc.alloc.rate.norm으로 요청당 할당량을 비교합니다.
+ * 
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ArchitectureMockMvcBenchmark {
+    
+    private static final int ROWS = 100;
+    private static final String LAYERED = "/api/layered/todos";
+    private static final String HEXAGONAL = "/api/hexagonal/todos";
+    private static final String REQUEST_BODY = "{\"title\":\"benchmark\",\"description\":\"mock mvc\"}";
+    
+    private ConfigurableApplicationContext context;
+    private MockMvc mockMvc;
+    private List<Long> layeredIds;
+    private List<Long> hexagonalIds;
+    private final AtomicInteger cursor = new AtomicInteger();
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start(WebApplicationType.SERVLET);
+        mockMvc = MockMvcBuilders.webAppContextSetup((WebApplicationContext) context).build();
+    
+        TodoRequest request = TodoRequest.builder().title("benchmark").description("mock mvc").build();
+        layeredIds = context.getBean(LayeredTodoService.class)
+                .createTodos(IntStream.range(0, ROWS).mapToObj(i -> request).collect(Collectors.toList()))
+                .stream()
+                .map(TodoDto::getId)
+                .collect(Collectors.toList());
+        ManageTodoUseCase.CreateTodoCommand command = new ManageTodoUseCase.CreateTodoCommand("benchmark", "mock mvc");
+        hexagonalIds = context.getBean(ManageTodoUseCase.class)
+                .createTodos(IntStream.range(0, ROWS).mapToObj(i -> command).collect(Collectors.toList()))
+                .stream()
+                .map(Todo::getId)
+                .collect(Collectors.toList());
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public MvcResult layeredCreate() throws Exception {
+        return perform(post(LAYERED).contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY));
+    }
+    
+    @Benchmark
+    public MvcResult hexagonalCreate() throws Exception {
+        return perform(post(HEXAGONAL).contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY));
+    }
+    
+    @Benchmark
+    public MvcResult layeredGet() throws Exception {
+        return perform(get(LAYERED + "/{id}", next(layeredIds)));
+    }
+    
+    @Benchmark
+    public MvcResult hexagonalGet() throws Exception {
+        return perform(get(HEXAGONAL + "/{id}", next(hexagonalIds)));
+    }
+    
+    @Benchmark
+    public MvcResult layeredUpdate() throws Exception {
+        return perform(put(LAYERED + "/{id}", next(layeredIds))
+                .contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY));
+    }
+    
+    @Benchmark
+    public MvcResult hexagonalUpdate() throws Exception {
+        return perform(put(HEXAGONAL + "/{id}", next(hexagonalIds))
+                .contentType(MediaType.APPLICATION_JSON).content(REQUEST_BODY));
+    }
+    
+    @Benchmark
+    public MvcResult layeredComplete() throws Exception {
+        return perform(patch(LAYERED + "/{id}/complete", next(layeredIds)));
+    }
+    
+    @Benchmark
+    public MvcResult hexagonalComplete() throws Exception {
+        return perform(patch(HEXAGONAL + "/{id}/complete", next(hexagonalIds)));
+    }
+    
+    @Benchmark
+    public MvcResult layeredList() throws Exception {
+        return perform(get(LAYERED));
+    }
+    
+    @Benchmark
+    public MvcResult hexagonalList() throws Exception {
+        return perform(get(HEXAGONAL));
+    }
+    
+    // 실패한 요청이 빠른 결과로 집계되지 않도록 2xx가 아니면 실패로 처리
+    private MvcResult perform(RequestBuilder request) throws Exception {
+        MvcResult result = mockMvc.perform(request).andReturn();
+        int status = result.getResponse().getStatus();
+        if (status / 100 != 2) {
+            throw new IllegalStateException("Unexpected status " + status + " for " + result.getRequest().getRequestURI());
+        }
+        return result;
+    }
+    
+    private Long next(List<Long> ids) {
+        return ids.get(Math.floorMod(cursor.getAndIncrement(), ids.size()));
+    }
+}
@@ -0,0 +1,139 @@
+package com.example.hexagonalvslayered.benchmark;
+
+import com.example.hexagonalvslayered.hexagonal.application.port.in.GetTodoQuery;
+import com.example.hexagonalvslayered.hexagonal.application.port.in.ManageTodoUseCase;
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.layered.dto.TodoDto;
+import com.example.hexagonalvslayered.layered.dto.TodoRequest;
+import com.example.hexagonalvslayered.layered.service.LayeredTodoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 서비스 + 영속성 계층(H2 메모리 DB)을 비교하는 벤치마크
+ * 
+ * 스프링 컨텍스트에서 LayeredTodoService와 헥사고날 유스케이스(ManageTodoUseCase, GetTodoQuery)를 꺼내
+ * create/get/update/complete/list를 실행합니다. 트랜잭션, JPA, 헥사고날의 영속성 어댑터 변환과
+ * 아웃박스 기록이 측정 대상에 포함되며, 웹 계층은 제외됩니다. (BenchmarkContexts 참고)
+ * 
+ * 처리량과 평균 시간을 함께 측정하고, gc 프로파일러의 gc.alloc.rate.norm으로 호출당 할당량을 비교합니다.
+ * create는 측정하는 동안 행이 계속 늘어나므로 다른 연산과 따로 비교해야 합니다.
+ * 
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ArchitecturePersistenceBenchmark {
+    
+    private static final int ROWS = 100;
+    
+    private ConfigurableApplicationContext context;
+    private LayeredTodoService layeredTodoService;
+    private ManageTodoUseCase manageTodoUseCase;
+    private GetTodoQuery getTodoQuery;
+    private List<Long> layeredIds;
+    private List<Long> hexagonalIds;
+    private final AtomicInteger cursor = new AtomicInteger();
+    
+    private final TodoRequest layeredRequest = TodoRequest.builder().title("benchmark").description("persistence").build();
+    private final ManageTodoUseCase.CreateTodoCommand createCommand =
+            new ManageTodoUseCase.CreateTodoCommand("benchmark", "persistence");
+    private final ManageTodoUseCase.UpdateTodoCommand updateCommand =
+            new ManageTodoUseCase.UpdateTodoCommand("benchmark", "updated");
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkContexts.start(WebApplicationType.NONE);
+        layeredTodoService = context.getBean(LayeredTodoService.class);
+        manageTodoUseCase = context.getBean(ManageTodoUseCase.class);
+        getTodoQuery = context.getBean(GetTodoQuery.class);
+    
+        layeredIds = layeredTodoService.createTodos(IntStream.range(0, ROWS)
+                        .mapToObj(i -> layeredRequest)
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(TodoDto::getId)
+                .collect(Collectors.toList());
+        hexagonalIds = manageTodoUseCase.createTodos(IntStream.range(0, ROWS)
+                        .mapToObj(i -> createCommand)
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(Todo::getId)
+                .collect(Collectors.toList());
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public TodoDto layeredCreate() {
+        return layeredTodoService.createTodo(layeredRequest);
+    }
+    
+    @Benchmark
+    public Todo hexagonalCreate() {
+        return manageTodoUseCase.createTodo(createCommand);
+    }
+    
+    @Benchmark
+    public TodoDto layeredGet() {
+        return layeredTodoService.getTodoById(next(layeredIds));
+    }
+    
+    @Benchmark
+    public Todo hexagonalGet() {
+        return getTodoQuery.getTodoById(next(hexagonalIds)).orElseThrow();
+    }
+    
+    @Benchmark
+    public TodoDto layeredUpdate() {
+        return layeredTodoService.updateTodo(next(layeredIds), layeredRequest);
+    }
+    
+    @Benchmark
+    public Todo hexagonalUpdate() {
+        return manageTodoUseCase.updateTodo(next(hexagonalIds), updateCommand);
+    }
+    
+    @Benchmark
+    public TodoDto layeredComplete() {
+        return layeredTodoService.completeTodo(next(layeredIds));
+    }
+    
+    @Benchmark
+    public Todo hexagonalComplete() {
+        return manageTodoUseCase.completeTodo(next(hexagonalIds));
+    }
+    
+    @Benchmark
+    public List<TodoDto> layeredList() {
+        return layeredTodoService.getAllTodos();
+    }
+    
+    @Benchmark
+    public List<Todo> hexagonalList() {
+        return getTodoQuery.getAllTodos();
+    }
+    
+    private Long next(List<Long> ids) {
+        return ids.get(Math.floorMod(cursor.getAndIncrement(), ids.size()));
+    }
+}
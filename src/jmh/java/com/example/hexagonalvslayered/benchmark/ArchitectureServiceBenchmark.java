@@ -0,0 +1,121 @@
+package com.example.hexagonalvslayered.benchmark;
+
+import com.example.hexagonalvslayered.common.NotificationResilienceGuard;
+import com.example.hexagonalvslayered.hexagonal.application.port.in.ManageTodoUseCase;
+import com.example.hexagonalvslayered.hexagonal.application.service.HexagonalTodoService;
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.layered.dto.TodoDto;
+import com.example.hexagonalvslayered.layered.dto.TodoRequest;
+import com.example.hexagonalvslayered.layered.service.AfterCommitNotificationDispatcher;
+import com.example.hexagonalvslayered.layered.service.LayeredTodoService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서비스 계층만 비교하는 벤치마크 (스프링 컨텍스트, 트랜잭션, DB 없음)
+ * 
+ * LayeredTodoService와 HexagonalTodoService를 같은 방식의 메모리 저장소(InMemoryLayeredTodoRepository,
+ * InMemoryTodoPorts)로 직접 생성해서 create/get/update/complete/list를 실행합니다.
+ * 레이어드는 DTO 변환과 알림 디스패처, 헥사고날은 도메인 객체 생성과 도메인 이벤트 등록/발행(발행 자체는 무시)이
+ * 측정 대상에 포함됩니다.
+ * 
+ * 처리량과 평균 시간을 함께 측정하고, gc 프로파일러의 gc.alloc.rate.norm으로 호출당 할당량을 비교합니다.
+ * 
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.AverageTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ArchitectureServiceBenchmark {
+    
+    private static final int ROWS = 100;
+    
+    private LayeredTodoService layeredTodoService;
+    private HexagonalTodoService hexagonalTodoService;
+    private final AtomicLong cursor = new AtomicLong();
+    
+    private final TodoRequest layeredRequest = TodoRequest.builder().title("benchmark").description("service").build();
+    private final ManageTodoUseCase.CreateTodoCommand createCommand =
+            new ManageTodoUseCase.CreateTodoCommand("benchmark", "service");
+    private final ManageTodoUseCase.UpdateTodoCommand updateCommand =
+            new ManageTodoUseCase.UpdateTodoCommand("benchmark", "updated");
+    
+    @Setup
+    public void setUp() {
+        NotificationResilienceGuard guard = NotificationResilienceGuard.permissive(new SimpleMeterRegistry());
+        layeredTodoService = new LayeredTodoService(InMemoryLayeredTodoRepository.create(ROWS),
+                new BenchmarkContexts.NoOpNotificationService(),
+                new AfterCommitNotificationDispatcher(Runnable::run, guard));
+        InMemoryTodoPorts todoPorts = new InMemoryTodoPorts(ROWS);
+        hexagonalTodoService = new HexagonalTodoService(todoPorts, todoPorts, event -> { });
+    
+        for (int i = 0; i < ROWS; i++) {
+            layeredTodoService.createTodo(layeredRequest);
+            hexagonalTodoService.createTodo(createCommand);
+        }
+    }
+    
+    @Benchmark
+    public TodoDto layeredCreate() {
+        return layeredTodoService.createTodo(layeredRequest);
+    }
+    
+    @Benchmark
+    public Todo hexagonalCreate() {
+        return hexagonalTodoService.createTodo(createCommand);
+    }
+    
+    @Benchmark
+    public TodoDto layeredGet() {
+        return layeredTodoService.getTodoById(nextId());
+    }
+    
+    @Benchmark
+    public Todo hexagonalGet() {
+        return hexagonalTodoService.getTodoById(nextId()).orElseThrow();
+    }
+    
+    @Benchmark
+    public TodoDto layeredUpdate() {
+        return layeredTodoService.updateTodo(nextId(), layeredRequest);
+    }
+    
+    @Benchmark
+    public Todo hexagonalUpdate() {
+        return hexagonalTodoService.updateTodo(nextId(), updateCommand);
+    }
+    
+    @Benchmark
+    public TodoDto layeredComplete() {
+        return layeredTodoService.completeTodo(nextId());
+    }
+    
+    @Benchmark
+    public Todo hexagonalComplete() {
+        return hexagonalTodoService.completeTodo(nextId());
+    }
+    
+    @Benchmark
+    public List<TodoDto> layeredList() {
+        return layeredTodoService.getAllTodos();
+    }
+    
+    @Benchmark
+    public List<Todo> hexagonalList() {
+        return hexagonalTodoService.getAllTodos();
+    }
+    
+    private Long nextId() {
+        return cursor.getAndIncrement() % ROWS + 1;
+    }
+}
@@ -0,0 +1,67 @@
+package com.example.hexagonalvslayered.benchmark;
+
+import com.example.hexagonalvslayered.HexagonalVsLayeredApplication;
+import com.example.hexagonalvslayered.common.CompletionNotification;
+import com.example.hexagonalvslayered.common.ExternalNotificationService;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 두 아키텍처를 같은 조건에서 비교하기 위한 애플리케이션 컨텍스트
+ * 
+ * - 외부 알림 서비스의 100ms 지연 시뮬레이션을 즉시 반환하는 구현으로 바꿔서, 계층 구조 자체의 비용만 측정
+ * - 레이어드에는 캐시가 없으므로 헥사고날 캐시(hexagonal.cache.enabled)도 끔
+ * - 호출별 메트릭과 JFR 유스케이스 애스펙트(architecture.metrics.enabled, architecture.jfr.enabled)도 꺼서
+ *   계측 비용이 결과에 섞이지 않도록 함
+ * - 아웃박스 기록은 쓰기 비용에 포함되도록 그대로 두고, 외부 REST API로 보내는 릴레이만 끔
+ *   (hexagonal.outbox.relay.enabled, 주기적인 전송 실패가 측정에 섞이지 않도록)
+ * - 나머지 설정은 운영 설정 그대로 사용
+ */
+final class BenchmarkContexts {
+    
+    private BenchmarkContexts() {
+    }
+    
+    static ConfigurableApplicationContext start(WebApplicationType webApplicationType) {
+        return new SpringApplicationBuilder(HexagonalVsLayeredApplication.class, NoOpNotificationConfig.class)
+                .web(webApplicationType)
+                .properties(
+                        "server.port=0",
+                        "spring.jpa.show-sql=false",
+                        "hexagonal.cache.enabled=false",
+                        "hexagonal.outbox.relay.enabled=false",
+                        "architecture.metrics.enabled=false",
+                        "architecture.jfr.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+    }
+    
+    // @Configuration을 붙이지 않아서 컴포넌트 스캔 대상이 아님 (이 컨텍스트에만 등록)
+    static class NoOpNotificationConfig {
+    
+        @Bean
+        @Primary
+        ExternalNotificationService noOpNotificationService() {
+            return new NoOpNotificationService();
+        }
+    }
+    
+    static class NoOpNotificationService extends ExternalNotificationService {
+    
+        @Override
+        public boolean sendCompletionNotification(Long todoId, String title) {
+            return true;
+        }
+    
+        @Override
+        public List<Boolean> sendCompletionNotifications(List<CompletionNotification> notifications) {
+            return Collections.nCopies(notifications.size(), Boolean.TRUE);
+        }
+    }
+}
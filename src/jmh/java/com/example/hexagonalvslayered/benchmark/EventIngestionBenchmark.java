@@ -0,0 +1,72 @@
+package com.example.hexagonalvslayered.benchmark;
+
+import com.example.hexagonalvslayered.hexagonal.adapter.in.rest.EventController;
+import com.example.hexagonalvslayered.hexagonal.adapter.in.rest.EventDeduplicator;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 이벤트 수신 처리량 벤치마크 (EventController + EventDeduplicator)
+ * 
+ * - uniqueEvents: 매번 새 eventId (중복 제거 집합에 기록, 세대 교체 포함)
+ * - duplicateEvents: 이미 받은 eventId를 다시 받음 (조회만 하고 처리하지 않음)
+ * 
+ * 여러 스레드가 동시에 수신할 때 중복 확인이 병목(잠금 경합)이 되지 않는지 확인합니다.
+ * 
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(8)
+public class EventIngestionBenchmark {
+    
+    private static final int DUPLICATE_IDS = 1024;
+    
+    private EventController eventController;
+    private TodoEvent[] duplicates;
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong duplicateCursor = new AtomicLong();
+    
+    @Setup
+    public void setUp() {
+        eventController = new EventController(new EventDeduplicator(Duration.ofMinutes(5), 500_000));
+        duplicates = new TodoEvent[DUPLICATE_IDS];
+        for (int i = 0; i < DUPLICATE_IDS; i++) {
+            duplicates[i] = event("duplicate-" + i);
+            eventController.receiveEvent(duplicates[i]);
+        }
+    }
+    
+    @Benchmark
+    public ResponseEntity<Void> uniqueEvents() {
+        return eventController.receiveEvent(event("unique-" + sequence.incrementAndGet()));
+    }
+    
+    @Benchmark
+    public ResponseEntity<Void> duplicateEvents() {
+        int index = (int) (duplicateCursor.getAndIncrement() % DUPLICATE_IDS);
+        return eventController.receiveEvent(duplicates[index]);
+    }
+    
+    private static TodoEvent event(String eventId) {
+        return TodoEvent.builder()
+                .eventId(eventId)
+                .eventType(TodoEvent.EventType.UPDATED.name())
+                .todoId(1L)
+                .title("benchmark")
+                .build();
+    }
+}
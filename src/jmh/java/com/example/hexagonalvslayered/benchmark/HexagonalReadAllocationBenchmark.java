@@ -0,0 +1,117 @@
+package com.example.hexagonalvslayered.benchmark;
+
+import com.example.hexagonalvslayered.HexagonalVsLayeredApplication;
+import com.example.hexagonalvslayered.hexagonal.adapter.in.web.TodoDto;
+import com.example.hexagonalvslayered.hexagonal.adapter.out.persistence.HexagonalTodoRepository;
+import com.example.hexagonalvslayered.hexagonal.adapter.out.persistence.TodoPersistenceAdapter;
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 헥사고날 목록 조회의 요청당 할당량 비교 벤치마크
+ * 
+ * - mappingChain: 기존 방식 (TodoJpaEntity → Todo(빌더, domainEvents ArrayList) → TodoDto(빌더))
+ * - directProjection: 현재 방식 (JPQL 생성자 표현식으로 Todo를 바로 생성, 이벤트 목록은 등록 시에만 할당 → TodoDto 생성자)
+ * 
+ * 응답 표현(TodoDto 목록)까지 만드는 비용을 비교하며, JSON 직렬화는 두 경로가 같으므로 제외합니다.
+ * 
+ * 실행: ./gradlew jmh (gc 프로파일러의 gc.alloc.rate.norm이 요청당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HexagonalReadAllocationBenchmark {
+    
+    @Param({"100", "1000"})
+    private int rows;
+    
+    private ConfigurableApplicationContext context;
+    private HexagonalTodoRepository hexagonalTodoRepository;
+    private TodoPersistenceAdapter todoPersistenceAdapter;
+    private TransactionTemplate readOnlyTransaction;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HexagonalVsLayeredApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "hexagonal.cache.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        hexagonalTodoRepository = context.getBean(HexagonalTodoRepository.class);
+        todoPersistenceAdapter = context.getBean(TodoPersistenceAdapter.class);
+        readOnlyTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        readOnlyTransaction.setReadOnly(true);
+    
+        todoPersistenceAdapter.saveAllTodos(IntStream.range(0, rows)
+                .mapToObj(i -> Todo.builder().title("benchmark " + i).description("read path").build())
+                .collect(Collectors.toList()));
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public List<TodoDto> mappingChain() {
+        List<Todo> todos = readOnlyTransaction.execute(status -> hexagonalTodoRepository.findAll().stream()
+                .map(entity -> Todo.builder()
+                        .id(entity.getId())
+                        .title(entity.getTitle())
+                        .description(entity.getDescription())
+                        .completed(entity.isCompleted())
+                        .createdAt(entity.getCreatedAt())
+                        .updatedAt(entity.getUpdatedAt())
+                        .version(entity.getVersion())
+                        .domainEvents(new ArrayList<>())
+                        .build())
+                .collect(Collectors.toList()));
+        return todos.stream()
+                .map(todo -> TodoDto.builder()
+                        .id(todo.getId())
+                        .title(todo.getTitle())
+                        .description(todo.getDescription())
+                        .completed(todo.isCompleted())
+                        .createdAt(todo.getCreatedAt())
+                        .updatedAt(todo.getUpdatedAt())
+                        .version(todo.getVersion())
+                        .build())
+                .collect(Collectors.toList());
+    }
+    
+    @Benchmark
+    public List<TodoDto> directProjection() {
+        return todoPersistenceAdapter.loadAllTodos().stream()
+                .map(todo -> new TodoDto(
+                        todo.getId(),
+                        todo.getTitle(),
+                        todo.getDescription(),
+                        todo.isCompleted(),
+                        todo.getCreatedAt(),
+                        todo.getUpdatedAt(),
+                        todo.getVersion()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,90 @@
+package com.example.hexagonalvslayered.benchmark;
+
+import com.example.hexagonalvslayered.layered.model.Todo;
+import com.example.hexagonalvslayered.layered.repository.LayeredTodoRepository;
+import com.example.hexagonalvslayered.layered.repository.TodoView;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 서비스 계층만 측정하기 위한 LayeredTodoRepository의 메모리 구현 (InMemoryTodoPorts와 대칭)
+ * 
+ * LayeredTodoRepository는 JpaRepository를 상속해서 메서드가 많으므로, 서비스가 사용하는 메서드만
+ * 동적 프록시로 구현합니다. (그 외 메서드는 UnsupportedOperationException)
+ * 실제 저장소처럼 조회마다 새 객체를 만들어 반환하고, 새 Todo의 ID는 1 ~ capacity 범위에서 순환 할당합니다.
+ */
+class InMemoryLayeredTodoRepository implements InvocationHandler {
+    
+    private final ConcurrentSkipListMap<Long, Todo> todos = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final int capacity;
+    
+    private InMemoryLayeredTodoRepository(int capacity) {
+        this.capacity = capacity;
+    }
+    
+    static LayeredTodoRepository create(int capacity) {
+        return (LayeredTodoRepository) Proxy.newProxyInstance(
+                LayeredTodoRepository.class.getClassLoader(),
+                new Class<?>[] {LayeredTodoRepository.class},
+                new InMemoryLayeredTodoRepository(capacity));
+    }
+    
+    @Override
+    public Object invoke(Object proxy, Method method, Object[] args) {
+        return switch (method.getName()) {
+            case "save", "saveAndFlush" -> save((Todo) args[0]);
+            case "findById" -> Optional.ofNullable(todos.get((Long) args[0])).map(InMemoryLayeredTodoRepository::copy);
+            case "findViewById" -> Optional.ofNullable(todos.get((Long) args[0])).map(InMemoryLayeredTodoRepository::toView);
+            case "findAllViews" -> findAllViews();
+            case "completeById" -> completeById((Long) args[0], (LocalDateTime) args[1]);
+            case "deleteTodoById" -> todos.remove((Long) args[0]) != null ? 1 : 0;
+            case "hashCode" -> System.identityHashCode(proxy);
+            case "equals" -> proxy == args[0];
+            case "toString" -> "InMemoryLayeredTodoRepository";
+            default -> throw new UnsupportedOperationException(method.getName());
+        };
+    }
+    
+    // JPA처럼 전달받은 엔티티에 ID와 버전을 채워서 반환
+    private Todo save(Todo todo) {
+        if (todo.getId() == null) {
+            todo.setId(sequence.getAndIncrement() % capacity + 1);
+            todo.setVersion(0L);
+        } else {
+            todo.setVersion(todo.getVersion() != null ? todo.getVersion() + 1 : 0L);
+        }
+        todos.put(todo.getId(), copy(todo));
+        return todo;
+    }
+    
+    private List<TodoView> findAllViews() {
+        List<TodoView> result = new ArrayList<>(todos.size());
+        todos.values().forEach(todo -> result.add(toView(todo)));
+        return result;
+    }
+    
+    private Optional<Todo> completeById(Long id, LocalDateTime updatedAt) {
+        Todo completed = todos.computeIfPresent(id, (key, todo) -> new Todo(key, todo.getTitle(),
+                todo.getDescription(), true, todo.getCreatedAt(), updatedAt, todo.getVersion() + 1));
+        return Optional.ofNullable(completed).map(InMemoryLayeredTodoRepository::copy);
+    }
+    
+    private static Todo copy(Todo todo) {
+        return new Todo(todo.getId(), todo.getTitle(), todo.getDescription(), todo.isCompleted(),
+                todo.getCreatedAt(), todo.getUpdatedAt(), todo.getVersion());
+    }
+    
+    private static TodoView toView(Todo todo) {
+        return new TodoView(todo.getId(), todo.getTitle(), todo.getDescription(), todo.isCompleted(),
+                todo.getCreatedAt(), todo.getUpdatedAt(), todo.getVersion());
+    }
+}
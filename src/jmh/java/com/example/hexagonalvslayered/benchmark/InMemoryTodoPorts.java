@@ -0,0 +1,123 @@
+package com.example.hexagonalvslayered.benchmark;
+
+import com.example.hexagonalvslayered.hexagonal.application.port.out.LoadTodoPort;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.SaveTodoPort;
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.hexagonal.domain.TodoFilter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 서비스 계층만 측정하기 위한 헥사고날 영속성 포트의 메모리 구현 (InMemoryLayeredTodoRepository와 대칭)
+ * 
+ * 실제 어댑터처럼 조회와 저장마다 새 Todo를 만들어 반환하고,
+ * 새 Todo의 ID는 1 ~ capacity 범위에서 순환 할당해서 저장소 크기를 일정하게 유지합니다.
+ */
+class InMemoryTodoPorts implements LoadTodoPort, SaveTodoPort {
+    
+    private final ConcurrentSkipListMap<Long, Todo> todos = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+    private final AtomicLong listVersion = new AtomicLong();
+    private final int capacity;
+    
+    InMemoryTodoPorts(int capacity) {
+        this.capacity = capacity;
+    }
+    
+    @Override
+    public List<Todo> loadAllTodos() {
+        List<Todo> result = new ArrayList<>(todos.size());
+        todos.values().forEach(todo -> result.add(copy(todo)));
+        return result;
+    }
+    
+    @Override
+    public Optional<Todo> loadTodoById(Long id) {
+        Todo todo = todos.get(id);
+        return todo != null ? Optional.of(copy(todo)) : Optional.empty();
+    }
+    
+    @Override
+    public List<Todo> loadTodosByIds(Collection<Long> ids) {
+        List<Todo> result = new ArrayList<>(ids.size());
+        ids.forEach(id -> loadTodoById(id).ifPresent(result::add));
+        return result;
+    }
+    
+    @Override
+    public List<Todo> loadTodosAfter(Long afterId, int limit) {
+        List<Todo> result = new ArrayList<>(limit);
+        for (Todo todo : todos.tailMap(afterId != null ? afterId : 0L, false).values()) {
+            if (result.size() == limit) {
+                break;
+            }
+            result.add(copy(todo));
+        }
+        return result;
+    }
+    
+    @Override
+    public List<Todo> loadTodos(TodoFilter filter, int limit) {
+        return loadTodosAfter(null, limit);
+    }
+    
+    @Override
+    public long loadTodoListVersion() {
+        return listVersion.get();
+    }
+    
+    @Override
+    public void streamAllTodos(Consumer<Todo> consumer) {
+        todos.values().forEach(todo -> consumer.accept(copy(todo)));
+    }
+    
+    @Override
+    public Todo saveTodo(Todo todo) {
+        Long id = todo.getId() != null ? todo.getId() : sequence.getAndIncrement() % capacity + 1;
+        Long version = todo.getId() != null && todo.getVersion() != null ? todo.getVersion() + 1 : 0L;
+        Todo saved = new Todo(id, todo.getTitle(), todo.getDescription(), todo.isCompleted(),
+                todo.getCreatedAt(), todo.getUpdatedAt(), version);
+        todos.put(id, saved);
+        listVersion.incrementAndGet();
+        return copy(saved);
+    }
+    
+    @Override
+    public List<Todo> saveAllTodos(List<Todo> todos) {
+        List<Todo> result = new ArrayList<>(todos.size());
+        todos.forEach(todo -> result.add(saveTodo(todo)));
+        return result;
+    }
+    
+    @Override
+    public Optional<Todo> markTodoCompleted(Long id, LocalDateTime completedAt) {
+        Todo completed = todos.computeIfPresent(id, (key, todo) -> new Todo(key, todo.getTitle(),
+                todo.getDescription(), true, todo.getCreatedAt(), completedAt, todo.getVersion() + 1));
+        if (completed == null) {
+            return Optional.empty();
+        }
+        listVersion.incrementAndGet();
+        return Optional.of(copy(completed));
+    }
+    
+    @Override
+    public boolean deleteTodo(Long id) {
+        boolean deleted = todos.remove(id) != null;
+        if (deleted) {
+            listVersion.incrementAndGet();
+        }
+        return deleted;
+    }
+    
+    private static Todo copy(Todo todo) {
+        return new Todo(todo.getId(), todo.getTitle(), todo.getDescription(), todo.isCompleted(),
+                todo.getCreatedAt(), todo.getUpdatedAt(), todo.getVersion());
+    }
+}
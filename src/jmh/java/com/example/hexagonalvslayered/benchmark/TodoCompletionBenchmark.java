@@ -0,0 +1,111 @@
+package com.example.hexagonalvslayered.benchmark;
+
+import com.example.hexagonalvslayered.HexagonalVsLayeredApplication;
+import com.example.hexagonalvslayered.common.ExternalNotificationService;
+import com.example.hexagonalvslayered.layered.dto.TodoDto;
+import com.example.hexagonalvslayered.layered.dto.TodoRequest;
+import com.example.hexagonalvslayered.layered.model.Todo;
+import com.example.hexagonalvslayered.layered.repository.LayeredTodoRepository;
+import com.example.hexagonalvslayered.layered.service.LayeredTodoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 레이어드 완료 처리 처리량 비교 벤치마크
+ *
+ * - notifyInTransaction: 기존 방식 (트랜잭션 안에서 외부 알림을 호출, 알림 100ms 동안 커넥션 점유)
+ * - notifyAfterCommit: LayeredTodoService.completeTodo (커밋 후 작업 큐에서 알림 전송)
+ *
+ * 커넥션 풀 크기(4)보다 많은 스레드(16)로 동시에 완료 처리를 요청해서,
+ * 커넥션 점유 시간이 처리량의 상한이 되는지 비교합니다.
+ * 알림 작업 큐가 가득 차면 요청 스레드에서 알림을 실행하므로, notifyAfterCommit의 처리량은
+ * 큐 소비 속도(알림 실행기 스레드 수 × 10/s)에 수렴하지만 커넥션 풀 크기에는 묶이지 않습니다.
+ *
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(16)
+public class TodoCompletionBenchmark {
+
+    private static final int ROWS = 1000;
+
+    private ConfigurableApplicationContext context;
+    private LayeredTodoRepository layeredTodoRepository;
+    private LayeredTodoService layeredTodoService;
+    private ExternalNotificationService notificationService;
+    private TransactionTemplate transactionTemplate;
+    private List<Long> ids;
+    private final AtomicInteger cursor = new AtomicInteger();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HexagonalVsLayeredApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "spring.datasource.hikari.maximum-pool-size=4",
+                        "async.executors.layered-notification.core-size=32",
+                        "async.executors.layered-notification.max-size=32",
+                        "logging.level.root=WARN")
+                .run();
+        layeredTodoRepository = context.getBean(LayeredTodoRepository.class);
+        layeredTodoService = context.getBean(LayeredTodoService.class);
+        notificationService = context.getBean(ExternalNotificationService.class);
+        transactionTemplate = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+
+        ids = layeredTodoService.createTodos(IntStream.range(0, ROWS)
+                        .mapToObj(i -> TodoRequest.builder().title("benchmark " + i).description("completion").build())
+                        .collect(Collectors.toList()))
+                .stream()
+                .map(TodoDto::getId)
+                .collect(Collectors.toList());
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Todo notifyInTransaction() {
+        Long id = nextId();
+        return transactionTemplate.execute(status -> {
+            Todo todo = layeredTodoRepository.completeById(id, LocalDateTime.now())
+                    .orElseThrow(() -> new RuntimeException("Todo not found with id: " + id));
+            notificationService.sendCompletionNotification(todo.getId(), todo.getTitle());
+            return todo;
+        });
+    }
+
+    @Benchmark
+    public TodoDto notifyAfterCommit() {
+        return layeredTodoService.completeTodo(nextId());
+    }
+
+    // 스레드마다 다른 행을 완료 처리해서 같은 행의 잠금 경합을 줄임
+    private Long nextId() {
+        return ids.get(Math.floorMod(cursor.getAndIncrement(), ids.size()));
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.hexagonalvslayered.benchmark;
+
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import com.example.hexagonalvslayered.hexagonal.infrastructure.codec.TodoEventBinaryCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TodoEvent 직렬화 형식 비교 벤치마크
+ * 
+ * - json*: 스프링 MVC/RestTemplate이 사용하는 것과 같은 설정의 ObjectMapper
+ * - binary*: TodoEventBinaryCodec (application/x-todo-event)
+ * 
+ * 인코딩/디코딩 처리량과 gc 프로파일러의 할당량(gc.alloc.rate.norm)을 비교합니다.
+ * 메시지 크기 비교는 TodoEventBinaryCodecTest에서 확인합니다.
+ * 
+ * 실행: ./gradlew jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TodoEventCodecBenchmark {
+    
+    private ObjectMapper objectMapper;
+    private TodoEvent event;
+    private byte[] json;
+    private byte[] binary;
+    
+    @Setup
+    public void setUp() throws IOException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        event = TodoEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType(TodoEvent.EventType.UPDATED.name())
+                .todoId(12_345L)
+                .title("Write benchmark report")
+                .description("Compare JSON and binary event encodings")
+                .completed(true)
+                .createdAt(LocalDateTime.now())
+                .updatedAt(LocalDateTime.now())
+                .build();
+        json = objectMapper.writeValueAsBytes(event);
+        binary = TodoEventBinaryCodec.encode(event);
+    }
+    
+    @Benchmark
+    public byte[] jsonEncode() throws IOException {
+        return objectMapper.writeValueAsBytes(event);
+    }
+    
+    @Benchmark
+    public TodoEvent jsonDecode() throws IOException {
+        return objectMapper.readValue(json, TodoEvent.class);
+    }
+    
+    @Benchmark
+    public byte[] binaryEncode() {
+        return TodoEventBinaryCodec.encode(event);
+    }
+    
+    @Benchmark
+    public TodoEvent binaryDecode() {
+        return TodoEventBinaryCodec.decode(binary);
+    }
+}
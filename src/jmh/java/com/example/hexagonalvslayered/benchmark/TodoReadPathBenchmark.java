@@ -0,0 +1,109 @@
+package com.example.hexagonalvslayered.benchmark;
+
+import com.example.hexagonalvslayered.HexagonalVsLayeredApplication;
+import com.example.hexagonalvslayered.hexagonal.adapter.out.persistence.TodoPersistenceAdapter;
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.layered.dto.TodoDto;
+import com.example.hexagonalvslayered.layered.dto.TodoRequest;
+import com.example.hexagonalvslayered.layered.repository.LayeredTodoRepository;
+import com.example.hexagonalvslayered.layered.service.LayeredTodoService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * 조회 경로 비교 벤치마크
+ * 
+ * - managedEntities: 기존 방식 (읽기/쓰기 트랜잭션에서 엔티티를 조회한 뒤 DTO로 변환)
+ * - layeredProjection: readOnly 트랜잭션 + DTO 프로젝션 (LayeredTodoService.getAllTodos)
+ * - hexagonalProjection: readOnly 트랜잭션 + 도메인 모델 생성자 프로젝션 (TodoPersistenceAdapter.loadAllTodos)
+ * 
+ * 실행: ./gradlew jmh (gc 프로파일러의 gc.alloc.rate.norm으로 호출당 할당량 비교)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class TodoReadPathBenchmark {
+    
+    @Param({"100", "1000"})
+    private int rows;
+    
+    private ConfigurableApplicationContext context;
+    private LayeredTodoRepository layeredTodoRepository;
+    private LayeredTodoService layeredTodoService;
+    private TodoPersistenceAdapter todoPersistenceAdapter;
+    private TransactionTemplate readWriteTransaction;
+    
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(HexagonalVsLayeredApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.jpa.show-sql=false",
+                        "hexagonal.cache.enabled=false",
+                        "logging.level.root=WARN")
+                .run();
+        layeredTodoRepository = context.getBean(LayeredTodoRepository.class);
+        layeredTodoService = context.getBean(LayeredTodoService.class);
+        todoPersistenceAdapter = context.getBean(TodoPersistenceAdapter.class);
+        readWriteTransaction = new TransactionTemplate(context.getBean(PlatformTransactionManager.class));
+        
+        layeredTodoService.createTodos(requests());
+        todoPersistenceAdapter.saveAllTodos(IntStream.range(0, rows)
+                .mapToObj(i -> Todo.builder().title("benchmark " + i).description("read path").build())
+                .collect(Collectors.toList()));
+    }
+    
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+    
+    @Benchmark
+    public List<TodoDto> managedEntities() {
+        return readWriteTransaction.execute(status -> layeredTodoRepository.findAll().stream()
+                .map(todo -> TodoDto.builder()
+                        .id(todo.getId())
+                        .title(todo.getTitle())
+                        .description(todo.getDescription())
+                        .completed(todo.isCompleted())
+                        .createdAt(todo.getCreatedAt())
+                        .updatedAt(todo.getUpdatedAt())
+                        .version(todo.getVersion())
+                        .build())
+                .collect(Collectors.toList()));
+    }
+    
+    @Benchmark
+    public List<TodoDto> layeredProjection() {
+        return layeredTodoService.getAllTodos();
+    }
+    
+    @Benchmark
+    public List<Todo> hexagonalProjection() {
+        return todoPersistenceAdapter.loadAllTodos();
+    }
+    
+    private List<TodoRequest> requests() {
+        return IntStream.range(0, rows)
+                .mapToObj(i -> TodoRequest.builder().title("benchmark " + i).description("read path").build())
+                .collect(Collectors.toList());
+    }
+}
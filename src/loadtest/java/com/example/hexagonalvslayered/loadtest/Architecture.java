@@ -0,0 +1,16 @@
+package com.example.hexagonalvslayered.loadtest;
+
+/**
+ * 부하를 줄 API (두 아키텍처는 같은 형태의 엔드포인트를 제공)
+ */
+enum Architecture {
+    
+    LAYERED("/api/layered/todos"),
+    HEXAGONAL("/api/hexagonal/todos");
+    
+    final String basePath;
+    
+    Architecture(String basePath) {
+        this.basePath = basePath;
+    }
+}
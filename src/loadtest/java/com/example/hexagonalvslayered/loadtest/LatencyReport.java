@@ -0,0 +1,110 @@
+package com.example.hexagonalvslayered.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 한 아키텍처의 연산별 응답 시간 분포 (HdrHistogram, 마이크로초 단위, 유효 숫자 3자리)
+ * 
+ * 여러 스레드에서 동시에 기록할 수 있습니다.
+ * 2xx가 아닌 응답, 전송 실패, 타임아웃도 요청 시작 시각부터의 지연 시간을 전체 분포에 함께 기록합니다.
+ * (과부하에서 가장 느린 실패 요청을 빼면 꼬리 지연 시간이 실제보다 작게 보이므로)
+ * 실패한 요청만의 분포는 별도의 오류 히스토그램에도 기록해 성공과 실패를 나눠 볼 수 있습니다.
+ */
+final class LatencyReport {
+    
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final double[] PERCENTILES = {50.0, 90.0, 99.0, 99.9, 99.99};
+    
+    private final Architecture architecture;
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, Histogram> errorHistograms = new EnumMap<>(Operation.class);
+    
+    LatencyReport(Architecture architecture) {
+        this.architecture = architecture;
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(MAX_LATENCY_MICROS, 3));
+            errorHistograms.put(operation, new ConcurrentHistogram(MAX_LATENCY_MICROS, 3));
+        }
+    }
+    
+    /**
+     * @param startNanos 요청을 보내야 했던 시각 (open 모드) 또는 실제로 보낸 시각 (closed 모드)
+     */
+    void record(Operation operation, long startNanos, boolean succeeded) {
+        long latencyMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startNanos);
+        long value = Math.min(Math.max(latencyMicros, 0), MAX_LATENCY_MICROS);
+        histograms.get(operation).recordValue(value);
+        if (!succeeded) {
+            errorHistograms.get(operation).recordValue(value);
+        }
+    }
+    
+    void print(PrintStream out, Duration elapsed) {
+        out.printf(Locale.ROOT, "%n[%s]%n", architecture);
+        out.printf(Locale.ROOT, "%-9s %9s %7s %9s %9s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50(ms)", "p90(ms)", "p99(ms)", "p99.9(ms)", "p99.99(ms)", "max(ms)");
+        double seconds = Math.max(elapsed.toNanos() / 1e9, 1e-9);
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = histograms.get(operation);
+            Histogram errorHistogram = errorHistograms.get(operation);
+            long count = histogram.getTotalCount();
+            if (count == 0) {
+                continue;
+            }
+            long errorCount = errorHistogram.getTotalCount();
+            out.println(line(operation.name(), histogram, errorCount, count / seconds));
+            // 실패한 요청만의 지연 시간 (빠르게 거절된 것인지, 타임아웃까지 기다린 것인지 구분)
+            if (errorCount > 0) {
+                out.println(line("  errors", errorHistogram, errorCount, errorCount / seconds));
+            }
+        }
+    }
+    
+    private static String line(String label, Histogram histogram, long errorCount, double rate) {
+        StringBuilder line = new StringBuilder(String.format(Locale.ROOT, "%-9s %9d %7d %9.1f",
+                label, histogram.getTotalCount(), errorCount, rate));
+        for (double percentile : PERCENTILES) {
+            line.append(String.format(Locale.ROOT, " %9.2f", millis(histogram.getValueAtPercentile(percentile))));
+        }
+        line.append(String.format(Locale.ROOT, " %9.2f", millis(histogram.getMaxValue())));
+        return line.toString();
+    }
+    
+    /**
+     * 연산별 전체 백분위 분포를 {아키텍처}-{연산}.hgrm 파일로, 실패한 요청의 분포를 {아키텍처}-{연산}-errors.hgrm 파일로
+     * 저장합니다. (HdrHistogram 플로터로 그래프를 그릴 수 있음)
+     */
+    void writeDistributions(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        for (Operation operation : Operation.values()) {
+            String prefix = architecture.name().toLowerCase(Locale.ROOT) + "-" + operation.name().toLowerCase(Locale.ROOT);
+            writeDistribution(histograms.get(operation), directory.resolve(prefix + ".hgrm"));
+            writeDistribution(errorHistograms.get(operation), directory.resolve(prefix + "-errors.hgrm"));
+        }
+    }
+    
+    private static void writeDistribution(Histogram histogram, Path file) throws IOException {
+        if (histogram.getTotalCount() == 0) {
+            return;
+        }
+        try (PrintStream out = new PrintStream(Files.newOutputStream(file))) {
+            // 마이크로초로 기록했으므로 1000으로 나눠 밀리초 단위로 출력
+            histogram.outputPercentileDistribution(out, 1000.0);
+        }
+    }
+    
+    private static double millis(long micros) {
+        return micros / 1000.0;
+    }
+}
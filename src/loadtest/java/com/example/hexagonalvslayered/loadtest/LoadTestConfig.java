@@ -0,0 +1,123 @@
+package com.example.hexagonalvslayered.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정 (--이름=값 형식의 인자로 지정)
+ * 
+ * - base-url: 대상 애플리케이션 주소 (기본 http://localhost:8080)
+ * - mode: open(일정 도착률) 또는 closed(고정 사용자 수) (기본 open)
+ * - rate: open 모드의 초당 요청 수 (기본 200)
+ * - max-in-flight: open 모드에서 동시에 진행 중인 요청의 상한 (기본 1000)
+ * - users: closed 모드의 동시 사용자 수 (기본 32)
+ * - think-time: closed 모드에서 응답 후 다음 요청까지 대기 시간 (기본 0ms)
+ * - mix: 연산 비율 read:write:complete (기본 70:20:10)
+ * - architectures: 측정할 아키텍처 (기본 layered,hexagonal, 차례로 측정)
+ * - duration, warmup: 측정 시간과 측정 전 워밍업 시간 (기본 60s, 10s)
+ * - seed-rows: 측정 전에 만들어 둘 Todo 수 (기본 1000)
+ * - output-dir: 백분위 분포(.hgrm) 파일을 저장할 디렉터리 (기본 build/loadtest)
+ */
+final class LoadTestConfig {
+    
+    enum Mode {
+        OPEN,
+        CLOSED
+    }
+    
+    final String baseUrl;
+    final Mode mode;
+    final int rate;
+    final int maxInFlight;
+    final int users;
+    final Duration thinkTime;
+    final WorkloadMix mix;
+    final List<Architecture> architectures;
+    final Duration duration;
+    final Duration warmup;
+    final int seedRows;
+    final Path outputDir;
+    
+    private LoadTestConfig(Map<String, String> options) {
+        this.baseUrl = stripTrailingSlash(options.getOrDefault("base-url", "http://localhost:8080"));
+        this.mode = Mode.valueOf(options.getOrDefault("mode", "open").toUpperCase(Locale.ROOT));
+        this.rate = positive("rate", Integer.parseInt(options.getOrDefault("rate", "200")));
+        this.maxInFlight = positive("max-in-flight", Integer.parseInt(options.getOrDefault("max-in-flight", "1000")));
+        this.users = positive("users", Integer.parseInt(options.getOrDefault("users", "32")));
+        this.thinkTime = parseDuration(options.getOrDefault("think-time", "0ms"));
+        this.mix = WorkloadMix.parse(options.getOrDefault("mix", "70:20:10"));
+        this.architectures = parseArchitectures(options.getOrDefault("architectures", "layered,hexagonal"));
+        this.duration = parseDuration(options.getOrDefault("duration", "60s"));
+        this.warmup = parseDuration(options.getOrDefault("warmup", "10s"));
+        this.seedRows = positive("seed-rows", Integer.parseInt(options.getOrDefault("seed-rows", "1000")));
+        this.outputDir = Path.of(options.getOrDefault("output-dir", "build/loadtest"));
+    }
+    
+    /**
+     * @throws IllegalArgumentException 인자 형식이 맞지 않거나 알 수 없는 옵션인 경우
+     */
+    static LoadTestConfig parse(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Expected --name=value but got: " + arg);
+            }
+            int separator = arg.indexOf('=');
+            options.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        List<String> known = List.of("base-url", "mode", "rate", "max-in-flight", "users", "think-time", "mix",
+                "architectures", "duration", "warmup", "seed-rows", "output-dir");
+        for (String name : options.keySet()) {
+            if (!known.contains(name)) {
+                throw new IllegalArgumentException("Unknown option: --" + name);
+            }
+        }
+        return new LoadTestConfig(options);
+    }
+    
+    String describe() {
+        String load = mode == Mode.OPEN
+                ? "open loop, " + rate + " req/s (max in-flight " + maxInFlight + ")"
+                : "closed loop, " + users + " users (think time " + thinkTime.toMillis() + "ms)";
+        return load + ", mix " + mix + ", warmup " + warmup.toSeconds() + "s, duration " + duration.toSeconds() + "s";
+    }
+    
+    /**
+     * 30s, 500ms, 2m 형식의 시간을 변환합니다.
+     */
+    static Duration parseDuration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        } else if (text.endsWith("s")) {
+            return Duration.ofSeconds(Long.parseLong(text.substring(0, text.length() - 1)));
+        } else if (text.endsWith("m")) {
+            return Duration.ofMinutes(Long.parseLong(text.substring(0, text.length() - 1)));
+        }
+        throw new IllegalArgumentException("Unsupported duration: " + value + " (use ms, s or m)");
+    }
+    
+    private static List<Architecture> parseArchitectures(String value) {
+        List<Architecture> architectures = new ArrayList<>();
+        for (String name : value.split(",")) {
+            architectures.add(Architecture.valueOf(name.trim().toUpperCase(Locale.ROOT)));
+        }
+        return architectures;
+    }
+    
+    private static int positive(String name, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException("--" + name + " must be positive: " + value);
+        }
+        return value;
+    }
+    
+    private static String stripTrailingSlash(String url) {
+        return url.endsWith("/") ? url.substring(0, url.length() - 1) : url;
+    }
+}
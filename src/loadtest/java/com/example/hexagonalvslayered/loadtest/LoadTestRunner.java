@@ -0,0 +1,184 @@
+package com.example.hexagonalvslayered.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 레이어드/헥사고날 Todo API에 HTTP 부하를 주고 연산별 응답 시간 백분위를 출력하는 부하 생성기
+ * 
+ * 실행 중인 애플리케이션(./gradlew bootRun)을 대상으로 ./gradlew loadTest 로 실행합니다.
+ * 아키텍처마다 seed-rows 개의 Todo를 만든 뒤 워밍업과 측정을 차례로 진행합니다. (두 API에 동시에 부하를 주지 않음)
+ * 
+ * 1. open 모드: 요청마다 보내야 할 시각(시작 + i / rate)을 미리 정하고, 지연 시간을 그 시각부터 잽니다.
+ *    서버가 느려져도 도착률이 줄지 않으므로, 응답을 기다리느라 요청을 늦게 보내서 지연 시간이 작게 측정되는
+ *    coordinated omission이 생기지 않습니다. (max-in-flight에 걸려 늦게 보낸 요청도 예정 시각부터 측정)
+ * 2. closed 모드: users 개의 스레드가 응답을 받으면 think-time 후 다음 요청을 보냅니다.
+ *    서버가 느려지면 도착률도 함께 줄어드므로, 용량 한계를 찾을 때는 open 모드 결과와 함께 봐야 합니다.
+ */
+public final class LoadTestRunner {
+    
+    private static final Pattern ID_PATTERN = Pattern.compile("\"id\"\\s*:\\s*(\\d+)");
+    private static final int SEED_BATCH_SIZE = 500;
+    
+    private final LoadTestConfig config;
+    private final HttpClient httpClient;
+    
+    private LoadTestRunner(LoadTestConfig config) {
+        this.config = config;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+    
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.parse(args);
+        System.out.println("Load test against " + config.baseUrl + ": " + config.describe());
+        new LoadTestRunner(config).run();
+    }
+    
+    private void run() throws IOException, InterruptedException {
+        for (Architecture architecture : config.architectures) {
+            long[] ids = seed(architecture);
+            
+            // 워밍업 결과는 버림 (JIT 컴파일, 커넥션 풀 준비)
+            runLoad(architecture, ids, config.warmup, new LatencyReport(architecture));
+            
+            LatencyReport report = new LatencyReport(architecture);
+            long start = System.nanoTime();
+            runLoad(architecture, ids, config.duration, report);
+            report.print(System.out, Duration.ofNanos(System.nanoTime() - start));
+            report.writeDistributions(config.outputDir);
+        }
+        System.out.println("\nPercentile distributions written to " + config.outputDir.toAbsolutePath());
+    }
+    
+    private void runLoad(Architecture architecture, long[] ids, Duration duration, LatencyReport report)
+            throws InterruptedException {
+        if (duration.isZero()) {
+            return;
+        }
+        if (config.mode == LoadTestConfig.Mode.OPEN) {
+            runOpenLoop(architecture, ids, duration, report);
+        } else {
+            runClosedLoop(architecture, ids, duration, report);
+        }
+    }
+    
+    private void runOpenLoop(Architecture architecture, long[] ids, Duration duration, LatencyReport report) {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / config.rate;
+        long start = System.nanoTime();
+        long end = start + duration.toNanos();
+        Semaphore inFlight = new Semaphore(config.maxInFlight);
+        
+        for (long i = 0; ; i++) {
+            long intendedStart = start + i * intervalNanos;
+            if (intendedStart >= end) {
+                break;
+            }
+            parkUntil(intendedStart);
+            Operation operation = config.mix.next();
+            HttpRequest request = operation.toRequest(config.baseUrl, architecture, randomId(ids));
+            inFlight.acquireUninterruptibly();
+            httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .whenComplete((response, error) -> {
+                        inFlight.release();
+                        report.record(operation, intendedStart, error == null && isSuccess(response));
+                    });
+        }
+        // 남은 응답을 모두 기다림
+        inFlight.acquireUninterruptibly(config.maxInFlight);
+        inFlight.release(config.maxInFlight);
+    }
+    
+    private void runClosedLoop(Architecture architecture, long[] ids, Duration duration, LatencyReport report)
+            throws InterruptedException {
+        long end = System.nanoTime() + duration.toNanos();
+        ExecutorService users = Executors.newFixedThreadPool(config.users);
+        for (int user = 0; user < config.users; user++) {
+            users.execute(() -> {
+                while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                    Operation operation = config.mix.next();
+                    HttpRequest request = operation.toRequest(config.baseUrl, architecture, randomId(ids));
+                    long sentAt = System.nanoTime();
+                    boolean succeeded;
+                    try {
+                        succeeded = isSuccess(httpClient.send(request, HttpResponse.BodyHandlers.discarding()));
+                    } catch (IOException e) {
+                        succeeded = false;
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    report.record(operation, sentAt, succeeded);
+                    if (!config.thinkTime.isZero()) {
+                        LockSupport.parkNanos(config.thinkTime.toNanos());
+                    }
+                }
+            });
+        }
+        users.shutdown();
+        if (!users.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+            users.shutdownNow();
+        }
+    }
+    
+    /**
+     * 배치 생성 API로 Todo를 만들고 ID 목록을 반환합니다.
+     */
+    private long[] seed(Architecture architecture) throws IOException, InterruptedException {
+        List<Long> ids = new ArrayList<>(config.seedRows);
+        for (int created = 0; created < config.seedRows; created += SEED_BATCH_SIZE) {
+            int size = Math.min(SEED_BATCH_SIZE, config.seedRows - created);
+            StringBuilder body = new StringBuilder("[");
+            for (int i = 0; i < size; i++) {
+                body.append(i == 0 ? "" : ",")
+                        .append("{\"title\":\"seed ").append(created + i).append("\",\"description\":\"load test\"}");
+            }
+            body.append(']');
+            
+            HttpRequest request = HttpRequest.newBuilder(URI.create(config.baseUrl + architecture.basePath + "/batch"))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body.toString()))
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            if (!isSuccess(response)) {
+                throw new IllegalStateException("Seeding " + architecture + " failed with status " + response.statusCode());
+            }
+            Matcher matcher = ID_PATTERN.matcher(response.body());
+            while (matcher.find()) {
+                ids.add(Long.parseLong(matcher.group(1)));
+            }
+        }
+        return ids.stream().mapToLong(Long::longValue).toArray();
+    }
+    
+    private static long randomId(long[] ids) {
+        return ids[ThreadLocalRandom.current().nextInt(ids.length)];
+    }
+    
+    private static boolean isSuccess(HttpResponse<?> response) {
+        return response.statusCode() / 100 == 2;
+    }
+    
+    private static void parkUntil(long deadlineNanos) {
+        long remaining;
+        while ((remaining = deadlineNanos - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+    }
+}
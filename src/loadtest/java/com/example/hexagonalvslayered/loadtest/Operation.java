@@ -0,0 +1,35 @@
+package com.example.hexagonalvslayered.loadtest;
+
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.time.Duration;
+
+/**
+ * 부하 테스트에서 실행하는 연산과 해당 HTTP 요청
+ * 
+ * - READ: GET {basePath}/{id}
+ * - WRITE: POST {basePath} (새 Todo 생성)
+ * - COMPLETE: PATCH {basePath}/{id}/complete
+ */
+enum Operation {
+    
+    READ,
+    WRITE,
+    COMPLETE;
+    
+    private static final String CREATE_BODY = "{\"title\":\"load test\",\"description\":\"generated by loadTest\"}";
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    
+    HttpRequest toRequest(String baseUrl, Architecture architecture, long id) {
+        String base = baseUrl + architecture.basePath;
+        HttpRequest.Builder builder = switch (this) {
+            case READ -> HttpRequest.newBuilder(URI.create(base + "/" + id)).GET();
+            case WRITE -> HttpRequest.newBuilder(URI.create(base))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(CREATE_BODY));
+            case COMPLETE -> HttpRequest.newBuilder(URI.create(base + "/" + id + "/complete"))
+                    .method("PATCH", HttpRequest.BodyPublishers.noBody());
+        };
+        return builder.timeout(REQUEST_TIMEOUT).build();
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.hexagonalvslayered.loadtest;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * read:write:complete 비율에 따라 다음 연산을 무작위로 고릅니다.
+ */
+final class WorkloadMix {
+    
+    private final int read;
+    private final int write;
+    private final int complete;
+    
+    private WorkloadMix(int read, int write, int complete) {
+        if (read < 0 || write < 0 || complete < 0 || read + write + complete == 0) {
+            throw new IllegalArgumentException("Invalid mix: " + read + ":" + write + ":" + complete);
+        }
+        this.read = read;
+        this.write = write;
+        this.complete = complete;
+    }
+    
+    /**
+     * "70:20:10" 형식의 비율을 변환합니다. (합이 100일 필요는 없음)
+     */
+    static WorkloadMix parse(String value) {
+        String[] parts = value.split(":");
+        if (parts.length != 3) {
+            throw new IllegalArgumentException("Expected read:write:complete but got: " + value);
+        }
+        return new WorkloadMix(Integer.parseInt(parts[0].trim()), Integer.parseInt(parts[1].trim()),
+                Integer.parseInt(parts[2].trim()));
+    }
+    
+    Operation next() {
+        int pick = ThreadLocalRandom.current().nextInt(read + write + complete);
+        if (pick < read) {
+            return Operation.READ;
+        }
+        return pick < read + write ? Operation.WRITE : Operation.COMPLETE;
+    }
+    
+    @Override
+    public String toString() {
+        return read + ":" + write + ":" + complete;
+    }
+}
@@ -0,0 +1,76 @@
+package com.example.hexagonalvslayered.common;
+
+import java.time.Duration;
+
+/**
+ * AIMD(가산 증가, 승산 감소) 방식으로 동시 실행 한도를 조정하는 리미터입니다.
+ *
+ * 1. 진행 중인 호출 수가 한도에 도달하면 새 호출을 즉시 거부 (대기하지 않음)
+ * 2. 호출이 latency-threshold 안에 성공하고 한도의 절반 이상을 사용 중이었다면 한도를 1 증가
+ * 3. 호출이 실패하거나 latency-threshold보다 오래 걸리면 한도에 backoff-ratio를 곱해 줄임
+ *
+ * 외부 서비스가 느려지면 한도가 빠르게 줄어들어 스레드가 쌓이기 전에 요청을 버리고,
+ * 회복되면 한도가 천천히 다시 늘어납니다.
+ */
+public class AimdConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+
+    private int limit;
+    private int inFlight;
+
+    public AimdConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit,
+                                  double backoffRatio, Duration latencyThreshold) {
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.backoffRatio = backoffRatio;
+        this.latencyThresholdNanos = latencyThreshold.toNanos();
+        this.limit = Math.max(minLimit, Math.min(initialLimit, maxLimit));
+    }
+
+    /**
+     * 한도에 여유가 있으면 true를 반환합니다. 허용된 호출은 반드시 onSample 또는 release를 호출해야 합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * 호출 결과로 한도를 조정합니다.
+     *
+     * @param latencyNanos 호출에 걸린 시간
+     * @param failed 호출 실패 여부
+     */
+    public synchronized void onSample(long latencyNanos, boolean failed) {
+        int inFlightBefore = inFlight;
+        inFlight--;
+        if (failed || latencyNanos > latencyThresholdNanos) {
+            limit = Math.max(minLimit, (int) (limit * backoffRatio));
+        } else if (inFlightBefore * 2 >= limit) {
+            // 한도를 충분히 사용하고 있을 때만 늘림 (부하가 적을 때 한도가 무한히 커지지 않도록)
+            limit = Math.min(maxLimit, limit + 1);
+        }
+    }
+
+    /**
+     * 호출하지 않고 자리를 반환합니다. (한도를 조정하지 않음)
+     */
+    public synchronized void release() {
+        inFlight--;
+    }
+
+    public synchronized int getLimit() {
+        return limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
@@ -0,0 +1,130 @@
+package com.example.hexagonalvslayered.common;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 실패율과 느린 호출 비율을 기준으로 동작하는 서킷 브레이커입니다.
+ *
+ * 1. CLOSED: 최근 window-size 개 호출 중 실패하거나 slow-call-threshold보다 오래 걸린 호출의 비율이
+ *    failure-rate-threshold 이상이면 OPEN으로 전환 (최소 minimum-calls 개가 기록된 뒤부터 판단)
+ * 2. OPEN: open-duration 동안 모든 호출을 즉시 거부
+ * 3. HALF_OPEN: half-open-calls 개의 시험 호출만 허용하고, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final double failureRateThreshold;
+    private final long slowCallThresholdNanos;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenCalls;
+    private final LongSupplier clock;
+
+    // 최근 호출 결과 (true = 실패 또는 느린 호출)
+    private final boolean[] window;
+    private int windowIndex;
+    private int recordedCalls;
+    private int badCalls;
+
+    private State state = State.CLOSED;
+    private long openedAt;
+    private int halfOpenPermits;
+    private int halfOpenSuccesses;
+
+    public CircuitBreaker(double failureRateThreshold, Duration slowCallThreshold, int windowSize,
+                          int minimumCalls, Duration openDuration, int halfOpenCalls) {
+        this(failureRateThreshold, slowCallThreshold, windowSize, minimumCalls, openDuration, halfOpenCalls,
+                System::nanoTime);
+    }
+
+    CircuitBreaker(double failureRateThreshold, Duration slowCallThreshold, int windowSize,
+                   int minimumCalls, Duration openDuration, int halfOpenCalls, LongSupplier clock) {
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallThresholdNanos = slowCallThreshold.toNanos();
+        this.window = new boolean[windowSize];
+        this.minimumCalls = Math.min(minimumCalls, windowSize);
+        this.openDurationNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.clock = clock;
+    }
+
+    /**
+     * 호출을 허용하면 true를 반환합니다. 허용된 호출은 반드시 record로 결과를 기록해야 합니다.
+     */
+    public synchronized boolean tryAcquire() {
+        if (state == State.OPEN && clock.getAsLong() - openedAt >= openDurationNanos) {
+            state = State.HALF_OPEN;
+            halfOpenPermits = halfOpenCalls;
+            halfOpenSuccesses = 0;
+        }
+        switch (state) {
+            case CLOSED:
+                return true;
+            case HALF_OPEN:
+                if (halfOpenPermits > 0) {
+                    halfOpenPermits--;
+                    return true;
+                }
+                return false;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * 허용된 호출의 결과를 기록합니다.
+     *
+     * @param latencyNanos 호출에 걸린 시간
+     * @param failed 호출 실패 여부
+     */
+    public synchronized void record(long latencyNanos, boolean failed) {
+        boolean bad = failed || latencyNanos >= slowCallThresholdNanos;
+        if (state == State.HALF_OPEN) {
+            if (bad) {
+                open();
+            } else if (++halfOpenSuccesses >= halfOpenCalls) {
+                close();
+            }
+            return;
+        }
+        if (state == State.OPEN) {
+            // OPEN으로 전환되기 전에 시작된 호출의 늦은 결과는 무시
+            return;
+        }
+        if (recordedCalls == window.length) {
+            if (window[windowIndex]) {
+                badCalls--;
+            }
+        } else {
+            recordedCalls++;
+        }
+        window[windowIndex] = bad;
+        if (bad) {
+            badCalls++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+        if (recordedCalls >= minimumCalls && badCalls >= failureRateThreshold * recordedCalls) {
+            open();
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = clock.getAsLong();
+    }
+
+    private void close() {
+        state = State.CLOSED;
+        windowIndex = 0;
+        recordedCalls = 0;
+        badCalls = 0;
+    }
+}
@@ -0,0 +1,10 @@
+package com.example.hexagonalvslayered.common;
+
+/**
+ * 완료 알림 한 건 (일괄 알림 전송용)
+ * 
+ * @param todoId Todo ID
+ * @param title Todo 제목
+ */
+public record CompletionNotification(Long todoId, String title) {
+}
@@ -1,8 +1,12 @@
 package com.example.hexagonalvslayered.common;
 
+import com.example.hexagonalvslayered.common.jfr.NotificationCallEvent;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.Collections;
+import java.util.List;
+
 /**
  * 외부 알림 서비스를 시뮬레이션하는 클래스입니다.
  * 실제 프로덕션 환경에서는 외부 API를 호출하는 코드가 들어갈 것입니다.
@@ -21,14 +25,46 @@ public class ExternalNotificationService {
     public boolean sendCompletionNotification(Long todoId, String title) {
         // 실제로는 외부 API를 호출하는 코드가 들어갈 것입니다.
         log.info("외부 알림 서비스 호출: Todo ID '{}', 제목 '{}' 완료됨", todoId, title);
+        NotificationCallEvent recording = NotificationCallEvent.start(todoId, 1);
         
         // 외부 API 호출 시뮬레이션 (지연 시간 추가)
+        boolean completed = false;
+        try {
+            Thread.sleep(100);
+            completed = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        
+        // 중단된 호출은 끝까지 수행되지 않았으므로 실패로 기록하고 반환
+        recording.finish(completed);
+        return completed;
+    }
+    
+    /**
+     * 여러 완료 알림을 한 번의 호출로 전송합니다.
+     * 호출 한 번의 지연 시간을 배치 전체가 나눠 가지므로, 건별 호출보다 처리량이 높습니다.
+     * 
+     * @param notifications 전송할 알림 목록
+     * @return 알림별 전송 성공 여부 (요청과 같은 순서)
+     */
+    public List<Boolean> sendCompletionNotifications(List<CompletionNotification> notifications) {
+        if (notifications.isEmpty()) {
+            return List.of();
+        }
+        log.info("외부 알림 서비스 일괄 호출: {}건", notifications.size());
+        NotificationCallEvent recording = NotificationCallEvent.start(null, notifications.size());
+        
+        // 외부 API 호출 시뮬레이션 (배치 크기와 무관하게 한 번의 지연 시간)
+        boolean completed = false;
         try {
             Thread.sleep(100);
+            completed = true;
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
         }
         
-        return true;
+        recording.finish(completed);
+        return Collections.nCopies(notifications.size(), completed);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,98 @@
+package com.example.hexagonalvslayered.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 항목을 짧은 시간 동안 모아 한 번에 처리하는 마이크로 배처입니다.
+ *
+ * 1. add로 들어온 항목을 버퍼에 모음
+ * 2. max-size 개가 모이거나 첫 항목 이후 linger 시간이 지나면 모인 항목을 batchHandler에 넘김
+ * 3. batchHandler는 단일 전송 스레드에서 순서대로 호출되므로 추가된 순서가 유지됨
+ *
+ * batchHandler가 던진 예외는 로그로만 남기고 다음 배치 처리를 계속합니다.
+ */
+@Slf4j
+public class MicroBatcher<T> {
+
+    private final Consumer<List<T>> batchHandler;
+    private final int maxBatchSize;
+    private final Duration linger;
+    private final ScheduledExecutorService sender;
+
+    private final Object lock = new Object();
+    private List<T> buffer = new ArrayList<>();
+    private ScheduledFuture<?> lingerTask;
+
+    public MicroBatcher(String threadNamePrefix, int maxBatchSize, Duration linger, Consumer<List<T>> batchHandler) {
+        this.batchHandler = batchHandler;
+        this.maxBatchSize = maxBatchSize;
+        this.linger = linger;
+        this.sender = Executors.newSingleThreadScheduledExecutor(new CustomizableThreadFactory(threadNamePrefix));
+    }
+
+    public void add(T item) {
+        List<T> fullBatch = null;
+        synchronized (lock) {
+            buffer.add(item);
+            if (buffer.size() >= maxBatchSize) {
+                fullBatch = drain();
+            } else if (buffer.size() == 1) {
+                lingerTask = sender.schedule(this::flush, linger.toMillis(), TimeUnit.MILLISECONDS);
+            }
+        }
+        if (fullBatch != null) {
+            List<T> batch = fullBatch;
+            sender.execute(() -> handle(batch));
+        }
+    }
+
+    /**
+     * 버퍼에 남은 항목을 처리하고 전송 스레드를 종료합니다.
+     * 마지막 처리도 전송 스레드에 맡겨 이미 대기 중인 배치 뒤에 순서대로 처리하고, 완료될 때까지 기다립니다.
+     */
+    public void shutdown() throws InterruptedException {
+        sender.execute(this::flush);
+        sender.shutdown();
+        sender.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    private void flush() {
+        List<T> batch;
+        synchronized (lock) {
+            batch = drain();
+        }
+        handle(batch);
+    }
+
+    // lock을 잡은 상태에서 호출
+    private List<T> drain() {
+        if (lingerTask != null) {
+            lingerTask.cancel(false);
+            lingerTask = null;
+        }
+        List<T> batch = buffer;
+        buffer = new ArrayList<>();
+        return batch;
+    }
+
+    private void handle(List<T> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            batchHandler.accept(batch);
+        } catch (RuntimeException e) {
+            log.error("배치 처리 실패: {}건", batch.size(), e);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.hexagonalvslayered.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 외부 알림 서비스 호출을 보호하는 서킷 브레이커 + 적응형 동시 실행 한도
+ *
+ * 두 아키텍처가 같은 외부 알림 서비스를 호출하므로 하나의 인스턴스를 공유합니다.
+ * - 레이어드: AfterCommitNotificationDispatcher
+ * - 헥사고날: ResilientNotificationAdapter (SendNotificationPort 데코레이터)
+ *
+ * 허용되지 않은 호출은 대기하지 않고 즉시 버려지며(load shedding), 호출한 쪽은 전송 실패로 처리합니다.
+ * 호출 시간은 Permit.started부터 Permit.complete까지입니다. 작업 큐에서 기다린 뒤 호출하는 쪽은
+ * 외부 호출 직전에 started를 호출해서, 큐 대기 시간이 느린 호출로 집계되지 않도록 합니다.
+ * (started를 호출하지 않으면 tryAcquire부터 측정)
+ *
+ * 메트릭:
+ * - notification.circuit.state: 0 = CLOSED, 1 = HALF_OPEN, 2 = OPEN
+ * - notification.concurrency.limit, notification.concurrency.in-flight: 현재 동시 실행 한도와 진행 중인 호출 수
+ * - notification.rejected (reason = circuit_open | concurrency_limit): 버려진 호출 수
+ * - notification.calls (outcome = success | failure): 허용된 호출의 소요 시간
+ */
+@Slf4j
+@Component
+public class NotificationResilienceGuard {
+
+    // 한도 증가 계산이 넘치지 않는 범위에서 사실상 무제한
+    private static final int UNLIMITED = Integer.MAX_VALUE / 2;
+
+    private final CircuitBreaker circuitBreaker;
+    private final AimdConcurrencyLimiter concurrencyLimiter;
+    private final Counter rejectedByCircuit;
+    private final Counter rejectedByLimit;
+    private final Timer successTimer;
+    private final Timer failureTimer;
+
+    @Autowired
+    public NotificationResilienceGuard(
+            MeterRegistry meterRegistry,
+            @Value("${notification.resilience.slow-call-threshold:500ms}") Duration slowCallThreshold,
+            @Value("${notification.resilience.circuit.failure-rate-threshold:0.5}") double failureRateThreshold,
+            @Value("${notification.resilience.circuit.window-size:50}") int windowSize,
+            @Value("${notification.resilience.circuit.minimum-calls:10}") int minimumCalls,
+            @Value("${notification.resilience.circuit.open-duration:5s}") Duration openDuration,
+            @Value("${notification.resilience.circuit.half-open-calls:3}") int halfOpenCalls,
+            @Value("${notification.resilience.limit.initial:32}") int initialLimit,
+            @Value("${notification.resilience.limit.min:1}") int minLimit,
+            @Value("${notification.resilience.limit.max:500}") int maxLimit,
+            @Value("${notification.resilience.limit.backoff-ratio:0.5}") double backoffRatio) {
+        this(new CircuitBreaker(failureRateThreshold, slowCallThreshold, windowSize, minimumCalls,
+                        openDuration, halfOpenCalls),
+                new AimdConcurrencyLimiter(initialLimit, minLimit, maxLimit, backoffRatio, slowCallThreshold),
+                meterRegistry);
+    }
+
+    public NotificationResilienceGuard(CircuitBreaker circuitBreaker, AimdConcurrencyLimiter concurrencyLimiter,
+                                       MeterRegistry meterRegistry) {
+        this.circuitBreaker = circuitBreaker;
+        this.concurrencyLimiter = concurrencyLimiter;
+        this.rejectedByCircuit = rejectedCounter(meterRegistry, "circuit_open");
+        this.rejectedByLimit = rejectedCounter(meterRegistry, "concurrency_limit");
+        this.successTimer = callTimer(meterRegistry, "success");
+        this.failureTimer = callTimer(meterRegistry, "failure");
+        Gauge.builder("notification.circuit.state", circuitBreaker, breaker -> breaker.getState().ordinal())
+                .description("Notification circuit breaker state (0 = closed, 1 = half-open, 2 = open)")
+                .register(meterRegistry);
+        Gauge.builder("notification.concurrency.limit", concurrencyLimiter, AimdConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit for notification calls")
+                .register(meterRegistry);
+        Gauge.builder("notification.concurrency.in-flight", concurrencyLimiter, AimdConcurrencyLimiter::getInFlight)
+                .description("Notification calls currently in flight")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출을 버리지 않는 가드를 만듭니다. (서킷이 열리지 않고 동시 실행 한도가 없음, 테스트와 벤치마크용)
+     */
+    public static NotificationResilienceGuard permissive(MeterRegistry meterRegistry) {
+        return new NotificationResilienceGuard(
+                new CircuitBreaker(1.0, Duration.ofDays(1), 1, Integer.MAX_VALUE, Duration.ZERO, 1),
+                new AimdConcurrencyLimiter(UNLIMITED, UNLIMITED, UNLIMITED, 1.0, Duration.ofDays(1)),
+                meterRegistry);
+    }
+
+    /**
+     * 호출이 허용되면 Permit을, 서킷이 열려 있거나 동시 실행 한도에 도달했으면 null을 반환합니다.
+     * 반환된 Permit은 호출이 끝나면 반드시 complete로 결과를 기록해야 합니다.
+     */
+    public Permit tryAcquire() {
+        // 서킷 브레이커의 HALF_OPEN 시험 호출 자리를 잃지 않도록 리미터를 먼저 확인
+        if (!concurrencyLimiter.tryAcquire()) {
+            rejectedByLimit.increment();
+            return null;
+        }
+        if (!circuitBreaker.tryAcquire()) {
+            concurrencyLimiter.release();
+            rejectedByCircuit.increment();
+            return null;
+        }
+        return new Permit(System.nanoTime());
+    }
+
+    public CircuitBreaker.State getCircuitState() {
+        return circuitBreaker.getState();
+    }
+
+    public int getConcurrencyLimit() {
+        return concurrencyLimiter.getLimit();
+    }
+
+    private static Counter rejectedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("notification.rejected")
+                .description("Notification calls shed without calling the external service")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static Timer callTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("notification.calls")
+                .description("Latency of notification calls admitted by the guard")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
+
+    /**
+     * 허용된 호출 한 건
+     */
+    public final class Permit {
+
+        private volatile long startedAt;
+        private boolean completed;
+
+        private Permit(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        /**
+         * 외부 호출을 시작하기 직전에 호출해서 측정 시작 시점을 다시 잡습니다.
+         */
+        public Permit started() {
+            startedAt = System.nanoTime();
+            return this;
+        }
+
+        /**
+         * 호출 결과를 서킷 브레이커와 리미터에 기록합니다. (두 번째 호출부터는 무시)
+         */
+        public void complete(boolean succeeded) {
+            synchronized (this) {
+                if (completed) {
+                    return;
+                }
+                completed = true;
+            }
+            long latency = System.nanoTime() - startedAt;
+            circuitBreaker.record(latency, !succeeded);
+            concurrencyLimiter.onSample(latency, !succeeded);
+            (succeeded ? successTimer : failureTimer).record(latency, TimeUnit.NANOSECONDS);
+        }
+    }
+}
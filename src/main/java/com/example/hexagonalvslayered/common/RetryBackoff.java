@@ -0,0 +1,41 @@
+package com.example.hexagonalvslayered.common;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 실패한 전송의 재시도 정책입니다. (최대 시도 횟수 + 지터를 더한 지수 백오프)
+ *
+ * n번째 실패 후 대기 시간은 min(max-backoff, initial-backoff × 2^(n-1))의 절반에 나머지 절반 범위의 무작위 값을 더한 값입니다.
+ * (지터로 여러 이벤트의 재시도가 같은 시각에 몰리지 않도록 함)
+ * max-attempts 번 시도해도 실패한 이벤트는 더 재시도하지 않고 데드 레터로 보냅니다.
+ */
+public class RetryBackoff {
+
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+
+    public RetryBackoff(int maxAttempts, Duration initialBackoff, Duration maxBackoff) {
+        this.maxAttempts = Math.max(maxAttempts, 1);
+        this.initialBackoffNanos = initialBackoff.toNanos();
+        this.maxBackoffNanos = Math.max(maxBackoff.toNanos(), initialBackoffNanos);
+    }
+
+    /**
+     * failedAttempts 번 실패한 뒤 더 시도할 수 없으면 true
+     */
+    public boolean isExhausted(int failedAttempts) {
+        return failedAttempts >= maxAttempts;
+    }
+
+    /**
+     * failedAttempts 번째 실패 후 다음 시도까지 기다릴 시간
+     */
+    public Duration delayAfter(int failedAttempts) {
+        long exponential = initialBackoffNanos << Math.min(Math.max(failedAttempts, 1) - 1, 30);
+        long capped = exponential <= 0 ? maxBackoffNanos : Math.min(exponential, maxBackoffNanos);
+        long half = capped / 2;
+        return Duration.ofNanos(half + ThreadLocalRandom.current().nextLong(capped - half + 1));
+    }
+}
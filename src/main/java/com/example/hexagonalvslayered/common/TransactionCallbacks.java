@@ -0,0 +1,69 @@
+package com.example.hexagonalvslayered.common;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 현재 트랜잭션의 종료 시점에 작업을 실행하기 위한 유틸리티입니다.
+ * 트랜잭션 동기화가 활성화되어 있지 않으면(트랜잭션 밖에서 호출되면) 작업을 즉시 실행합니다.
+ */
+@Slf4j
+public final class TransactionCallbacks {
+    
+    private TransactionCallbacks() {
+    }
+    
+    /**
+     * 트랜잭션이 커밋된 뒤에만 작업을 실행합니다. 롤백되면 실행하지 않습니다.
+     * 이미 커밋된 뒤이므로 작업이 던진 예외(실행기 거부 등)는 로그로만 남기고, 호출자에게 커밋 실패로 전달하지 않습니다.
+     */
+    public static void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    task.run();
+                } catch (RuntimeException e) {
+                    log.error("커밋 후 작업 실행 실패", e);
+                }
+            }
+        });
+    }
+    
+    /**
+     * 트랜잭션이 끝난 뒤(커밋, 롤백 모두) 작업을 실행합니다.
+     */
+    public static void afterCompletion(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                task.run();
+            }
+        });
+    }
+    
+    /**
+     * 현재 트랜잭션이 커밋되지 않도록 커밋 직전에 failure를 던집니다. (호출자가 중간에 예외를 삼키더라도 롤백됨)
+     * 트랜잭션 밖에서 호출되면 되돌릴 작업이 없으므로 아무것도 하지 않습니다.
+     */
+    public static void failBeforeCommit(RuntimeException failure) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                throw failure;
+            }
+        });
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.example.hexagonalvslayered.common;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 테이블 단위의 단조 증가 쓰기 버전입니다. 목록 조회의 ETag 계산에 사용합니다.
+ * 
+ * 1. 쓰기 트랜잭션이 커밋된 뒤에만 증가하므로, 커밋 전 데이터가 새 버전으로 캐시되지 않음
+ * 2. 조회 측은 데이터를 읽기 전에 버전을 먼저 읽어야 함 (읽는 도중 커밋된 쓰기는 다음 요청에서 반영됨)
+ * 3. 초기값을 기동 시각으로 설정해 재기동 전에 발급된 ETag와 겹치지 않도록 함
+ */
+public class WriteVersionCounter {
+    
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+    
+    public long current() {
+        return version.get();
+    }
+    
+    public void incrementAfterCommit() {
+        TransactionCallbacks.afterCommit(version::incrementAndGet);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,46 @@
+package com.example.hexagonalvslayered.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 도메인 이벤트 한 건을 EventPublisherPort로 발행하는 데 걸린 시간을 기록하는 JFR 이벤트
+ */
+@Name(DomainEventPublishEvent.NAME)
+@Label("Domain Event Publish")
+@Category({"Hexagonal vs Layered", "Domain Event"})
+@Description("Publication of a domain event through EventPublisherPort")
+@StackTrace(false)
+public class DomainEventPublishEvent extends Event {
+    
+    public static final String NAME = "com.example.hexagonalvslayered.DomainEventPublish";
+    
+    @Label("Event Type")
+    String eventType;
+    
+    @Label("Todo ID")
+    long todoId;
+    
+    @Label("Succeeded")
+    boolean succeeded;
+    
+    public static DomainEventPublishEvent start(String eventType, Long todoId) {
+        DomainEventPublishEvent event = new DomainEventPublishEvent();
+        event.eventType = eventType;
+        event.todoId = todoId == null ? 0 : todoId;
+        event.begin();
+        return event;
+    }
+    
+    public void finish(boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
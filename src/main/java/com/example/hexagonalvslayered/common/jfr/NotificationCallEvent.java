@@ -0,0 +1,47 @@
+package com.example.hexagonalvslayered.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 외부 알림 서비스 호출 한 번(건별 또는 일괄)을 기록하는 JFR 이벤트
+ */
+@Name(NotificationCallEvent.NAME)
+@Label("Notification Call")
+@Category({"Hexagonal vs Layered", "External Call"})
+@Description("Call to the external notification service")
+@StackTrace(false)
+public class NotificationCallEvent extends Event {
+    
+    public static final String NAME = "com.example.hexagonalvslayered.NotificationCall";
+    
+    @Label("Todo ID")
+    @Description("ID of the completed Todo, 0 for a batch call")
+    long todoId;
+    
+    @Label("Batch Size")
+    int batchSize;
+    
+    @Label("Succeeded")
+    boolean succeeded;
+    
+    public static NotificationCallEvent start(Long todoId, int batchSize) {
+        NotificationCallEvent event = new NotificationCallEvent();
+        event.todoId = todoId == null ? 0 : todoId;
+        event.batchSize = batchSize;
+        event.begin();
+        return event;
+    }
+    
+    public void finish(boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
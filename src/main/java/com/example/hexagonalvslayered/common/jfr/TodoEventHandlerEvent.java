@@ -0,0 +1,59 @@
+package com.example.hexagonalvslayered.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * 이벤트 리스너 핸들러 한 번의 실행을 기록하는 JFR 이벤트
+ * 
+ * 이벤트 지속 시간은 핸들러 실행 시간이고, queueTime은 비동기 실행기 큐에서 기다린 시간입니다.
+ */
+@Name(TodoEventHandlerEvent.NAME)
+@Label("Todo Event Handler")
+@Category({"Hexagonal vs Layered", "Domain Event"})
+@Description("Execution of a domain event listener on an async executor")
+@StackTrace(false)
+public class TodoEventHandlerEvent extends Event {
+    
+    public static final String NAME = "com.example.hexagonalvslayered.TodoEventHandler";
+    
+    @Label("Handler")
+    String handler;
+    
+    @Label("Event Type")
+    String eventType;
+    
+    @Label("Todo ID")
+    long todoId;
+    
+    @Label("Queue Time")
+    @Description("Time the handler waited in the executor queue before it started running")
+    @Timespan(Timespan.NANOSECONDS)
+    long queueTime;
+    
+    @Label("Succeeded")
+    boolean succeeded;
+    
+    public static TodoEventHandlerEvent start(String handler, String eventType, Long todoId, long queueNanos) {
+        TodoEventHandlerEvent event = new TodoEventHandlerEvent();
+        event.handler = handler;
+        event.eventType = eventType;
+        event.todoId = todoId == null ? 0 : todoId;
+        event.queueTime = queueNanos;
+        event.begin();
+        return event;
+    }
+    
+    public void finish(boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.hexagonalvslayered.common.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * 유스케이스(서비스 메서드) 한 번의 실행을 기록하는 JFR 이벤트 (트랜잭션 커밋 시간 포함)
+ */
+@Name(TodoUseCaseEvent.NAME)
+@Label("Todo Use Case")
+@Category({"Hexagonal vs Layered", "Use Case"})
+@Description("Execution of a Todo use case, including the surrounding transaction")
+@StackTrace(false)
+public class TodoUseCaseEvent extends Event {
+    
+    public static final String NAME = "com.example.hexagonalvslayered.TodoUseCase";
+    
+    @Label("Architecture")
+    String architecture;
+    
+    @Label("Use Case")
+    String useCase;
+    
+    @Label("Todo ID")
+    @Description("ID of the Todo the use case worked on, 0 if it did not target a single Todo")
+    long todoId;
+    
+    @Label("Succeeded")
+    boolean succeeded;
+    
+    public static TodoUseCaseEvent start(String architecture, String useCase) {
+        TodoUseCaseEvent event = new TodoUseCaseEvent();
+        event.architecture = architecture;
+        event.useCase = useCase;
+        event.begin();
+        return event;
+    }
+    
+    public void finish(Long todoId, boolean succeeded) {
+        end();
+        if (shouldCommit()) {
+            this.todoId = todoId == null ? 0 : todoId;
+            this.succeeded = succeeded;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.hexagonalvslayered.common.web;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+/**
+ * 목록/단건 조회 응답의 ETag 형식과 304 응답을 만드는 헬퍼 (두 아키텍처의 컨트롤러가 공유)
+ * 
+ * - 목록: "todos-{목록 버전}"
+ * - 단건: "todo-{id}-{행 버전}"
+ */
+public final class EntityTags {
+    
+    private EntityTags() {
+    }
+    
+    public static String forList(long listVersion) {
+        return "\"todos-" + listVersion + "\"";
+    }
+    
+    public static String forTodo(Long id, Long version) {
+        return "\"todo-" + id + "-" + version + "\"";
+    }
+    
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+    }
+}
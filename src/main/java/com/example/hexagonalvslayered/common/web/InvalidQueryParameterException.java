@@ -0,0 +1,16 @@
+package com.example.hexagonalvslayered.common.web;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+/**
+ * 목록 조회 파라미터(정렬, 조건, 페이지)가 잘못된 경우 400 응답으로 변환되는 예외
+ * 
+ * 애플리케이션 코드의 IllegalArgumentException(버그)과 구분하기 위해 요청 파라미터 검증에서만 사용합니다.
+ */
+public class InvalidQueryParameterException extends ResponseStatusException {
+    
+    public InvalidQueryParameterException(String reason) {
+        super(HttpStatus.BAD_REQUEST, reason);
+    }
+}
@@ -0,0 +1,51 @@
+package com.example.hexagonalvslayered.common.web;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.function.Consumer;
+
+/**
+ * NDJSON(한 줄에 JSON 하나) 스트리밍 응답을 만드는 헬퍼 (두 아키텍처의 내보내기 API가 공유)
+ * 
+ * source가 항목을 하나씩 전달하는 즉시 응답에 쓰므로 항목 수와 관계없이 힙 사용량이 일정합니다.
+ */
+public final class NdjsonResponses {
+    
+    private NdjsonResponses() {
+    }
+    
+    /**
+     * @param source 전달받은 consumer에 항목을 하나씩 넘겨주는 함수 (응답을 쓰는 스레드에서 호출됨)
+     */
+    public static <T> ResponseEntity<StreamingResponseBody> stream(ObjectMapper objectMapper, Class<T> type,
+                                                                   Consumer<Consumer<T>> source) {
+        ObjectWriter writer = objectMapper.writerFor(type)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        StreamingResponseBody body = outputStream -> {
+            try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+                generator.setRootValueSeparator(null);
+                source.accept(item -> {
+                    try {
+                        writer.writeValue(generator, item);
+                        generator.writeRaw('\n');
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
+    }
+}
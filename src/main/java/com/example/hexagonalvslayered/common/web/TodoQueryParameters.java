@@ -0,0 +1,68 @@
+package com.example.hexagonalvslayered.common.web;
+
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Set;
+
+/**
+ * 두 아키텍처의 Todo 목록 조회 파라미터 해석 규칙 (같은 요청이 두 API에서 같게 해석되도록 공유)
+ * 
+ * - sort: "속성" 또는 "속성,asc|desc" (속성은 id, createdAt, updatedAt 중 하나, 생략 시 id 오름차순)
+ * - 키셋 페이지(limit)는 조건/정렬 파라미터와 함께 사용할 수 없음
+ */
+public final class TodoQueryParameters {
+    
+    public static final Set<String> SORTABLE_PROPERTIES = Set.of("id", "createdAt", "updatedAt");
+    
+    private static final Set<String> FILTER_PARAMETERS =
+            Set.of("completed", "createdFrom", "createdTo", "updatedSince", "sort");
+    
+    private TodoQueryParameters() {
+    }
+    
+    /**
+     * 정렬 기준 (같은 값이면 ID 순으로 정렬하는 것은 각 저장소의 책임)
+     */
+    public record SortOrder(String property, boolean descending) {
+        
+        public static final SortOrder DEFAULT = new SortOrder("id", false);
+    }
+    
+    /**
+     * @throws InvalidQueryParameterException 지원하지 않는 속성이나 방향인 경우
+     */
+    public static SortOrder parseSort(String sort) {
+        if (sort == null) {
+            return SortOrder.DEFAULT;
+        }
+        String[] parts = sort.split(",", 2);
+        String property = parts[0].trim();
+        if (!SORTABLE_PROPERTIES.contains(property)) {
+            throw new InvalidQueryParameterException("Unsupported sort property: " + property);
+        }
+        if (parts.length == 1) {
+            return new SortOrder(property, false);
+        }
+        String direction = parts[1].trim();
+        if (direction.equalsIgnoreCase("asc")) {
+            return new SortOrder(property, false);
+        }
+        if (direction.equalsIgnoreCase("desc")) {
+            return new SortOrder(property, true);
+        }
+        throw new InvalidQueryParameterException("Unsupported sort direction: " + direction);
+    }
+    
+    /**
+     * 키셋 페이지 요청에 조건/정렬 파라미터가 섞여 있으면 거부합니다. (조건을 무시한 페이지를 반환하지 않도록)
+     * 
+     * @throws InvalidQueryParameterException 조건/정렬 파라미터가 있는 경우
+     */
+    public static void rejectFiltersWithPage(WebRequest webRequest) {
+        for (String name : FILTER_PARAMETERS) {
+            if (webRequest.getParameter(name) != null) {
+                throw new InvalidQueryParameterException("Parameter '" + name + "' cannot be combined with limit");
+            }
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.hexagonalvslayered.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 두 아키텍처의 아웃바운드 호출(헥사고날 아웃바운드 포트, 레이어드 리포지토리와 알림 디스패처)에
+ * 응답 시간과 오류 수 메트릭을 기록하는 애스펙트
+ * 
+ * - architecture.calls (Timer): architecture, component, operation, outcome(success/error) 태그
+ * - architecture.errors (Counter): architecture, component, operation, exception 태그
+ * 
+ * 1. component는 실제로 호출된 구현 클래스 이름이므로, 캐시나 장애 격리 같은 데코레이터가 있으면
+ *    데코레이터와 감싼 어댑터가 각각 기록됨 (계층별로 시간이 어디에 쓰이는지 비교 가능)
+ * 2. CompletableFuture를 반환하는 호출은 반환 시점이 아니라 완료 시점까지를 기록
+ * 3. 같은 객체 안에서 this로 호출하는 메서드는 프록시를 거치지 않으므로 기록되지 않음
+ * 4. 실패를 반환값(false)으로 알리는 전송 메서드는 success로 기록됨 (알림 실패는 notification.calls 참고)
+ * 5. 외부 알림은 두 아키텍처가 같은 ExternalNotificationService를 쓰므로 호출한 쪽에서 기록함
+ *    (헥사고날은 SendNotificationPort, 레이어드는 AfterCommitNotificationDispatcher가 넘겨받은 알림 작업이
+ *    실제로 실행된 시간을 기록하며, 작업 큐에서 기다린 시간은 제외)
+ * 
+ * 백분위 히스토그램을 함께 내보내므로 Prometheus(/actuator/prometheus)에서 histogram_quantile로
+ * 두 아키텍처의 계층별 p99 등을 비교할 수 있습니다. architecture.metrics.enabled=false이면 등록하지 않습니다.
+ */
+@Aspect
+@Component
+@ConditionalOnProperty(name = "architecture.metrics.enabled", havingValue = "true", matchIfMissing = true)
+public class ArchitectureMetricsAspect {
+    
+    private static final String BASE_PACKAGE = "com.example.hexagonalvslayered.";
+    
+    private final MeterRegistry meterRegistry;
+    private final Map<Class<?>, Map<String, CallMeters>> meters = new ConcurrentHashMap<>();
+    
+    public ArchitectureMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+    
+    @Pointcut("execution(* com.example.hexagonalvslayered.hexagonal.application.port.out.LoadTodoPort.*(..))"
+            + " || execution(* com.example.hexagonalvslayered.hexagonal.application.port.out.SaveTodoPort.*(..))"
+            + " || execution(* com.example.hexagonalvslayered.hexagonal.application.port.out.EventPublisherPort.*(..))"
+            + " || execution(* com.example.hexagonalvslayered.hexagonal.application.port.out.PublishEventPort.*(..))"
+            + " || execution(* com.example.hexagonalvslayered.hexagonal.application.port.out.SendNotificationPort.*(..))")
+    void hexagonalOutboundPort() {
+    }
+    
+    @Pointcut("target(com.example.hexagonalvslayered.layered.repository.LayeredTodoRepository)"
+            + " && execution(public * *(..)) && !execution(* java.lang.Object.*(..))")
+    void layeredOutboundCall() {
+    }
+    
+    @Pointcut("execution(* com.example.hexagonalvslayered.layered.service.AfterCommitNotificationDispatcher.dispatchAfterCommit(Runnable))"
+            + " && args(notification)")
+    void layeredNotificationDispatch(Runnable notification) {
+    }
+    
+    @Around("hexagonalOutboundPort() || layeredOutboundCall()")
+    public Object record(ProceedingJoinPoint joinPoint) throws Throwable {
+        CallMeters callMeters = callMeters(joinPoint.getTarget(), joinPoint.getSignature().getName());
+        long startedAt = System.nanoTime();
+        Object result;
+        try {
+            result = joinPoint.proceed();
+        } catch (Throwable e) {
+            callMeters.failed(System.nanoTime() - startedAt, e);
+            throw e;
+        }
+        if (result instanceof CompletionStage<?> stage) {
+            stage.whenComplete((value, failure) -> {
+                if (failure == null) {
+                    callMeters.succeeded(System.nanoTime() - startedAt);
+                } else {
+                    callMeters.failed(System.nanoTime() - startedAt, failure);
+                }
+            });
+        } else {
+            callMeters.succeeded(System.nanoTime() - startedAt);
+        }
+        return result;
+    }
+    
+    /**
+     * 디스패처는 알림 작업을 커밋 이후에 실행하므로, 넘겨받은 작업을 감싸 실제로 실행된 시간을 기록
+     * (외부 알림 서비스 보호로 버려진 알림은 실행되지 않으므로 기록되지 않음)
+     */
+    @Around("layeredNotificationDispatch(notification)")
+    public Object recordDispatchedNotification(ProceedingJoinPoint joinPoint, Runnable notification) throws Throwable {
+        CallMeters callMeters = callMeters(joinPoint.getTarget(), joinPoint.getSignature().getName());
+        Runnable timedNotification = () -> {
+            long startedAt = System.nanoTime();
+            try {
+                notification.run();
+            } catch (Throwable e) {
+                callMeters.failed(System.nanoTime() - startedAt, e);
+                throw e;
+            }
+            callMeters.succeeded(System.nanoTime() - startedAt);
+        };
+        return joinPoint.proceed(new Object[]{timedNotification});
+    }
+    
+    private CallMeters callMeters(Object target, String operation) {
+        Class<?> targetClass = target.getClass();
+        return meters.computeIfAbsent(targetClass, key -> new ConcurrentHashMap<>())
+                .computeIfAbsent(operation, key -> new CallMeters(targetClass, operation));
+    }
+    
+    /**
+     * Spring Data 리포지토리는 JDK 프록시이므로 애플리케이션 인터페이스 이름을, 그 외에는 CGLIB 프록시를 벗긴 클래스 이름을 사용
+     */
+    private static Class<?> componentClass(Class<?> targetClass) {
+        if (Proxy.isProxyClass(targetClass)) {
+            for (Class<?> candidate : targetClass.getInterfaces()) {
+                if (candidate.getName().startsWith(BASE_PACKAGE)) {
+                    return candidate;
+                }
+            }
+        }
+        return ClassUtils.getUserClass(targetClass);
+    }
+    
+    private static String architecture(Class<?> componentClass) {
+        String name = componentClass.getName();
+        if (name.startsWith(BASE_PACKAGE + "hexagonal.")) {
+            return "hexagonal";
+        }
+        if (name.startsWith(BASE_PACKAGE + "layered.")) {
+            return "layered";
+        }
+        // 두 아키텍처가 함께 사용하는 common 패키지의 클래스
+        return "common";
+    }
+    
+    private final class CallMeters {
+        
+        private final String architecture;
+        private final String component;
+        private final String operation;
+        private final Timer successTimer;
+        private final Timer errorTimer;
+        
+        private CallMeters(Class<?> targetClass, String operation) {
+            Class<?> componentClass = componentClass(targetClass);
+            this.architecture = architecture(componentClass);
+            this.component = componentClass.getSimpleName();
+            this.operation = operation;
+            this.successTimer = timer("success");
+            this.errorTimer = timer("error");
+        }
+        
+        private void succeeded(long elapsedNanos) {
+            successTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        }
+        
+        private void failed(long elapsedNanos, Throwable failure) {
+            errorTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+            // 오류 경로에서만 예외 종류별 카운터를 조회 (레지스트리가 이미 등록된 카운터를 반환)
+            Counter.builder("architecture.errors")
+                    .description("Outbound calls that threw an exception")
+                    .tag("architecture", architecture)
+                    .tag("component", component)
+                    .tag("operation", operation)
+                    .tag("exception", unwrap(failure).getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+        }
+        
+        private Throwable unwrap(Throwable failure) {
+            return failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        }
+        
+        private Timer timer(String outcome) {
+            return Timer.builder("architecture.calls")
+                    .description("Latency of outbound port, repository and external service calls")
+                    .tag("architecture", architecture)
+                    .tag("component", component)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry);
+        }
+    }
+}
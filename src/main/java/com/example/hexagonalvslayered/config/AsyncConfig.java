@@ -1,12 +1,129 @@
 package com.example.hexagonalvslayered.config;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * 비동기 이벤트 처리를 위한 설정 클래스
+ * 
+ * 이벤트 종류별로 실행기를 분리(벌크헤드)해서, 느린 알림 전송이 밀려도
+ * 조회 모델/검색 인덱스 갱신 같은 다른 이벤트 처리가 함께 지연되지 않도록 합니다.
+ * - todoCompletedEventExecutor: 완료 이벤트 (외부 알림 전송, 블로킹 호출)
+ * - todoEventExecutor: 생성/수정/삭제 이벤트 (메모리 내 갱신)
+ * - layeredNotificationExecutor: 레이어드 완료 알림 (커밋 후 실행, AfterCommitNotificationDispatcher 참고)
+ * - outboxRelayExecutor: 아웃박스 릴레이의 파티션별 전송 (OutboxRelay 참고, 릴레이가 켜진 경우에만 등록)
+ * 
+ * async.virtual-threads=true이면 풀의 작업 스레드를 가상 스레드로 만듭니다. (Java 21 이상)
+ * 큐와 max-size 한도는 그대로 적용되므로, 한도에 도달해도 작업을 제출한 스레드(커밋을 마친 요청 스레드 등)를
+ * 대기시키지 않고 플랫폼 스레드와 같은 방식으로 거부합니다.
+ * 
+ * 메트릭 (name 태그 = 실행기 이름):
+ * - executor.queued, executor.active, executor.pool.size, executor.completed
+ * - executor.rejected: 큐가 가득 차서 거부된 작업 수
+ * - executor.wait, executor.running: MonitoredTaskDecorator 참고
  */
 @Configuration
 @EnableAsync
 public class AsyncConfig {
-} 
\ No newline at end of file
+    
+    public static final String TODO_COMPLETED_EVENT_EXECUTOR = "todoCompletedEventExecutor";
+    public static final String TODO_EVENT_EXECUTOR = "todoEventExecutor";
+    public static final String LAYERED_NOTIFICATION_EXECUTOR = "layeredNotificationExecutor";
+    public static final String OUTBOX_RELAY_EXECUTOR = "outboxRelayExecutor";
+    
+    @Value("${async.virtual-threads:false}")
+    private boolean virtualThreads;
+    
+    @Bean(name = TODO_COMPLETED_EVENT_EXECUTOR)
+    public AsyncTaskExecutor todoCompletedEventExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${async.executors.todo-completed.core-size:4}") int coreSize,
+            @Value("${async.executors.todo-completed.max-size:16}") int maxSize,
+            @Value("${async.executors.todo-completed.queue-capacity:500}") int queueCapacity) {
+        return createExecutor(meterRegistry, TODO_COMPLETED_EVENT_EXECUTOR, coreSize, maxSize, queueCapacity);
+    }
+    
+    @Bean(name = TODO_EVENT_EXECUTOR)
+    public AsyncTaskExecutor todoEventExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${async.executors.todo-events.core-size:2}") int coreSize,
+            @Value("${async.executors.todo-events.max-size:4}") int maxSize,
+            @Value("${async.executors.todo-events.queue-capacity:1000}") int queueCapacity) {
+        return createExecutor(meterRegistry, TODO_EVENT_EXECUTOR, coreSize, maxSize, queueCapacity);
+    }
+    
+    @Bean(name = LAYERED_NOTIFICATION_EXECUTOR)
+    public AsyncTaskExecutor layeredNotificationExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${async.executors.layered-notification.core-size:4}") int coreSize,
+            @Value("${async.executors.layered-notification.max-size:16}") int maxSize,
+            @Value("${async.executors.layered-notification.queue-capacity:500}") int queueCapacity) {
+        return createExecutor(meterRegistry, LAYERED_NOTIFICATION_EXECUTOR, coreSize, maxSize, queueCapacity);
+    }
+    
+    @Bean(name = OUTBOX_RELAY_EXECUTOR)
+    @ConditionalOnProperty(prefix = "hexagonal.outbox", name = {"enabled", "relay.enabled"}, havingValue = "true")
+    public AsyncTaskExecutor outboxRelayExecutor(
+            MeterRegistry meterRegistry,
+            @Value("${hexagonal.outbox.parallelism:4}") int parallelism) {
+        // 한 주기에 제출되는 파티션 수는 parallelism 이하이므로 큐가 가득 차지 않음
+        return createExecutor(meterRegistry, OUTBOX_RELAY_EXECUTOR, parallelism, parallelism, parallelism);
+    }
+    
+    /**
+     * 실행기 빈을 직접 등록하면 Spring Boot의 기본 실행기가 생성되지 않으므로,
+     * 이름 없는 @Async와 Spring MVC 비동기 처리(StreamingResponseBody 등)를 위해 기본 실행기를 그대로 등록합니다.
+     */
+    @Lazy
+    @Bean(name = {
+            TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME
+    })
+    public ThreadPoolTaskExecutor applicationTaskExecutor(ThreadPoolTaskExecutorBuilder threadPoolTaskExecutorBuilder) {
+        return threadPoolTaskExecutorBuilder.build();
+    }
+    
+    private AsyncTaskExecutor createExecutor(MeterRegistry meterRegistry, String name,
+                                             int coreSize, int maxSize, int queueCapacity) {
+        MonitoredTaskDecorator taskDecorator = new MonitoredTaskDecorator(meterRegistry, name);
+        Counter rejected = Counter.builder("executor.rejected")
+                .description("Tasks rejected because the executor queue was full")
+                .tag("name", name)
+                .register(meterRegistry);
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(name + "-");
+        if (virtualThreads) {
+            executor.setThreadFactory(new VirtualThreadTaskExecutor(name + "-").getVirtualThreadFactory());
+        }
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setTaskDecorator(taskDecorator);
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            throw new RejectedExecutionException("Task rejected from " + name + " (queue full)");
+        });
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.initialize();
+        
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
+        return executor;
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.hexagonalvslayered.config;
+
+import com.example.hexagonalvslayered.common.jfr.TodoUseCaseEvent;
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.layered.dto.TodoDto;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * 두 아키텍처의 유스케이스 실행을 JFR 이벤트(TodoUseCaseEvent)로 기록하는 애스펙트
+ * 
+ * - 헥사고날: ManageTodoUseCase, GetTodoQuery 메서드
+ * - 레이어드: LayeredTodoService의 public 메서드
+ * - 목록 ETag를 만들 때 읽는 getTodoListVersion은 유스케이스가 아니므로 제외
+ * 
+ * 트랜잭션 어드바이스보다 바깥에서 실행되므로 커밋 시간까지 포함됩니다.
+ * 같은 스레드의 할당(jdk.ObjectAllocationSample)과 락 대기(jdk.JavaMonitorEnter, jdk.ThreadPark) 이벤트를
+ * 이 이벤트의 시간 구간과 겹쳐 보면 어떤 유스케이스에서 발생했는지 알 수 있습니다.
+ * 기록하지 않을 때(JFR 미실행)의 비용은 프록시 호출 한 번 정도이며, architecture.jfr.enabled=false이면 등록하지 않습니다.
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@ConditionalOnProperty(name = "architecture.jfr.enabled", havingValue = "true", matchIfMissing = true)
+public class JfrUseCaseAspect {
+    
+    /**
+     * 첫 번째 인자가 대상 Todo의 ID인 유스케이스 (두 아키텍처 공통 이름)
+     * getTodosAfter처럼 Long 인자가 Todo ID가 아닌 메서드가 있으므로 이름으로 한정
+     */
+    private static final Set<String> TODO_ID_ARGUMENT_USE_CASES =
+            Set.of("getTodoById", "updateTodo", "deleteTodo", "completeTodo");
+    
+    @Pointcut("(execution(* com.example.hexagonalvslayered.hexagonal.application.port.in.ManageTodoUseCase.*(..))"
+            + " || execution(* com.example.hexagonalvslayered.hexagonal.application.port.in.GetTodoQuery.*(..)))"
+            + " && !execution(* *..getTodoListVersion(..))")
+    void hexagonalUseCase() {
+    }
+    
+    @Pointcut("execution(public * com.example.hexagonalvslayered.layered.service.LayeredTodoService.*(..))"
+            + " && !execution(* *..getTodoListVersion(..))")
+    void layeredUseCase() {
+    }
+    
+    @Around("hexagonalUseCase()")
+    public Object recordHexagonal(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, "hexagonal");
+    }
+    
+    @Around("layeredUseCase()")
+    public Object recordLayered(ProceedingJoinPoint joinPoint) throws Throwable {
+        return record(joinPoint, "layered");
+    }
+    
+    private Object record(ProceedingJoinPoint joinPoint, String architecture) throws Throwable {
+        Object[] args = joinPoint.getArgs();
+        String useCase = joinPoint.getSignature().getName();
+        TodoUseCaseEvent event = TodoUseCaseEvent.start(architecture, useCase);
+        Object result = null;
+        boolean succeeded = false;
+        try {
+            result = joinPoint.proceed();
+            succeeded = true;
+            return result;
+        } finally {
+            event.finish(todoId(useCase, args, result), succeeded);
+        }
+    }
+    
+    /**
+     * ID를 인자로 받는 유스케이스는 인자에서, 생성처럼 Todo 하나를 반환하는 유스케이스는 결과에서 Todo ID를 가져옴
+     */
+    private static Long todoId(String useCase, Object[] args, Object result) {
+        if (TODO_ID_ARGUMENT_USE_CASES.contains(useCase) && args.length > 0 && args[0] instanceof Long id) {
+            return id;
+        }
+        if (result instanceof Todo todo) {
+            return todo.getId();
+        }
+        if (result instanceof TodoDto dto) {
+            return dto.getId();
+        }
+        return null;
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.hexagonalvslayered.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.core.task.TaskDecorator;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비동기 작업의 대기 시간과 실행 중인 작업 수를 기록하는 TaskDecorator
+ * 
+ * - executor.wait: 작업이 제출된 뒤 실행되기까지 대기한 시간
+ * - executor.running: 현재 실행 중인 작업 수 (가상 스레드 실행기처럼 스레드 풀 메트릭이 없는 경우에도 사용 가능)
+ * 
+ * 실행 중인 작업은 currentTaskWaitNanos()로 자신의 대기 시간을 조회할 수 있습니다. (JFR 이벤트 기록용)
+ */
+public class MonitoredTaskDecorator implements TaskDecorator {
+    
+    private static final ThreadLocal<long[]> CURRENT_TASK_WAIT = ThreadLocal.withInitial(() -> new long[1]);
+    
+    private final Timer waitTimer;
+    private final AtomicInteger running;
+    
+    public MonitoredTaskDecorator(MeterRegistry meterRegistry, String executorName) {
+        this.waitTimer = Timer.builder("executor.wait")
+                .description("Time tasks spent waiting before they started running")
+                .tag("name", executorName)
+                .register(meterRegistry);
+        this.running = meterRegistry.gauge("executor.running", Tags.of("name", executorName), new AtomicInteger());
+    }
+    
+    @Override
+    public Runnable decorate(Runnable task) {
+        long submittedAt = System.nanoTime();
+        return () -> {
+            long waitNanos = System.nanoTime() - submittedAt;
+            waitTimer.record(waitNanos, TimeUnit.NANOSECONDS);
+            long[] currentTaskWait = CURRENT_TASK_WAIT.get();
+            currentTaskWait[0] = waitNanos;
+            running.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                running.decrementAndGet();
+                currentTaskWait[0] = 0;
+            }
+        };
+    }
+    
+    /**
+     * 현재 스레드에서 실행 중인 작업이 큐에서 기다린 시간 (이 데코레이터를 거치지 않은 작업이면 0)
+     */
+    public static long currentTaskWaitNanos() {
+        return CURRENT_TASK_WAIT.get()[0];
+    }
+}
@@ -0,0 +1,12 @@
+package com.example.hexagonalvslayered.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업(아웃박스 릴레이 등)을 위한 설정 클래스
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
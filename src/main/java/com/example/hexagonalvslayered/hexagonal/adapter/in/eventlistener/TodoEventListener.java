@@ -1,13 +1,23 @@
 package com.example.hexagonalvslayered.hexagonal.adapter.in.eventlistener;
 
+import com.example.hexagonalvslayered.common.jfr.TodoEventHandlerEvent;
+import com.example.hexagonalvslayered.config.AsyncConfig;
+import com.example.hexagonalvslayered.config.MonitoredTaskDecorator;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.SearchTodoPort;
 import com.example.hexagonalvslayered.hexagonal.application.port.out.SendNotificationPort;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.TodoReadModelPort;
+import com.example.hexagonalvslayered.hexagonal.domain.TodoSnapshot;
+import com.example.hexagonalvslayered.hexagonal.domain.event.DomainEvent;
 import com.example.hexagonalvslayered.hexagonal.domain.event.TodoCompletedEvent;
 import com.example.hexagonalvslayered.hexagonal.domain.event.TodoCreatedEvent;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoDeletedEvent;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoUpdatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.event.EventListener;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 /**
  * 도메인 이벤트를 처리하는 이벤트 리스너
@@ -17,6 +27,11 @@ import org.springframework.stereotype.Component;
  * 2. 느슨한 결합: 발행자는 구독자에 대한 정보 없이 이벤트만 발행
  * 3. 확장성: 새로운 구독자 추가가 용이함
  * 4. 관심사 분리: 각 구독자는 자신이 관심 있는 이벤트만 처리
+ * 
+ * 모든 핸들러는 트랜잭션이 커밋된 이후에 실행되므로(트랜잭션 밖에서 발행된 경우 즉시 실행),
+ * 롤백된 변경이 알림이나 조회 모델에 반영되지 않습니다.
+ * 실행기 큐가 가득 차서 거부된 이벤트는 executor.rejected로 집계되며, 이미 끝난 커밋의 결과에는 영향을 주지 않습니다.
+ * 핸들러 실행은 실행기 큐 대기 시간과 함께 JFR 이벤트(TodoEventHandlerEvent)로 기록됩니다.
  */
 @Slf4j
 @Component
@@ -25,27 +40,105 @@ public class TodoEventListener {
     
     private final SendNotificationPort sendNotificationPort;
     
+    // 검색 인덱스는 hexagonal.search.enabled 설정이 켜진 경우에만 존재
+    private final ObjectProvider<SearchTodoPort> searchTodoPort;
+    
+    // 조회 모델은 hexagonal.read-model.enabled 설정이 켜진 경우에만 존재
+    private final ObjectProvider<TodoReadModelPort> todoReadModelPort;
+    
     /**
      * Todo 완료 이벤트를 비동기적으로 처리합니다.
+     * 알림 전송은 블로킹 호출이므로 다른 이벤트 처리와 분리된 실행기에서 실행합니다.
+     * 알림은 어댑터에서 모아서 일괄 전송되므로, 전송 결과를 기다리지 않고 실행기 스레드를 반환합니다.
      */
-    @Async
-    @EventListener
+    @Async(AsyncConfig.TODO_COMPLETED_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleTodoCompletedEvent(TodoCompletedEvent event) {
-        log.info("Todo completed event received: {}", event);
-        
-        // 알림 전송
-        sendNotificationPort.sendCompletionNotification(event.getTodoId(), event.getTitle());
+        recorded("handleTodoCompletedEvent", event, () -> {
+            log.info("Todo completed event received: {}", event);
+            
+            // 알림 전송
+            sendNotificationPort.sendCompletionNotificationAsync(event.getTodoId(), event.getTitle())
+                    .whenComplete((sent, failure) -> {
+                        if (failure != null || !Boolean.TRUE.equals(sent)) {
+                            log.warn("Completion notification failed for todo {}", event.getTodoId(), failure);
+                        }
+                    });
+        });
+    }
+    
+    /**
+     * Todo 완료 상태를 검색 인덱스와 조회 모델에 반영합니다. (알림 전송 지연과 무관하게 처리)
+     */
+    @Async(AsyncConfig.TODO_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void projectTodoCompletedEvent(TodoCompletedEvent event) {
+        recorded("projectTodoCompletedEvent", event, () -> project(event.getSnapshot()));
     }
     
     /**
      * Todo 생성 이벤트를 비동기적으로 처리합니다.
      */
-    @Async
-    @EventListener
+    @Async(AsyncConfig.TODO_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
     public void handleTodoCreatedEvent(TodoCreatedEvent event) {
-        log.info("Todo created event received: {}", event);
-        
-        // 여기에 Todo 생성 시 필요한 추가 작업을 구현할 수 있습니다.
-        // 예: 통계 업데이트, 다른 시스템에 알림 등
+        recorded("handleTodoCreatedEvent", event, () -> {
+            log.info("Todo created event received: {}", event);
+            
+            project(event.getSnapshot());
+        });
+    }
+    
+    /**
+     * Todo 수정 이벤트를 비동기적으로 처리합니다.
+     */
+    @Async(AsyncConfig.TODO_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTodoUpdatedEvent(TodoUpdatedEvent event) {
+        recorded("handleTodoUpdatedEvent", event, () -> {
+            log.info("Todo updated event received: {}", event);
+            
+            project(event.getSnapshot());
+        });
+    }
+    
+    /**
+     * Todo 삭제 이벤트를 비동기적으로 처리합니다.
+     */
+    @Async(AsyncConfig.TODO_EVENT_EXECUTOR)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleTodoDeletedEvent(TodoDeletedEvent event) {
+        recorded("handleTodoDeletedEvent", event, () -> {
+            log.info("Todo deleted event received: {}", event);
+            
+            searchTodoPort.ifAvailable(index -> index.remove(event.getTodoId()));
+            todoReadModelPort.ifAvailable(readModel -> readModel.remove(event.getTodoId()));
+        });
+    }
+    
+    /**
+     * 핸들러를 실행하고 실행 시간과 실행기 큐 대기 시간을 JFR 이벤트로 기록합니다.
+     */
+    private void recorded(String handler, DomainEvent event, Runnable body) {
+        TodoEventHandlerEvent recording = TodoEventHandlerEvent.start(handler, event.getClass().getSimpleName(),
+                event.getTodoId(), MonitoredTaskDecorator.currentTaskWaitNanos());
+        boolean succeeded = false;
+        try {
+            body.run();
+            succeeded = true;
+        } finally {
+            recording.finish(succeeded);
+        }
+    }
+    
+    /**
+     * 이벤트에 담긴 스냅샷을 검색 인덱스와 조회 모델에 반영합니다. (스냅샷 없이 생성된 이벤트는 반영하지 않음)
+     */
+    private void project(TodoSnapshot snapshot) {
+        if (snapshot == null) {
+            return;
+        }
+        searchTodoPort.ifAvailable(index -> index.index(snapshot));
+        todoReadModelPort.ifAvailable(readModel -> readModel.upsert(snapshot));
     }
-} 
\ No newline at end of file
+}
@@ -9,34 +9,70 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @Slf4j
 @RestController
 @RequestMapping("/api/events")
 @RequiredArgsConstructor
 public class EventController {
+    
+    private final EventDeduplicator eventDeduplicator;
 
+    /**
+     * 이벤트를 받아 처리합니다. 이미 받은 eventId이면 처리하지 않고 200을 반환합니다. (멱등)
+     * 처리에 실패한 이벤트는 받은 것으로 기록하지 않으므로, 송신 측이 다시 보내면 다시 처리합니다.
+     */
     @PostMapping
     public ResponseEntity<Void> receiveEvent(@RequestBody TodoEvent event) {
-        log.info("Received event via REST API: {}", event);
-        
+        log.debug("Received event via REST API: {} {}", event.getEventType(), event.getEventId());
+        handleEvent(event);
+        return ResponseEntity.ok().build();
+    }
+    
+    /**
+     * 여러 이벤트를 JSON 배열 하나로 받아 배열 순서대로 처리합니다.
+     * 이벤트별 의미(eventId, eventType, 중복 제거)는 단건 수신과 동일합니다.
+     */
+    @PostMapping("/batch")
+    public ResponseEntity<Void> receiveEvents(@RequestBody List<TodoEvent> events) {
+        log.debug("Received {} events via REST API", events.size());
+        events.forEach(this::handleEvent);
+        return ResponseEntity.ok().build();
+    }
+    
+    private void handleEvent(TodoEvent event) {
+        if (!eventDeduplicator.markIfFirstSeen(event.getEventId())) {
+            log.debug("Duplicate event ignored: {}", event.getEventId());
+            return;
+        }
+        try {
+            processEvent(event);
+        } catch (RuntimeException e) {
+            eventDeduplicator.forget(event.getEventId());
+            throw e;
+        }
+    }
+    
+    private void processEvent(TodoEvent event) {
         // 이벤트 타입에 따라 다른 처리 로직을 구현할 수 있습니다.
-        switch (TodoEvent.EventType.valueOf(event.getEventType())) {
-            case CREATED:
+        // (문자열 switch는 알 수 없는 타입에서 예외 없이 default로 처리됨)
+        String eventType = event.getEventType() != null ? event.getEventType() : "";
+        switch (eventType) {
+            case "CREATED":
                 log.info("Todo created: {}", event.getTitle());
                 break;
-            case UPDATED:
+            case "UPDATED":
                 log.info("Todo updated: {}", event.getTitle());
                 break;
-            case DELETED:
+            case "DELETED":
                 log.info("Todo deleted: {}", event.getTodoId());
                 break;
-            case COMPLETED:
+            case "COMPLETED":
                 log.info("Todo completed: {}", event.getTitle());
                 break;
             default:
                 log.warn("Unknown event type: {}", event.getEventType());
         }
-        
-        return ResponseEntity.ok().build();
     }
 } 
\ No newline at end of file
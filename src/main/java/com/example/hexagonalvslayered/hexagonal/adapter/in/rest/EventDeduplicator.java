@@ -0,0 +1,106 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.in.rest;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * 수신한 이벤트의 eventId를 기억해서 재전송된 이벤트를 걸러내는 중복 제거기
+ * 
+ * 1. eventId를 세대(generation) 단위의 동시성 집합에 기록하고, 현재 세대와 직전 세대만 유지
+ * 2. 세대는 window 시간이 지나거나 max-entries 개가 차면 교체되며, 직전 세대는 버려짐
+ *    → 한 eventId는 최소 window 동안(또는 그 사이 max-entries 개가 들어오기 전까지) 기억되고,
+ *      메모리는 최대 2 × max-entries 개로 제한됨
+ * 3. 조회와 기록은 ConcurrentHashMap 연산 한두 번(O(1))이며 잠금을 잡지 않음 (세대 교체 시에만 잠금)
+ * 
+ * 송신 측(아웃박스 릴레이, 재시도 스케줄러)은 최소 한 번 전달하므로, 수신 측에서 이 집합으로 중복 처리를 막습니다.
+ * 처리에 실패한 이벤트는 forget으로 기록을 지워서, 송신 측이 다시 보낸 이벤트가 중복으로 버려지지 않도록 합니다.
+ * 세대 교체와 같은 eventId의 동시 수신이 겹치는 드문 경우에는 중복이 한 번 통과할 수 있습니다.
+ */
+@Component
+public class EventDeduplicator {
+    
+    private static final class Generation {
+        private final Set<String> eventIds = ConcurrentHashMap.newKeySet();
+        private final long startedAt;
+    
+        private Generation(long startedAt) {
+            this.startedAt = startedAt;
+        }
+    }
+    
+    private final long windowNanos;
+    private final int maxEntriesPerGeneration;
+    private final LongSupplier clock;
+    private final LongAdder duplicateCount = new LongAdder();
+    
+    private volatile Generation current;
+    private volatile Generation previous;
+    
+    public EventDeduplicator(@Value("${hexagonal.events.dedup.window:5m}") Duration window,
+                             @Value("${hexagonal.events.dedup.max-entries:500000}") int maxEntriesPerGeneration) {
+        this(window, maxEntriesPerGeneration, System::nanoTime);
+    }
+    
+    EventDeduplicator(Duration window, int maxEntriesPerGeneration, LongSupplier clock) {
+        this.windowNanos = window.toNanos();
+        this.maxEntriesPerGeneration = maxEntriesPerGeneration;
+        this.clock = clock;
+        this.current = new Generation(clock.getAsLong());
+        this.previous = new Generation(clock.getAsLong());
+    }
+    
+    /**
+     * eventId를 처음 받았으면 기록하고 true를, 이미 받은 eventId이면 false를 반환합니다.
+     * eventId가 없는 이벤트는 중복 여부를 알 수 없으므로 항상 true를 반환합니다.
+     */
+    public boolean markIfFirstSeen(String eventId) {
+        if (eventId == null) {
+            return true;
+        }
+        Generation generation = currentGeneration();
+        if (previous.eventIds.contains(eventId) || !generation.eventIds.add(eventId)) {
+            duplicateCount.increment();
+            return false;
+        }
+        return true;
+    }
+    
+    /**
+     * markIfFirstSeen으로 기록한 eventId를 지웁니다. (처리에 실패해서 재전송을 다시 받아야 하는 경우)
+     */
+    public void forget(String eventId) {
+        if (eventId == null) {
+            return;
+        }
+        current.eventIds.remove(eventId);
+        previous.eventIds.remove(eventId);
+    }
+    
+    /**
+     * 지금까지 걸러낸 중복 이벤트 수
+     */
+    public long getDuplicateCount() {
+        return duplicateCount.sum();
+    }
+    
+    private Generation currentGeneration() {
+        Generation generation = current;
+        long now = clock.getAsLong();
+        if (now - generation.startedAt < windowNanos && generation.eventIds.size() < maxEntriesPerGeneration) {
+            return generation;
+        }
+        synchronized (this) {
+            if (current == generation) {
+                previous = generation;
+                current = new Generation(now);
+            }
+            return current;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.in.web;
+
+import com.example.hexagonalvslayered.hexagonal.application.port.in.ReplayDeadLetterEventsUseCase;
+import com.example.hexagonalvslayered.hexagonal.application.port.in.ReplayDeadLetterEventsUseCase.ReplayResult;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/hexagonal/events/dead-letters")
+@RequiredArgsConstructor
+public class DeadLetterEventController {
+    
+    private final ReplayDeadLetterEventsUseCase replayDeadLetterEventsUseCase;
+    
+    /**
+     * 데드 레터 이벤트를 저장된 순서대로 최대 limit 개(최대 1000개) 다시 전송합니다.
+     */
+    @PostMapping("/replay")
+    public ResponseEntity<ReplayResult> replayDeadLetters(@RequestParam(defaultValue = "100") int limit) {
+        return ResponseEntity.ok(replayDeadLetterEventsUseCase.replayDeadLetters(limit));
+    }
+}
@@ -1,13 +1,25 @@
 package com.example.hexagonalvslayered.hexagonal.adapter.in.web;
 
+import com.example.hexagonalvslayered.common.web.EntityTags;
+import com.example.hexagonalvslayered.common.web.NdjsonResponses;
+import com.example.hexagonalvslayered.common.web.TodoQueryParameters;
 import com.example.hexagonalvslayered.hexagonal.application.port.in.GetTodoQuery;
 import com.example.hexagonalvslayered.hexagonal.application.port.in.ManageTodoUseCase;
+import com.example.hexagonalvslayered.hexagonal.application.port.in.SearchTodoQuery;
 import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.hexagonal.domain.TodoFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -18,20 +30,95 @@ public class HexagonalTodoController {
     
     private final GetTodoQuery getTodoQuery;
     private final ManageTodoUseCase manageTodoUseCase;
+    // 검색은 hexagonal.search.enabled 설정이 켜진 경우에만 존재
+    private final ObjectProvider<SearchTodoQuery> searchTodoQuery;
+    private final ObjectMapper objectMapper;
     
+    /**
+     * Todo 목록을 조회합니다. 조건 파라미터가 있으면 서버에서 필터링/정렬한 결과(최대 1000개)를 반환합니다.
+     *
+     * @param sort 정렬 기준 (id, createdAt, updatedAt 중 하나, 예: createdAt,desc, 형식은 TodoQueryParameters 참고)
+     */
     @GetMapping
-    public ResponseEntity<List<TodoDto>> getAllTodos() {
-        List<Todo> todos = getTodoQuery.getAllTodos();
+    public ResponseEntity<List<TodoDto>> getAllTodos(
+            @RequestParam(required = false) Boolean completed,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime updatedSince,
+            @RequestParam(required = false) String sort,
+            WebRequest webRequest) {
+        // 잘못된 정렬 파라미터는 304 여부와 관계없이 400으로 응답
+        boolean filtered = completed != null || createdFrom != null || createdTo != null
+                || updatedSince != null || sort != null;
+        TodoFilter filter = filtered ? toFilter(completed, createdFrom, createdTo, updatedSince, sort) : null;
+        
+        // 목록 버전은 데이터를 읽기 전에 확인 (DB 조회 없이 304 응답 가능)
+        String etag = EntityTags.forList(getTodoQuery.getTodoListVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return EntityTags.notModified(etag);
+        }
+        
+        List<Todo> todos = filtered ? getTodoQuery.getTodos(filter) : getTodoQuery.getAllTodos();
         List<TodoDto> todoDtos = todos.stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
+        return ResponseEntity.ok().eTag(etag).body(todoDtos);
+    }
+    
+    @GetMapping(params = "limit")
+    public ResponseEntity<TodoPageDto> getTodoPage(@RequestParam(required = false) Long after,
+                                                   @RequestParam int limit,
+                                                   WebRequest webRequest) {
+        TodoQueryParameters.rejectFiltersWithPage(webRequest);
+        String etag = EntityTags.forList(getTodoQuery.getTodoListVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return EntityTags.notModified(etag);
+        }
+        
+        GetTodoQuery.TodoPage page = getTodoQuery.getTodosAfter(after, limit);
+        List<TodoDto> todoDtos = page.getTodos().stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+        return ResponseEntity.ok().eTag(etag).body(new TodoPageDto(todoDtos, page.getNextCursor()));
+    }
+    
+    /**
+     * 모든 Todo를 NDJSON(한 줄에 JSON 하나)으로 스트리밍합니다.
+     * DB에서 읽는 즉시 응답에 쓰므로 행 수와 관계없이 힙 사용량이 일정합니다.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTodos() {
+        return NdjsonResponses.stream(objectMapper, TodoDto.class,
+                consumer -> getTodoQuery.exportAllTodos(todo -> consumer.accept(mapToDto(todo))));
+    }
+    
+    /**
+     * 제목과 설명에서 키워드로 검색합니다. (관련도 순, 마지막 단어는 접두어 검색, 검색이 꺼져 있으면 404)
+     */
+    @GetMapping("/search")
+    public ResponseEntity<List<TodoDto>> searchTodos(@RequestParam String q,
+                                                     @RequestParam(defaultValue = "20") int limit) {
+        SearchTodoQuery query = searchTodoQuery.getIfAvailable();
+        if (query == null) {
+            return ResponseEntity.notFound().build();
+        }
+        List<TodoDto> todoDtos = query.searchTodos(q, limit).stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
         return ResponseEntity.ok(todoDtos);
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<TodoDto> getTodoById(@PathVariable Long id) {
+    public ResponseEntity<TodoDto> getTodoById(@PathVariable Long id, WebRequest webRequest) {
         return getTodoQuery.getTodoById(id)
-                .map(todo -> ResponseEntity.ok(mapToDto(todo)))
+                .map(todo -> {
+                    // 행 버전이 같으면 JSON 직렬화 없이 304 응답
+                    String etag = EntityTags.forTodo(todo.getId(), todo.getVersion());
+                    if (webRequest.checkNotModified(etag)) {
+                        return EntityTags.<TodoDto>notModified(etag);
+                    }
+                    return ResponseEntity.ok().eTag(etag).body(mapToDto(todo));
+                })
                 .orElse(ResponseEntity.notFound().build());
     }
     
@@ -43,6 +130,17 @@ public class HexagonalTodoController {
         return new ResponseEntity<>(mapToDto(todo), HttpStatus.CREATED);
     }
     
+    @PostMapping("/batch")
+    public ResponseEntity<List<TodoDto>> createTodos(@RequestBody List<TodoRequest> requests) {
+        List<ManageTodoUseCase.CreateTodoCommand> commands = requests.stream()
+                .map(request -> new ManageTodoUseCase.CreateTodoCommand(request.getTitle(), request.getDescription()))
+                .collect(Collectors.toList());
+        List<TodoDto> todoDtos = manageTodoUseCase.createTodos(commands).stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+        return new ResponseEntity<>(todoDtos, HttpStatus.CREATED);
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<TodoDto> updateTodo(@PathVariable Long id, @RequestBody TodoRequest request) {
         ManageTodoUseCase.UpdateTodoCommand command = 
@@ -63,14 +161,28 @@ public class HexagonalTodoController {
         return ResponseEntity.ok(mapToDto(todo));
     }
     
-    private TodoDto mapToDto(Todo todo) {
-        return TodoDto.builder()
-                .id(todo.getId())
-                .title(todo.getTitle())
-                .description(todo.getDescription())
-                .completed(todo.isCompleted())
-                .createdAt(todo.getCreatedAt())
-                .updatedAt(todo.getUpdatedAt())
+    private static TodoFilter toFilter(Boolean completed, LocalDateTime createdFrom, LocalDateTime createdTo,
+                                       LocalDateTime updatedSince, String sort) {
+        TodoFilter.TodoFilterBuilder filter = TodoFilter.builder()
+                .completed(completed)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .updatedSince(updatedSince);
+        TodoQueryParameters.SortOrder sortOrder = TodoQueryParameters.parseSort(sort);
+        return filter.sortBy(TodoFilter.SortField.fromProperty(sortOrder.property()))
+                .descending(sortOrder.descending())
                 .build();
     }
+    
+    // 목록 응답에서 행마다 호출되므로 빌더 객체 없이 생성자로 바로 생성
+    private TodoDto mapToDto(Todo todo) {
+        return new TodoDto(
+                todo.getId(),
+                todo.getTitle(),
+                todo.getDescription(),
+                todo.isCompleted(),
+                todo.getCreatedAt(),
+                todo.getUpdatedAt(),
+                todo.getVersion());
+    }
 } 
\ No newline at end of file
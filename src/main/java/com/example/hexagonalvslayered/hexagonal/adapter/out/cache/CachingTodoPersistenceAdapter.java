@@ -0,0 +1,160 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.cache;
+
+import com.example.hexagonalvslayered.common.TransactionCallbacks;
+import com.example.hexagonalvslayered.hexagonal.adapter.out.persistence.TodoPersistenceAdapter;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.LoadTodoPort;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.SaveTodoPort;
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.hexagonal.domain.TodoFilter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * LoadTodoPort 앞에 위치하는 읽기 캐시 어댑터 (데코레이터)
+ * 
+ * 헥사고날 아키텍처에서는 서비스가 포트 인터페이스에만 의존하므로,
+ * 서비스 코드를 수정하지 않고 어댑터를 감싸는 것만으로 캐시를 추가할 수 있습니다.
+ * 1. 단건 조회(loadTodoById) 결과를 크기 및 TTL 기준으로 제한된 캐시에 보관
+ * 2. SaveTodoPort를 통한 쓰기(saveTodo, deleteTodo) 시 해당 항목을 무효화
+ * 3. 캐시 적중/실패/제거 횟수를 Micrometer 메트릭(cache.gets, cache.evictions)으로 노출
+ */
+@Primary
+@Component
+@ConditionalOnProperty(name = "hexagonal.cache.enabled", havingValue = "true")
+public class CachingTodoPersistenceAdapter implements LoadTodoPort, SaveTodoPort {
+    
+    private static final String CACHE_NAME = "hexagonalTodoById";
+    
+    private final TodoPersistenceAdapter delegate;
+    private final Cache<Long, Todo> cache;
+    
+    public CachingTodoPersistenceAdapter(TodoPersistenceAdapter delegate,
+                                         MeterRegistry meterRegistry,
+                                         @Value("${hexagonal.cache.maximum-size:10000}") long maximumSize,
+                                         @Value("${hexagonal.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+    
+    @Override
+    public List<Todo> loadAllTodos() {
+        return delegate.loadAllTodos();
+    }
+    
+    @Override
+    public Optional<Todo> loadTodoById(Long id) {
+        // 동일한 키에 대한 동시 미스는 한 번만 로드됨
+        Todo cached = cache.get(id, key -> delegate.loadTodoById(key)
+                .map(CachingTodoPersistenceAdapter::copyOf)
+                .orElse(null));
+        // 서비스가 조회한 도메인 객체를 변경하므로 캐시에 있는 인스턴스를 그대로 내보내지 않음
+        return Optional.ofNullable(cached).map(CachingTodoPersistenceAdapter::copyOf);
+    }
+    
+    @Override
+    public List<Todo> loadTodos(TodoFilter filter, int limit) {
+        return delegate.loadTodos(filter, limit);
+    }
+    
+    @Override
+    public List<Todo> loadTodosByIds(Collection<Long> ids) {
+        // 캐시에 없는 ID만 한 번의 쿼리로 조회해서 캐시에 적재
+        Map<Long, Todo> cached = cache.getAll(ids, missingIds -> delegate.loadTodosByIds(List.copyOf(missingIds)).stream()
+                .collect(Collectors.toMap(Todo::getId, CachingTodoPersistenceAdapter::copyOf)));
+        return cached.values().stream()
+                .map(CachingTodoPersistenceAdapter::copyOf)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public long loadTodoListVersion() {
+        return delegate.loadTodoListVersion();
+    }
+    
+    @Override
+    public List<Todo> loadTodosAfter(Long afterId, int limit) {
+        return delegate.loadTodosAfter(afterId, limit);
+    }
+    
+    @Override
+    public void streamAllTodos(Consumer<Todo> consumer) {
+        delegate.streamAllTodos(consumer);
+    }
+    
+    @Override
+    public Todo saveTodo(Todo todo) {
+        Todo savedTodo = delegate.saveTodo(todo);
+        invalidate(savedTodo.getId());
+        return savedTodo;
+    }
+    
+    @Override
+    public List<Todo> saveAllTodos(List<Todo> todos) {
+        List<Todo> savedTodos = delegate.saveAllTodos(todos);
+        savedTodos.forEach(savedTodo -> invalidate(savedTodo.getId()));
+        return savedTodos;
+    }
+    
+    @Override
+    public Optional<Todo> markTodoCompleted(Long id, LocalDateTime completedAt) {
+        Optional<Todo> completedTodo = delegate.markTodoCompleted(id, completedAt);
+        invalidate(id);
+        return completedTodo;
+    }
+    
+    @Override
+    public boolean deleteTodo(Long id) {
+        boolean deleted = delegate.deleteTodo(id);
+        invalidate(id);
+        return deleted;
+    }
+    
+    public CacheStats stats() {
+        return cache.stats();
+    }
+    
+    /**
+     * 즉시 무효화하고, 트랜잭션 종료 후 한 번 더 무효화합니다.
+     * 커밋 전에 다른 스레드가 이전 값을 다시 캐시에 올려두는 경우를 막기 위함입니다.
+     */
+    private void invalidate(Long id) {
+        if (id == null) {
+            return;
+        }
+        cache.invalidate(id);
+        TransactionCallbacks.afterCompletion(() -> cache.invalidate(id));
+    }
+    
+    private static Todo copyOf(Todo todo) {
+        return Todo.builder()
+                .id(todo.getId())
+                .title(todo.getTitle())
+                .description(todo.getDescription())
+                .completed(todo.isCompleted())
+                .createdAt(todo.getCreatedAt())
+                .updatedAt(todo.getUpdatedAt())
+                .version(todo.getVersion())
+                .build();
+    }
+}
\ No newline at end of file
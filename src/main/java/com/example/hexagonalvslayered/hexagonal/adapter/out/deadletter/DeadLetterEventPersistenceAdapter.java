@@ -0,0 +1,51 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.deadletter;
+
+import com.example.hexagonalvslayered.hexagonal.application.port.out.DeadLetterEventPort;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class DeadLetterEventPersistenceAdapter implements DeadLetterEventPort {
+    
+    private final TodoEventDeadLetterRepository deadLetterRepository;
+    
+    @Override
+    @Transactional
+    public void saveDeadLetter(TodoEvent event, int attempts, String reason) {
+        TodoEventDeadLetterEntity deadLetter = deadLetterRepository.findByEventId(event.getEventId())
+                .orElseGet(() -> TodoEventDeadLetterEntity.from(event));
+        deadLetter.setAttempts(deadLetter.getAttempts() + attempts);
+        deadLetter.setReason(reason);
+        deadLetter.setDeadLetteredAt(LocalDateTime.now());
+        deadLetterRepository.save(deadLetter);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<TodoEvent> loadDeadLetters(int limit) {
+        return deadLetterRepository.findAllByOrderByIdAsc(Limit.of(limit)).stream()
+                .map(TodoEventDeadLetterEntity::toTodoEvent)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    @Transactional
+    public void deleteDeadLetters(Collection<String> eventIds) {
+        deadLetterRepository.deleteByEventIdIn(eventIds);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public long countDeadLetters() {
+        return deadLetterRepository.count();
+    }
+}
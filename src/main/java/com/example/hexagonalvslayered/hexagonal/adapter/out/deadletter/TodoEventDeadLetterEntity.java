@@ -0,0 +1,89 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.deadletter;
+
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재시도를 모두 소진해서 전송하지 못한 이벤트 (데드 레터)
+ * 재전송에 성공하면 삭제됩니다.
+ */
+@Entity
+@Table(name = "todo_event_dead_letter")
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoEventDeadLetterEntity {
+    
+    // 저장 순서 = ID 순서 (재전송은 ID 순으로 진행)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_event_dead_letter_seq")
+    @SequenceGenerator(name = "todo_event_dead_letter_seq", sequenceName = "todo_event_dead_letter_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(nullable = false, unique = true)
+    private String eventId;
+    
+    @Column(nullable = false)
+    private String eventType;
+    
+    private Long todoId;
+    
+    private String title;
+    
+    private String description;
+    
+    private boolean completed;
+    
+    private LocalDateTime occurredAt;
+    
+    private LocalDateTime updatedAt;
+    
+    private int attempts;
+    
+    private String reason;
+    
+    private LocalDateTime deadLetteredAt;
+    
+    public static TodoEventDeadLetterEntity from(TodoEvent event) {
+        return TodoEventDeadLetterEntity.builder()
+                .eventId(event.getEventId())
+                .eventType(event.getEventType())
+                .todoId(event.getTodoId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .completed(event.isCompleted())
+                .occurredAt(event.getCreatedAt())
+                .updatedAt(event.getUpdatedAt())
+                .build();
+    }
+    
+    public TodoEvent toTodoEvent() {
+        return TodoEvent.builder()
+                .eventId(eventId)
+                .eventType(eventType)
+                .todoId(todoId)
+                .title(title)
+                .description(description)
+                .completed(completed)
+                .createdAt(occurredAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
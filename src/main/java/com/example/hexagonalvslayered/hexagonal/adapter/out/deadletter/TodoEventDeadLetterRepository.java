@@ -0,0 +1,24 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.deadletter;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface TodoEventDeadLetterRepository extends JpaRepository<TodoEventDeadLetterEntity, Long> {
+    
+    Optional<TodoEventDeadLetterEntity> findByEventId(String eventId);
+    
+    List<TodoEventDeadLetterEntity> findAllByOrderByIdAsc(Limit limit);
+    
+    @Modifying
+    @Query("DELETE FROM TodoEventDeadLetterEntity d WHERE d.eventId IN :eventIds")
+    int deleteByEventIdIn(@Param("eventIds") Collection<String> eventIds);
+}
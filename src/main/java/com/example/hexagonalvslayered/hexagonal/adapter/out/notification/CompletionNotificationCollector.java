@@ -0,0 +1,66 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.notification;
+
+import com.example.hexagonalvslayered.common.CompletionNotification;
+import com.example.hexagonalvslayered.common.MicroBatcher;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 완료 알림을 짧은 시간 동안 모아 한 번의 호출로 전송하는 수집기
+ * 
+ * 1. submit으로 들어온 알림을 MicroBatcher에 모음
+ * 2. max-size 개가 모이거나 첫 알림 이후 window 시간이 지나면 일괄 전송 함수를 한 번 호출
+ * 3. 일괄 전송 결과를 알림별 CompletableFuture로 돌려줌 (호출 실패 시 배치 전체를 예외로 완료)
+ */
+@Slf4j
+class CompletionNotificationCollector {
+    
+    private record Pending(CompletionNotification notification, CompletableFuture<Boolean> result) {
+    }
+    
+    private final Function<List<CompletionNotification>, List<Boolean>> batchSender;
+    private final MicroBatcher<Pending> batcher;
+    
+    CompletionNotificationCollector(Function<List<CompletionNotification>, List<Boolean>> batchSender,
+                                    int maxBatchSize, Duration window) {
+        this.batchSender = batchSender;
+        this.batcher = new MicroBatcher<>("notification-batch-", maxBatchSize, window, this::send);
+    }
+    
+    CompletableFuture<Boolean> submit(Long todoId, String title) {
+        Pending pending = new Pending(new CompletionNotification(todoId, title), new CompletableFuture<>());
+        batcher.add(pending);
+        return pending.result();
+    }
+    
+    /**
+     * 버퍼에 남은 알림을 전송하고 전송 스레드를 종료합니다. (이미 대기 중인 배치 뒤에 순서대로 전송)
+     */
+    void shutdown() throws InterruptedException {
+        batcher.shutdown();
+    }
+    
+    private void send(List<Pending> batch) {
+        List<Boolean> results;
+        try {
+            results = batchSender.apply(batch.stream()
+                    .map(Pending::notification)
+                    .collect(Collectors.toList()));
+            if (results.size() != batch.size()) {
+                throw new IllegalStateException("Expected " + batch.size() + " results but got " + results.size());
+            }
+        } catch (RuntimeException e) {
+            log.error("완료 알림 일괄 전송 실패: {}건", batch.size(), e);
+            batch.forEach(pending -> pending.result().completeExceptionally(e));
+            return;
+        }
+        for (int i = 0; i < batch.size(); i++) {
+            batch.get(i).result().complete(Boolean.TRUE.equals(results.get(i)));
+        }
+    }
+}
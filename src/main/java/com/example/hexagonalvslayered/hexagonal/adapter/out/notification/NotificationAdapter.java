@@ -2,9 +2,18 @@ package com.example.hexagonalvslayered.hexagonal.adapter.out.notification;
 
 import com.example.hexagonalvslayered.common.ExternalNotificationService;
 import com.example.hexagonalvslayered.hexagonal.application.port.out.SendNotificationPort;
-import lombok.RequiredArgsConstructor;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
 /**
  * 헥사고날 아키텍처의 아웃바운드 어댑터 구현
  * 
@@ -13,21 +22,75 @@ import org.springframework.stereotype.Component;
  * 2. 외부 시스템 연결: 도메인과 외부 시스템 사이의 변환 역할 담당
  * 3. 인프라 세부사항 캡슐화: 외부 시스템의 세부 구현을 도메인으로부터 숨김
  * 4. 교체 용이성: 외부 시스템이 변경되어도 포트 인터페이스가 유지되면 도메인 로직에 영향 없음
+ * 
+ * hexagonal.notification.batch.enabled=true이면 알림을 window 시간 동안 모아 한 번의 호출로 전송합니다.
+ * (외부 호출 한 번의 지연 시간을 배치 전체가 나눠 가짐)
+ * 결과를 기다리는 sendCompletionNotification은 batch.timeout까지만 기다리고, 넘으면 전송 실패(false)로 처리합니다.
  */
+@Slf4j
 @Component
-@RequiredArgsConstructor
 public class NotificationAdapter implements SendNotificationPort {
     
     // 실제 외부 시스템과의 통신을 담당하는 서비스
     private final ExternalNotificationService externalNotificationService;
     
+    // 일괄 전송을 끈 경우 null
+    private final CompletionNotificationCollector collector;
+    
+    private final Duration timeout;
+    
+    public NotificationAdapter(ExternalNotificationService externalNotificationService,
+                               @Value("${hexagonal.notification.batch.enabled:false}") boolean batchEnabled,
+                               @Value("${hexagonal.notification.batch.max-size:100}") int maxBatchSize,
+                               @Value("${hexagonal.notification.batch.window:20ms}") Duration window,
+                               @Value("${hexagonal.notification.batch.timeout:5s}") Duration timeout) {
+        this.externalNotificationService = externalNotificationService;
+        this.timeout = timeout;
+        this.collector = batchEnabled
+                ? new CompletionNotificationCollector(
+                        externalNotificationService::sendCompletionNotifications, maxBatchSize, window)
+                : null;
+    }
+    
     /**
      * 포트 인터페이스에 정의된 메서드를 구현하여 실제 외부 시스템과 통신
      * 이 어댑터는 도메인 로직과 외부 시스템 사이의 번역기 역할을 함
      */
     @Override
     public boolean sendCompletionNotification(Long todoId, String title) {
-        // 외부 시스템 호출을 어댑터 내부에 캡슐화하여 도메인 로직과 분리
-        return externalNotificationService.sendCompletionNotification(todoId, title);
+        if (collector == null) {
+            // 외부 시스템 호출을 어댑터 내부에 캡슐화하여 도메인 로직과 분리
+            return externalNotificationService.sendCompletionNotification(todoId, title);
+        }
+        try {
+            return collector.submit(todoId, title).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("완료 알림 일괄 전송 대기 시간 초과: todoId={}, timeout={}", todoId, timeout);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+    
+    @Override
+    public CompletableFuture<Boolean> sendCompletionNotificationAsync(Long todoId, String title) {
+        if (collector == null) {
+            return CompletableFuture.completedFuture(
+                    externalNotificationService.sendCompletionNotification(todoId, title));
+        }
+        return collector.submit(todoId, title);
+    }
+    
+    /**
+     * 종료 시 모아둔 알림을 전송합니다.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        if (collector != null) {
+            collector.shutdown();
+        }
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.notification;
+
+import com.example.hexagonalvslayered.common.NotificationResilienceGuard;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.SendNotificationPort;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * SendNotificationPort 앞에 위치하는 장애 격리 어댑터 (데코레이터)
+ *
+ * 외부 알림 서비스가 느려지거나 장애가 나면 서킷 브레이커와 적응형 동시 실행 한도(NotificationResilienceGuard)가
+ * 호출을 즉시 버리고 실패(false)를 반환해서, 이벤트 리스너 스레드가 외부 서비스 뒤에 쌓이지 않도록 합니다.
+ * 서비스와 이벤트 리스너는 포트 인터페이스에만 의존하므로 코드를 수정하지 않고 적용됩니다.
+ */
+@Slf4j
+@Primary
+@Component
+@RequiredArgsConstructor
+public class ResilientNotificationAdapter implements SendNotificationPort {
+
+    private final NotificationAdapter delegate;
+    private final NotificationResilienceGuard resilienceGuard;
+
+    @Override
+    public boolean sendCompletionNotification(Long todoId, String title) {
+        NotificationResilienceGuard.Permit permit = acquire(todoId);
+        if (permit == null) {
+            return false;
+        }
+        boolean sent = false;
+        permit.started();
+        try {
+            sent = delegate.sendCompletionNotification(todoId, title);
+            return sent;
+        } finally {
+            permit.complete(sent);
+        }
+    }
+
+    @Override
+    public CompletableFuture<Boolean> sendCompletionNotificationAsync(Long todoId, String title) {
+        NotificationResilienceGuard.Permit permit = acquire(todoId);
+        if (permit == null) {
+            return CompletableFuture.completedFuture(false);
+        }
+        permit.started();
+        try {
+            return delegate.sendCompletionNotificationAsync(todoId, title)
+                    .whenComplete((sent, failure) -> permit.complete(failure == null && Boolean.TRUE.equals(sent)));
+        } catch (RuntimeException e) {
+            permit.complete(false);
+            throw e;
+        }
+    }
+
+    private NotificationResilienceGuard.Permit acquire(Long todoId) {
+        NotificationResilienceGuard.Permit permit = resilienceGuard.tryAcquire();
+        if (permit == null) {
+            log.warn("외부 알림 서비스 보호를 위해 Todo {} 알림을 보내지 않음 (circuit: {})",
+                    todoId, resilienceGuard.getCircuitState());
+        }
+        return permit;
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.outbox;
+
+import com.example.hexagonalvslayered.common.TransactionCallbacks;
+import com.example.hexagonalvslayered.hexagonal.domain.event.DomainEvent;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 도메인 이벤트를 아웃박스 테이블에 기록합니다.
+ * 
+ * 동기 리스너이므로 이벤트를 발행한 서비스의 트랜잭션 안에서 실행됩니다.
+ * 따라서 Todo 변경과 아웃박스 기록은 함께 커밋되거나 함께 롤백되며,
+ * 외부 시스템 호출은 커밋 이후 OutboxRelay가 별도로 처리합니다.
+ * 
+ * 서비스는 이벤트 발행 예외를 로그만 남기고 삼키므로, 기록에 실패하면 커밋 직전에 예외를 던지도록 등록해서
+ * Todo 변경이 아웃박스 기록 없이 커밋되지 않도록 합니다. (리포지토리 프록시의 롤백 전용 표시에 기대지 않음)
+ * 이 경우 호출자는 커밋 시점에 예외(IllegalStateException, 이미 롤백 전용이면 UnexpectedRollbackException)를 받고
+ * Todo 변경도 저장되지 않습니다.
+ * hexagonal.outbox.enabled=true로 설정된 경우에만 등록됩니다. (기본값 없음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "hexagonal.outbox.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class OutboxEventRecorder {
+    
+    private final TodoEventOutboxRepository outboxRepository;
+    
+    @EventListener
+    public void record(DomainEvent event) {
+        if (event instanceof TodoEvent) {
+            // 외부에서 수신한 이벤트는 다시 내보내지 않음
+            return;
+        }
+        TodoEvent todoEvent = TodoEvent.from(event);
+        try {
+            outboxRepository.save(TodoEventOutboxEntity.from(todoEvent));
+        } catch (RuntimeException e) {
+            TransactionCallbacks.failBeforeCommit(
+                    new IllegalStateException("Failed to record event to outbox: " + todoEvent.getEventId(), e));
+            throw e;
+        }
+        log.debug("Event recorded to outbox: {}", todoEvent);
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.outbox;
+
+import com.example.hexagonalvslayered.common.RetryBackoff;
+import com.example.hexagonalvslayered.config.AsyncConfig;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.DeadLetterEventPort;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.PublishEventPort;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
+
+/**
+ * 아웃박스에 기록된 이벤트를 외부 시스템으로 전송하는 백그라운드 릴레이
+ * 
+ * 1. 주기적으로 전송 시각이 된 이벤트를 ID 순으로 batch-size 만큼 읽음
+ * 2. Todo ID 기준으로 파티션을 나누어 parallelism 개의 스레드(outboxRelayExecutor)에서 동시에 전송
+ *    (같은 Todo의 이벤트는 항상 같은 파티션에서 순서대로 전송됨)
+ * 3. 파티션의 이벤트는 최대 events-per-request 개씩 JSON 배열 하나로 묶어 전송 (1이면 한 건씩 전송)
+ * 4. 전송에 실패하면 그 요청에 담긴 Todo의 나머지 이벤트만 미루고,
+ *    같은 파티션의 다른 Todo 이벤트는 계속 전송 (같은 Todo의 이벤트 순서는 유지)
+ * 5. 실패한 이벤트는 시도 횟수를 늘리고 다음 전송 시각을 지수 백오프(RetryBackoff)로 정함.
+ *    그 시각까지 해당 Todo의 이벤트는 조회하지 않으므로, 실패한 Todo가 아웃박스 앞쪽을 막아도 다른 Todo는 계속 전송됨
+ * 6. max-attempts 번 실패한 이벤트는 데드 레터(DeadLetterEventPort)로 옮기고 아웃박스에서 삭제해서
+ *    같은 Todo의 나머지 이벤트가 전송될 수 있도록 함 (재시도 설정은 hexagonal.events.retry를 함께 사용)
+ * 7. 전송된 이벤트만 삭제하므로 최소 한 번(at-least-once) 전달되며, 수신 측은 eventId로 중복을 걸러낼 수 있음
+ * 
+ * hexagonal.outbox.enabled와 hexagonal.outbox.relay.enabled가 모두 true로 설정된 경우에만 등록됩니다.
+ * (기본값 없음, 테스트나 벤치마크에서는 relay.enabled=false로 기록만 하고 전송하지 않을 수 있음)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "hexagonal.outbox", name = {"enabled", "relay.enabled"}, havingValue = "true")
+public class OutboxRelay {
+    
+    private final TodoEventOutboxRepository outboxRepository;
+    private final PublishEventPort publishEventPort;
+    private final DeadLetterEventPort deadLetterEventPort;
+    private final Executor executor;
+    private final RetryBackoff retryBackoff;
+    private final Clock clock;
+    private final int batchSize;
+    private final int parallelism;
+    private final int eventsPerRequest;
+    
+    public OutboxRelay(TodoEventOutboxRepository outboxRepository,
+                       PublishEventPort publishEventPort,
+                       DeadLetterEventPort deadLetterEventPort,
+                       @Qualifier(AsyncConfig.OUTBOX_RELAY_EXECUTOR) Executor executor,
+                       @Value("${hexagonal.events.retry.max-attempts:5}") int maxAttempts,
+                       @Value("${hexagonal.events.retry.initial-backoff:500ms}") Duration initialBackoff,
+                       @Value("${hexagonal.events.retry.max-backoff:30s}") Duration maxBackoff,
+                       @Value("${hexagonal.outbox.batch-size:100}") int batchSize,
+                       @Value("${hexagonal.outbox.parallelism:4}") int parallelism,
+                       @Value("${hexagonal.events.batch.max-size:100}") int eventsPerRequest) {
+        this(outboxRepository, publishEventPort, deadLetterEventPort, executor,
+                new RetryBackoff(maxAttempts, initialBackoff, maxBackoff), Clock.systemDefaultZone(),
+                batchSize, parallelism, eventsPerRequest);
+    }
+    
+    OutboxRelay(TodoEventOutboxRepository outboxRepository, PublishEventPort publishEventPort,
+                DeadLetterEventPort deadLetterEventPort, Executor executor, RetryBackoff retryBackoff, Clock clock,
+                int batchSize, int parallelism, int eventsPerRequest) {
+        this.outboxRepository = outboxRepository;
+        this.publishEventPort = publishEventPort;
+        this.deadLetterEventPort = deadLetterEventPort;
+        this.executor = executor;
+        this.retryBackoff = retryBackoff;
+        this.clock = clock;
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.eventsPerRequest = Math.max(eventsPerRequest, 1);
+    }
+    
+    /**
+     * 이전 실행이 끝난 뒤 poll-interval 만큼 기다렸다가 다시 실행되므로 실행이 겹치지 않습니다.
+     */
+    @Scheduled(fixedDelayString = "${hexagonal.outbox.poll-interval-ms:500}")
+    public void relay() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<TodoEventOutboxEntity> batch = outboxRepository.findDueEvents(now, Limit.of(batchSize));
+        if (batch.isEmpty()) {
+            return;
+        }
+        
+        Map<Integer, List<TodoEventOutboxEntity>> partitions = batch.stream()
+                .collect(Collectors.groupingBy(this::partitionOf, LinkedHashMap::new, Collectors.toList()));
+        List<CompletableFuture<PartitionResult>> results = partitions.values().stream()
+                .map(partition -> CompletableFuture.supplyAsync(() -> sendInOrder(partition), executor))
+                .collect(Collectors.toList());
+        
+        List<Long> deletedIds = new ArrayList<>();
+        List<TodoEventOutboxEntity> failed = new ArrayList<>();
+        results.forEach(result -> {
+            PartitionResult partitionResult = result.join();
+            deletedIds.addAll(partitionResult.sentIds());
+            failed.addAll(partitionResult.failed());
+        });
+        List<TodoEventOutboxEntity> retries = scheduleRetries(failed, now, deletedIds);
+        if (!retries.isEmpty()) {
+            outboxRepository.saveAll(retries);
+        }
+        if (!deletedIds.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(deletedIds);
+        }
+        log.debug("Outbox relay sent {}/{} events ({} failed)",
+                batch.size() - failed.size(), batch.size(), failed.size());
+    }
+    
+    /**
+     * 실패한 이벤트의 다음 전송 시각을 정하고, 시도 횟수를 모두 소진한 이벤트는 데드 레터로 옮깁니다.
+     *
+     * @param deletedIds 데드 레터로 옮겨 아웃박스에서 삭제할 이벤트 ID가 추가됨
+     * @return 다음 전송 시각을 갱신할 이벤트
+     */
+    private List<TodoEventOutboxEntity> scheduleRetries(List<TodoEventOutboxEntity> failed, LocalDateTime now,
+                                                        List<Long> deletedIds) {
+        List<TodoEventOutboxEntity> retries = new ArrayList<>(failed.size());
+        for (TodoEventOutboxEntity event : failed) {
+            int attempts = event.getAttempts() + 1;
+            if (retryBackoff.isExhausted(attempts)) {
+                deadLetterEventPort.saveDeadLetter(event.toTodoEvent(), attempts,
+                        "outbox delivery failed " + attempts + " times");
+                log.warn("Outbox event {} moved to dead letter after {} attempts", event.getEventId(), attempts);
+                deletedIds.add(event.getId());
+            } else {
+                event.setAttempts(attempts);
+                event.setNextAttemptAt(now.plus(retryBackoff.delayAfter(attempts)));
+                retries.add(event);
+            }
+        }
+        return retries;
+    }
+    
+    private PartitionResult sendInOrder(List<TodoEventOutboxEntity> events) {
+        PartitionResult result = new PartitionResult(new ArrayList<>(events.size()), new ArrayList<>());
+        // 전송에 실패한 Todo (이후 이벤트는 순서를 지키기 위해 재시도 시각 이후로 미룸)
+        Set<Long> blockedTodoIds = new HashSet<>();
+        List<TodoEventOutboxEntity> chunk = new ArrayList<>(eventsPerRequest);
+        for (TodoEventOutboxEntity event : events) {
+            if (blockedTodoIds.contains(event.getTodoId())) {
+                continue;
+            }
+            chunk.add(event);
+            if (chunk.size() == eventsPerRequest) {
+                sendChunk(chunk, result, blockedTodoIds);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            sendChunk(chunk, result, blockedTodoIds);
+        }
+        return result;
+    }
+    
+    private void sendChunk(List<TodoEventOutboxEntity> chunk, PartitionResult result, Set<Long> blockedTodoIds) {
+        boolean sent;
+        try {
+            sent = chunk.size() == 1
+                    ? publishEventPort.sendTodoEvent(chunk.get(0).toTodoEvent())
+                    : publishEventPort.sendTodoEvents(chunk.stream()
+                            .map(TodoEventOutboxEntity::toTodoEvent)
+                            .collect(Collectors.toList()));
+        } catch (RuntimeException e) {
+            log.warn("아웃박스 이벤트 전송 실패: {}", e.getMessage());
+            sent = false;
+        }
+        if (sent) {
+            chunk.forEach(event -> result.sentIds().add(event.getId()));
+        } else {
+            result.failed().addAll(chunk);
+            chunk.forEach(event -> blockedTodoIds.add(event.getTodoId()));
+        }
+    }
+    
+    private int partitionOf(TodoEventOutboxEntity event) {
+        Long todoId = event.getTodoId();
+        return todoId == null ? 0 : Math.floorMod(todoId.hashCode(), parallelism);
+    }
+    
+    private record PartitionResult(List<Long> sentIds, List<TodoEventOutboxEntity> failed) {
+    }
+}
@@ -0,0 +1,93 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.outbox;
+
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아직 외부 시스템으로 전송되지 않은 이벤트 (트랜잭셔널 아웃박스)
+ * Todo 변경과 같은 트랜잭션에서 저장되며, 전송에 성공하거나 데드 레터로 옮겨지면 릴레이가 삭제합니다.
+ */
+@Entity
+// 재시도를 기다리는 이벤트가 있는 Todo를 찾는 조회(TodoEventOutboxRepository.findDueEvents)용 인덱스
+@Table(name = "todo_event_outbox", indexes = {
+        @Index(name = "idx_todo_event_outbox_todo_id_next_attempt_at", columnList = "todo_id, next_attempt_at")
+})
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoEventOutboxEntity {
+    
+    // 발행 순서 = ID 순서 (릴레이는 ID 순으로 전송)
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_event_outbox_seq")
+    @SequenceGenerator(name = "todo_event_outbox_seq", sequenceName = "todo_event_outbox_seq", allocationSize = 50)
+    private Long id;
+    
+    @Column(nullable = false, unique = true)
+    private String eventId;
+    
+    @Column(nullable = false)
+    private String eventType;
+    
+    private Long todoId;
+    
+    private String title;
+    
+    private String description;
+    
+    private boolean completed;
+    
+    private LocalDateTime occurredAt;
+    
+    private LocalDateTime updatedAt;
+    
+    // 전송에 실패한 횟수
+    private int attempts;
+    
+    // 다음 전송 시각 (null이면 바로 전송 대상, 이 시각 전까지는 같은 Todo의 이벤트를 모두 전송하지 않음)
+    private LocalDateTime nextAttemptAt;
+    
+    public static TodoEventOutboxEntity from(TodoEvent event) {
+        return TodoEventOutboxEntity.builder()
+                .eventId(event.getEventId())
+                .eventType(event.getEventType())
+                .todoId(event.getTodoId())
+                .title(event.getTitle())
+                .description(event.getDescription())
+                .completed(event.isCompleted())
+                .occurredAt(event.getCreatedAt())
+                .updatedAt(event.getUpdatedAt())
+                .build();
+    }
+    
+    public TodoEvent toTodoEvent() {
+        return TodoEvent.builder()
+                .eventId(eventId)
+                .eventType(eventType)
+                .todoId(todoId)
+                .title(title)
+                .description(description)
+                .completed(completed)
+                .createdAt(occurredAt)
+                .updatedAt(updatedAt)
+                .build();
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.outbox;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface TodoEventOutboxRepository extends JpaRepository<TodoEventOutboxEntity, Long> {
+    
+    /**
+     * 전송할 이벤트를 ID 순으로 조회합니다.
+     * 재시도 시각이 아직 되지 않은 이벤트가 있는 Todo는 이후 이벤트까지 모두 제외합니다. (같은 Todo의 전송 순서 유지)
+     */
+    @Query("select e from TodoEventOutboxEntity e "
+            + "where (e.nextAttemptAt is null or e.nextAttemptAt <= :now) and not exists ("
+            + "select b.id from TodoEventOutboxEntity b where b.todoId = e.todoId and b.nextAttemptAt > :now) "
+            + "order by e.id")
+    List<TodoEventOutboxEntity> findDueEvents(@Param("now") LocalDateTime now, Limit limit);
+}
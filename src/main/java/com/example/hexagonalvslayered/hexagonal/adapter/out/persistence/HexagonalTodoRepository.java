@@ -1,8 +1,73 @@
 package com.example.hexagonalvslayered.hexagonal.adapter.out.persistence;
 
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface HexagonalTodoRepository extends JpaRepository<TodoJpaEntity, Long> {
-} 
\ No newline at end of file
+public interface HexagonalTodoRepository extends JpaRepository<TodoJpaEntity, Long>, JpaSpecificationExecutor<TodoJpaEntity> {
+    
+    String TODO_ROW = "select new com.example.hexagonalvslayered.hexagonal.domain.Todo("
+            + "t.id, t.title, t.description, t.completed, t.createdAt, t.updatedAt, t.version) "
+            + "from TodoJpaEntity t ";
+    
+    /**
+     * 엔티티 대신 JPQL 생성자 표현식으로 도메인 모델을 바로 생성합니다.
+     * 영속성 컨텍스트에 등록되지 않고 dirty checking용 스냅샷이나 중간 객체(엔티티, 프로젝션)도 만들어지지 않습니다.
+     */
+    @Query(TODO_ROW + "order by t.id")
+    List<Todo> findAllRows();
+    
+    @Query(TODO_ROW + "where t.id = :id")
+    Optional<Todo> findRowById(@Param("id") Long id);
+    
+    @Query(TODO_ROW + "where t.id in :ids")
+    List<Todo> findRowsByIdIn(@Param("ids") Collection<Long> ids);
+    
+    @Query(TODO_ROW + "where t.id > :id order by t.id")
+    List<Todo> findRowsByIdGreaterThan(@Param("id") Long id, Limit limit);
+    
+    /**
+     * JDBC fetch size 단위로 커서를 이동하며 읽는 스트림 (트랜잭션 안에서 사용하고 반드시 close 해야 함)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from TodoJpaEntity t order by t.id")
+    Stream<TodoJpaEntity> streamAllBy();
+    
+    /**
+     * 완료 처리 UPDATE와 변경된 행 조회를 한 문장으로 실행합니다.
+     * H2의 data change delta table(FINAL TABLE)을 사용하며, PostgreSQL의 UPDATE ... RETURNING에 해당합니다.
+     * 대상 행이 없으면 빈 결과를 반환합니다.
+     */
+    @Query(value = "SELECT * FROM FINAL TABLE ("
+            + "UPDATE hexagonal_todo SET completed = TRUE, updated_at = :updatedAt, version = version + 1 "
+            + "WHERE id = :id)",
+            nativeQuery = true)
+    Optional<TodoJpaEntity> completeById(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * 엔티티를 조회하지 않고 DELETE 한 문장으로 삭제합니다.
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from TodoJpaEntity t where t.id = :id")
+    int deleteTodoById(@Param("id") Long id);
+}
\ No newline at end of file
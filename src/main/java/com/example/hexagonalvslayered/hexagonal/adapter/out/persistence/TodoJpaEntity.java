@@ -4,6 +4,9 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Version;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -16,7 +19,11 @@ import lombok.ToString;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "hexagonal_todo")
+// 목록 필터(완료 여부 + 생성 시각 범위, 수정 시각 이후)가 전체 스캔 대신 인덱스 범위 검색을 사용하도록 함
+@Table(name = "hexagonal_todo", indexes = {
+        @Index(name = "idx_hexagonal_todo_completed_created_at", columnList = "completed, created_at"),
+        @Index(name = "idx_hexagonal_todo_updated_at", columnList = "updated_at")
+})
 @Getter
 @Setter
 @ToString
@@ -26,8 +33,11 @@ import java.time.LocalDateTime;
 @Builder
 public class TodoJpaEntity {
     
+    // IDENTITY 전략은 INSERT 시점에 ID를 받아와야 해서 Hibernate의 JDBC 배치 INSERT가 비활성화됨
+    // 시퀀스를 allocationSize 단위로 미리 할당받아 배치 INSERT가 가능하도록 함
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "hexagonal_todo_seq")
+    @SequenceGenerator(name = "hexagonal_todo_seq", sequenceName = "hexagonal_todo_seq", allocationSize = 50)
     private Long id;
     
     private String title;
@@ -39,4 +49,8 @@ public class TodoJpaEntity {
     private LocalDateTime createdAt;
     
     private LocalDateTime updatedAt;
+    
+    // 행 단위 버전 (낙관적 잠금 및 단건 조회 ETag에 사용)
+    @Version
+    private Long version;
 } 
\ No newline at end of file
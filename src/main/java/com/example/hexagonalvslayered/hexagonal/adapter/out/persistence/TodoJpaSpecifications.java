@@ -0,0 +1,45 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.persistence;
+
+import com.example.hexagonalvslayered.hexagonal.domain.TodoFilter;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TodoFilter를 JPA Specification과 Sort로 변환합니다.
+ * 조건 컬럼은 TodoJpaEntity의 (completed, created_at), (updated_at) 인덱스로 범위 검색됩니다.
+ */
+final class TodoJpaSpecifications {
+    
+    private TodoJpaSpecifications() {
+    }
+    
+    static Specification<TodoJpaEntity> matching(TodoFilter filter) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (filter.getCompleted() != null) {
+                predicates.add(cb.equal(root.get("completed"), filter.getCompleted()));
+            }
+            if (filter.getCreatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getCreatedFrom()));
+            }
+            if (filter.getCreatedTo() != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), filter.getCreatedTo()));
+            }
+            if (filter.getUpdatedSince() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("updatedAt"), filter.getUpdatedSince()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+    
+    static Sort sortOf(TodoFilter filter) {
+        Sort.Direction direction = filter.isDescending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort sort = Sort.by(direction, filter.getSortBy().getProperty());
+        // 같은 값이 있어도 결과 순서가 고정되도록 ID를 보조 정렬 기준으로 사용
+        return filter.getSortBy() == TodoFilter.SortField.ID ? sort : sort.and(Sort.by(direction, "id"));
+    }
+}
@@ -1,14 +1,28 @@
 package com.example.hexagonalvslayered.hexagonal.adapter.out.persistence;
 
+import com.example.hexagonalvslayered.common.WriteVersionCounter;
 import com.example.hexagonalvslayered.hexagonal.application.port.out.LoadTodoPort;
 import com.example.hexagonalvslayered.hexagonal.application.port.out.SaveTodoPort;
 import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.hexagonal.domain.TodoFilter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.query.QueryUtils;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Component
 @RequiredArgsConstructor
@@ -16,40 +30,120 @@ public class TodoPersistenceAdapter implements LoadTodoPort, SaveTodoPort {
     
     private final HexagonalTodoRepository todoRepository;
     
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    // 목록 ETag용 쓰기 버전 (이 어댑터를 통한 모든 쓰기가 커밋되면 증가)
+    private final WriteVersionCounter listVersion = new WriteVersionCounter();
+    
+    // 조회 메서드는 readOnly 트랜잭션에서 쿼리 결과 행을 도메인 모델로 바로 생성 (엔티티 → 도메인 복사 없음)
+    // (readOnly이면 Spring이 Hibernate 세션의 flush 모드를 MANUAL로 설정)
     @Override
+    @Transactional(readOnly = true)
     public List<Todo> loadAllTodos() {
-        return todoRepository.findAll().stream()
-                .map(this::mapToDomainEntity)
-                .collect(Collectors.toList());
+        return todoRepository.findAllRows();
     }
     
     @Override
+    @Transactional(readOnly = true)
     public Optional<Todo> loadTodoById(Long id) {
-        return todoRepository.findById(id)
-                .map(this::mapToDomainEntity);
+        return todoRepository.findRowById(id);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Todo> loadTodosByIds(Collection<Long> ids) {
+        return todoRepository.findRowsByIdIn(ids);
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Todo> loadTodosAfter(Long afterId, int limit) {
+        long cursor = afterId != null ? afterId : 0L;
+        return todoRepository.findRowsByIdGreaterThan(cursor, Limit.of(limit));
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public List<Todo> loadTodos(TodoFilter filter, int limit) {
+        // 다른 조회 메서드와 같이 생성자 표현식으로 도메인 모델을 바로 생성 (관리 엔티티를 만들지 않음)
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Todo> query = cb.createQuery(Todo.class);
+        Root<TodoJpaEntity> root = query.from(TodoJpaEntity.class);
+        query.select(cb.construct(Todo.class,
+                        root.get("id"), root.get("title"), root.get("description"), root.get("completed"),
+                        root.get("createdAt"), root.get("updatedAt"), root.get("version")))
+                .where(TodoJpaSpecifications.matching(filter).toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(TodoJpaSpecifications.sortOf(filter), root, cb));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+    
+    @Override
+    public long loadTodoListVersion() {
+        return listVersion.current();
+    }
+    
+    @Override
+    @Transactional(readOnly = true)
+    public void streamAllTodos(Consumer<Todo> consumer) {
+        try (Stream<TodoJpaEntity> entities = todoRepository.streamAllBy()) {
+            entities.forEach(entity -> {
+                consumer.accept(mapToDomainEntity(entity));
+                // 처리한 엔티티를 즉시 분리해서 영속성 컨텍스트가 행 수만큼 커지지 않도록 함
+                entityManager.detach(entity);
+            });
+        }
     }
     
     @Override
     public Todo saveTodo(Todo todo) {
         TodoJpaEntity todoJpaEntity = mapToJpaEntity(todo);
-        TodoJpaEntity savedEntity = todoRepository.save(todoJpaEntity);
+        // 수정 시 증가된 @Version 값을 반환하기 위해 즉시 flush
+        TodoJpaEntity savedEntity = todoRepository.saveAndFlush(todoJpaEntity);
+        listVersion.incrementAfterCommit();
         return mapToDomainEntity(savedEntity);
     }
     
     @Override
-    public void deleteTodo(Long id) {
-        todoRepository.deleteById(id);
+    public List<Todo> saveAllTodos(List<Todo> todos) {
+        List<TodoJpaEntity> entities = todos.stream()
+                .map(this::mapToJpaEntity)
+                .collect(Collectors.toList());
+        List<Todo> savedTodos = todoRepository.saveAll(entities).stream()
+                .map(this::mapToDomainEntity)
+                .collect(Collectors.toList());
+        listVersion.incrementAfterCommit();
+        return savedTodos;
+    }
+    
+    @Override
+    public Optional<Todo> markTodoCompleted(Long id, LocalDateTime completedAt) {
+        Optional<Todo> completedTodo = todoRepository.completeById(id, completedAt)
+                .map(this::mapToDomainEntity);
+        completedTodo.ifPresent(todo -> listVersion.incrementAfterCommit());
+        return completedTodo;
+    }
+    
+    @Override
+    public boolean deleteTodo(Long id) {
+        boolean deleted = todoRepository.deleteTodoById(id) > 0;
+        if (deleted) {
+            listVersion.incrementAfterCommit();
+        }
+        return deleted;
     }
     
     private Todo mapToDomainEntity(TodoJpaEntity todoJpaEntity) {
-        return Todo.builder()
-                .id(todoJpaEntity.getId())
-                .title(todoJpaEntity.getTitle())
-                .description(todoJpaEntity.getDescription())
-                .completed(todoJpaEntity.isCompleted())
-                .createdAt(todoJpaEntity.getCreatedAt())
-                .updatedAt(todoJpaEntity.getUpdatedAt())
-                .build();
+        return new Todo(
+                todoJpaEntity.getId(),
+                todoJpaEntity.getTitle(),
+                todoJpaEntity.getDescription(),
+                todoJpaEntity.isCompleted(),
+                todoJpaEntity.getCreatedAt(),
+                todoJpaEntity.getUpdatedAt(),
+                todoJpaEntity.getVersion());
     }
     
     private TodoJpaEntity mapToJpaEntity(Todo todo) {
@@ -60,6 +154,7 @@ public class TodoPersistenceAdapter implements LoadTodoPort, SaveTodoPort {
                 .completed(todo.isCompleted())
                 .createdAt(todo.getCreatedAt())
                 .updatedAt(todo.getUpdatedAt())
+                .version(todo.getVersion())
                 .build();
     }
 } 
\ No newline at end of file
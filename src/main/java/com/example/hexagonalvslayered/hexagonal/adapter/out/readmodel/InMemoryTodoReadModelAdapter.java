@@ -0,0 +1,128 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.readmodel;
+
+import com.example.hexagonalvslayered.hexagonal.application.port.out.TodoReadModelPort;
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.hexagonal.domain.TodoSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리에 유지되는 조회 모델 어댑터
+ * 
+ * 1. ID 순으로 정렬된 ConcurrentSkipListMap에 불변 스냅샷을 보관하므로 읽기에 잠금이 필요 없음
+ * 2. 비동기 이벤트는 순서가 뒤바뀌어 도착할 수 있으므로 @Version 기준으로 더 최신인 스냅샷만 반영
+ * 3. 삭제된 ID는 tombstone으로 기록해서, 늦게 도착한 생성/수정 이벤트가 삭제된 Todo를 되살리지 않도록 함
+ *    (이벤트는 커밋 직후 같은 프로세스에서 전달되므로, tombstone-retention보다 오래된 tombstone은
+ *     삭제 시점에 정리해서 삭제 횟수만큼 메모리가 늘어나지 않도록 함)
+ * 4. 이미 더 최신 버전이 반영되어 무시된 스냅샷은 목록 버전(ETag)을 바꾸지 않음
+ */
+@Component
+@ConditionalOnProperty(name = "hexagonal.read-model.enabled", havingValue = "true")
+public class InMemoryTodoReadModelAdapter implements TodoReadModelPort {
+    
+    private final ConcurrentSkipListMap<Long, TodoSnapshot> todos = new ConcurrentSkipListMap<>();
+    // 삭제된 ID → 삭제 시각(nanoTime)
+    private final Map<Long, Long> tombstones = new ConcurrentHashMap<>();
+    private final AtomicLong version = new AtomicLong(System.currentTimeMillis());
+    private final long tombstoneRetentionNanos;
+    private final LongSupplier clock;
+    
+    private volatile long lastPrunedAt;
+    
+    public InMemoryTodoReadModelAdapter(
+            @Value("${hexagonal.read-model.tombstone-retention:10m}") Duration tombstoneRetention) {
+        this(tombstoneRetention, System::nanoTime);
+    }
+    
+    InMemoryTodoReadModelAdapter(Duration tombstoneRetention, LongSupplier clock) {
+        this.tombstoneRetentionNanos = tombstoneRetention.toNanos();
+        this.clock = clock;
+        this.lastPrunedAt = clock.getAsLong();
+    }
+    
+    @Override
+    public void upsert(TodoSnapshot snapshot) {
+        Long id = snapshot.id();
+        if (id == null || tombstones.containsKey(id)) {
+            return;
+        }
+        TodoSnapshot applied = todos.merge(id, snapshot, (current, next) -> next.isNewerThan(current) ? next : current);
+        if (applied != snapshot) {
+            // 더 최신 버전이 이미 반영되어 있어 바뀐 것이 없음
+            return;
+        }
+        // merge 도중에 삭제가 반영되었을 수 있으므로 한 번 더 확인 (삭제 시 버전은 이미 증가)
+        if (tombstones.containsKey(id)) {
+            todos.remove(id);
+            return;
+        }
+        version.incrementAndGet();
+    }
+    
+    @Override
+    public void remove(Long todoId) {
+        long now = clock.getAsLong();
+        tombstones.put(todoId, now);
+        todos.remove(todoId);
+        version.incrementAndGet();
+        pruneTombstones(now);
+    }
+    
+    @Override
+    public void forEach(Consumer<Todo> consumer) {
+        todos.values().forEach(snapshot -> consumer.accept(snapshot.toTodo()));
+    }
+    
+    @Override
+    public List<Todo> findAll() {
+        return todos.values().stream()
+                .map(TodoSnapshot::toTodo)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public Optional<Todo> findById(Long id) {
+        return Optional.ofNullable(todos.get(id)).map(TodoSnapshot::toTodo);
+    }
+    
+    @Override
+    public List<Todo> findAfter(Long afterId, int limit) {
+        long cursor = afterId != null ? afterId : 0L;
+        return todos.tailMap(cursor, false).values().stream()
+                .limit(limit)
+                .map(TodoSnapshot::toTodo)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public long version() {
+        return version.get();
+    }
+    
+    int tombstoneCount() {
+        return tombstones.size();
+    }
+    
+    /**
+     * 보존 기간이 지난 tombstone을 정리합니다. (보존 기간마다 한 번만 전체를 확인)
+     */
+    private void pruneTombstones(long now) {
+        if (now - lastPrunedAt < tombstoneRetentionNanos) {
+            return;
+        }
+        lastPrunedAt = now;
+        tombstones.values().removeIf(removedAt -> now - removedAt >= tombstoneRetentionNanos);
+    }
+}
@@ -0,0 +1,235 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.rest;
+
+import com.example.hexagonalvslayered.hexagonal.application.port.out.EventPublisherPort;
+import com.example.hexagonalvslayered.hexagonal.config.RestTemplateConfig;
+import com.example.hexagonalvslayered.hexagonal.domain.event.DomainEvent;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDK HttpClient 기반의 비동기 이벤트 퍼블리셔
+ * 
+ * 1. 하나의 HttpClient를 공유하므로 keep-alive 커넥션 풀을 재사용
+ * 2. 연결 타임아웃과 요청 타임아웃으로 응답하지 않는 수신 측이 스레드를 붙잡지 못하게 함
+ * 3. 동시에 진행 중인 요청 수를 max-in-flight 개로 제한하고, 한도에 도달하면 backpressure 정책에 따라 처리
+ *    - BLOCK: 자리가 날 때까지 최대 block-timeout 동안 호출 스레드를 대기시키고, 그래도 없으면 거부
+ *    - DROP_OLDEST: 대기 큐(pending-capacity)에 넣고, 큐가 가득 차면 가장 오래된 이벤트를 버림
+ *    - REJECT: 새 이벤트를 바로 버림
+ * 
+ * 전송에 실패한 이벤트는 EventRetryScheduler로 넘겨 백오프 후 다시 전송합니다. (한도 초과로 버린 이벤트는 제외)
+ * 한도 초과로 버린 이벤트는 events.async.rejected 카운터에 reason(rejected/dropped) 태그로 기록합니다.
+ * 
+ * 아웃박스(hexagonal.outbox.enabled)를 사용하지 않는 경우의 전송 경로이며,
+ * 트랜잭션이 커밋된 이후에 도메인 이벤트를 받아 전송합니다.
+ * 두 경로가 같은 이벤트를 중복 전송하지 않도록 아웃박스와 함께 켜면 시작 시 실패합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "hexagonal.events.async.enabled", havingValue = "true")
+public class AsyncHttpEventPublisherAdapter implements EventPublisherPort {
+    
+    public enum BackpressurePolicy {
+        BLOCK,
+        DROP_OLDEST,
+        REJECT
+    }
+    
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper;
+    private final EventRetryScheduler eventRetryScheduler;
+    private final URI eventUri;
+    private final Duration requestTimeout;
+    private final BackpressurePolicy backpressurePolicy;
+    private final Duration blockTimeout;
+    private final int pendingCapacity;
+    
+    private final Semaphore inFlight;
+    private final Deque<TodoEvent> pending = new ArrayDeque<>();
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+    
+    public AsyncHttpEventPublisherAdapter(RestTemplateConfig restTemplateConfig,
+                                          ObjectMapper objectMapper,
+                                          EventRetryScheduler eventRetryScheduler,
+                                          MeterRegistry meterRegistry,
+                                          @Value("${hexagonal.outbox.enabled:false}") boolean outboxEnabled,
+                                          @Value("${hexagonal.events.async.connect-timeout:2s}") Duration connectTimeout,
+                                          @Value("${hexagonal.events.async.request-timeout:5s}") Duration requestTimeout,
+                                          @Value("${hexagonal.events.async.max-in-flight:64}") int maxInFlight,
+                                          @Value("${hexagonal.events.async.backpressure:BLOCK}") BackpressurePolicy backpressurePolicy,
+                                          @Value("${hexagonal.events.async.block-timeout:1s}") Duration blockTimeout,
+                                          @Value("${hexagonal.events.async.pending-capacity:1000}") int pendingCapacity) {
+        this(HttpClient.newBuilder()
+                        .version(HttpClient.Version.HTTP_1_1)
+                        .connectTimeout(connectTimeout)
+                        .build(),
+                objectMapper, eventRetryScheduler, meterRegistry, URI.create(restTemplateConfig.getFullEventUrl()),
+                requestTimeout, maxInFlight, backpressurePolicy, blockTimeout, pendingCapacity);
+        if (outboxEnabled) {
+            throw new IllegalStateException(
+                    "hexagonal.events.async.enabled and hexagonal.outbox.enabled cannot both be true: every event would be sent twice");
+        }
+    }
+    
+    AsyncHttpEventPublisherAdapter(HttpClient httpClient,
+                                   ObjectMapper objectMapper,
+                                   EventRetryScheduler eventRetryScheduler,
+                                   MeterRegistry meterRegistry,
+                                   URI eventUri,
+                                   Duration requestTimeout,
+                                   int maxInFlight,
+                                   BackpressurePolicy backpressurePolicy,
+                                   Duration blockTimeout,
+                                   int pendingCapacity) {
+        this.httpClient = httpClient;
+        this.objectMapper = objectMapper;
+        this.eventRetryScheduler = eventRetryScheduler;
+        this.eventUri = eventUri;
+        this.requestTimeout = requestTimeout;
+        this.backpressurePolicy = backpressurePolicy;
+        this.blockTimeout = blockTimeout;
+        this.pendingCapacity = pendingCapacity;
+        this.inFlight = new Semaphore(maxInFlight);
+        this.rejectedCounter = shedCounter(meterRegistry, "rejected");
+        this.droppedCounter = shedCounter(meterRegistry, "dropped");
+    }
+    
+    /**
+     * 커밋된 도메인 이벤트를 전송합니다. (트랜잭션 밖에서 발행된 경우 즉시 전송)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onDomainEvent(DomainEvent event) {
+        if (event instanceof TodoEvent) {
+            // 외부에서 수신한 이벤트는 다시 내보내지 않음
+            return;
+        }
+        publishEvent(event);
+    }
+    
+    @Override
+    public void publishEvent(DomainEvent event) {
+        TodoEvent todoEvent;
+        try {
+            todoEvent = TodoEvent.from(event);
+        } catch (IllegalArgumentException e) {
+            log.error("이벤트 발행 실패: {}", e.getMessage());
+            return;
+        }
+        
+        if (inFlight.tryAcquire()) {
+            send(todoEvent);
+            return;
+        }
+        switch (backpressurePolicy) {
+            case BLOCK -> sendWhenAvailable(todoEvent);
+            case DROP_OLDEST -> enqueue(todoEvent);
+            case REJECT -> reject(todoEvent);
+        }
+    }
+    
+    public int getAvailablePermits() {
+        return inFlight.availablePermits();
+    }
+    
+    private void sendWhenAvailable(TodoEvent event) {
+        try {
+            if (inFlight.tryAcquire(blockTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                send(event);
+                return;
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        reject(event);
+    }
+    
+    private void enqueue(TodoEvent event) {
+        synchronized (pending) {
+            if (pending.size() >= pendingCapacity) {
+                TodoEvent dropped = pending.pollFirst();
+                droppedCounter.increment();
+                log.warn("이벤트 대기 큐가 가득 차서 가장 오래된 이벤트를 버림: {}", dropped);
+            }
+            pending.addLast(event);
+        }
+        // 큐에 넣는 사이에 진행 중이던 요청이 모두 끝났을 수 있으므로 직접 한 번 비움
+        drainPending();
+    }
+    
+    private void reject(TodoEvent event) {
+        rejectedCounter.increment();
+        log.warn("진행 중인 요청이 한도에 도달해서 이벤트를 거부함: {}", event);
+    }
+    
+    // inFlight 허가를 얻은 상태에서 호출
+    private void send(TodoEvent event) {
+        HttpRequest request;
+        try {
+            request = HttpRequest.newBuilder(eventUri)
+                    .timeout(requestTimeout)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(event)))
+                    .build();
+        } catch (JsonProcessingException e) {
+            inFlight.release();
+            log.error("이벤트 직렬화 실패: {}", e.getMessage());
+            return;
+        }
+        
+        httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, error) -> {
+                    inFlight.release();
+                    if (error != null) {
+                        log.error("이벤트 비동기 발행 실패: {}", error.getMessage());
+                        eventRetryScheduler.schedule(event, "async delivery failed: " + error.getMessage());
+                    } else if (response.statusCode() / 100 != 2) {
+                        log.error("Failed to send event: {}, status code: {}", event, response.statusCode());
+                        eventRetryScheduler.schedule(event, "async delivery failed: HTTP " + response.statusCode());
+                    } else {
+                        log.debug("Event sent successfully: {}", event);
+                    }
+                    drainPending();
+                });
+    }
+    
+    private static Counter shedCounter(MeterRegistry meterRegistry, String reason) {
+        return Counter.builder("events.async.rejected")
+                .description("Events shed because the in-flight request limit was reached")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+    
+    private void drainPending() {
+        while (inFlight.tryAcquire()) {
+            TodoEvent next;
+            synchronized (pending) {
+                next = pending.pollFirst();
+            }
+            if (next == null) {
+                inFlight.release();
+                return;
+            }
+            send(next);
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.rest;
+
+import com.example.hexagonalvslayered.common.RetryBackoff;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.DeadLetterEventPort;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 전송에 실패한 이벤트를 지수 백오프로 다시 전송하는 재시도 스케줄러
+ * 
+ * 1. schedule로 들어온 이벤트를 DelayQueue에 넣고 바로 반환 (호출 스레드는 대기하지 않음)
+ * 2. workers 개의 재시도 스레드가 시각이 된 이벤트를 꺼내 RestApiEventPublisherAdapter로 다시 전송
+ * 3. 재시도 대기 시간은 지터를 더한 지수 백오프 (RetryBackoff, 아웃박스 릴레이와 같은 설정을 사용)
+ * 4. max-attempts 번 시도해도 실패하면 데드 레터(DeadLetterEventPort)에 저장
+ * 5. 재시도를 기다리는 이벤트가 queue-capacity 개에 도달하면 새 재시도는 큐에 넣지 않고 바로 데드 레터에 저장
+ *    (수신 측 장애가 길어져도 메모리가 무한정 늘어나지 않도록 함)
+ * 
+ * 아웃박스 릴레이(OutboxRelay)의 전송 실패도 같은 백오프로 재시도되고, 모두 실패하면 같은 데드 레터 테이블에 저장되어
+ * DeadLetterReplayService로 함께 재전송할 수 있습니다.
+ * 
+ * 재시도는 다른 이벤트보다 늦게 도착할 수 있으므로, 수신 측은 eventId로 중복을 거르고
+ * updatedAt(이벤트 발생 시각, TodoEvent.from 참고)으로 순서를 판단해야 합니다.
+ * 종료 시 아직 재시도하지 않은 이벤트는 데드 레터에 저장되어 유실되지 않습니다.
+ */
+@Slf4j
+@Component
+public class EventRetryScheduler {
+    
+    private final RestApiEventPublisherAdapter publisher;
+    private final DeadLetterEventPort deadLetterEventPort;
+    private final RetryBackoff retryBackoff;
+    private final int queueCapacity;
+    
+    private final DelayQueue<RetryTask> retryQueue = new DelayQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final ExecutorService workers;
+    private volatile boolean running = true;
+    
+    public EventRetryScheduler(RestApiEventPublisherAdapter publisher,
+                               DeadLetterEventPort deadLetterEventPort,
+                               @Value("${hexagonal.events.retry.max-attempts:5}") int maxAttempts,
+                               @Value("${hexagonal.events.retry.initial-backoff:500ms}") Duration initialBackoff,
+                               @Value("${hexagonal.events.retry.max-backoff:30s}") Duration maxBackoff,
+                               @Value("${hexagonal.events.retry.workers:2}") int workerCount,
+                               @Value("${hexagonal.events.retry.queue-capacity:10000}") int queueCapacity) {
+        this.publisher = publisher;
+        this.deadLetterEventPort = deadLetterEventPort;
+        this.retryBackoff = new RetryBackoff(maxAttempts, initialBackoff, maxBackoff);
+        this.queueCapacity = queueCapacity;
+        this.workers = Executors.newFixedThreadPool(workerCount, new CustomizableThreadFactory("event-retry-"));
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::retryLoop);
+        }
+    }
+    
+    /**
+     * 첫 전송에 실패한 이벤트의 재시도를 예약합니다.
+     */
+    public void schedule(TodoEvent event, String reason) {
+        if (event.getEventId() == null) {
+            event.setEventId(UUID.randomUUID().toString());
+        }
+        reschedule(event, 1, reason);
+    }
+    
+    /**
+     * 재시도를 기다리는 이벤트 수
+     */
+    public int getPendingCount() {
+        return retryQueue.size();
+    }
+    
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        running = false;
+        workers.shutdownNow();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+        // DelayQueue.drainTo는 시각이 된 항목만 꺼내므로 반복자로 모두 꺼냄
+        List<RetryTask> remaining = new ArrayList<>(retryQueue);
+        retryQueue.clear();
+        remaining.forEach(task -> deadLetter(task, "shutdown before retry (" + task.reason + ")"));
+    }
+    
+    private void reschedule(TodoEvent event, int failedAttempts, String reason) {
+        if (retryBackoff.isExhausted(failedAttempts) || !running) {
+            deadLetter(new RetryTask(event, failedAttempts, reason, 0L), reason);
+            return;
+        }
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            deadLetter(new RetryTask(event, failedAttempts, reason, 0L), "retry queue full (" + reason + ")");
+            return;
+        }
+        long delay = retryBackoff.delayAfter(failedAttempts).toNanos();
+        retryQueue.put(new RetryTask(event, failedAttempts, reason, System.nanoTime() + delay));
+        log.debug("Retry {} of event {} scheduled in {} ms", failedAttempts, event.getEventId(),
+                TimeUnit.NANOSECONDS.toMillis(delay));
+    }
+    
+    private void retryLoop() {
+        while (running) {
+            RetryTask task;
+            try {
+                task = retryQueue.take();
+                queued.decrementAndGet();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            boolean sent;
+            try {
+                sent = publisher.sendTodoEvent(task.event);
+            } catch (RuntimeException e) {
+                sent = false;
+            }
+            if (!sent) {
+                reschedule(task.event, task.failedAttempts + 1, "retry " + task.failedAttempts + " failed");
+            }
+        }
+    }
+    
+    private void deadLetter(RetryTask task, String reason) {
+        try {
+            deadLetterEventPort.saveDeadLetter(task.event, task.failedAttempts, reason);
+            log.warn("Event {} moved to dead letter after {} attempts: {}",
+                    task.event.getEventId(), task.failedAttempts, reason);
+        } catch (RuntimeException e) {
+            log.error("데드 레터 저장 실패: {} ({})", task.event, e.getMessage());
+        }
+    }
+    
+    private static final class RetryTask implements Delayed {
+        
+        private final TodoEvent event;
+        private final int failedAttempts;
+        private final String reason;
+        private final long dueAt;
+        
+        private RetryTask(TodoEvent event, int failedAttempts, String reason, long dueAt) {
+            this.event = event;
+            this.failedAttempts = failedAttempts;
+            this.reason = reason;
+            this.dueAt = dueAt;
+        }
+        
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAt - System.nanoTime(), TimeUnit.NANOSECONDS);
+        }
+        
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAt, ((RetryTask) other).dueAt);
+        }
+    }
+}
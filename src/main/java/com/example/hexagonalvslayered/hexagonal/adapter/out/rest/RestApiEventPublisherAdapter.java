@@ -4,15 +4,19 @@ import com.example.hexagonalvslayered.hexagonal.application.port.out.EventPublis
 import com.example.hexagonalvslayered.hexagonal.application.port.out.PublishEventPort;
 import com.example.hexagonalvslayered.hexagonal.config.RestTemplateConfig;
 import com.example.hexagonalvslayered.hexagonal.domain.event.DomainEvent;
-import com.example.hexagonalvslayered.hexagonal.domain.event.TodoCompletedEvent;
-import com.example.hexagonalvslayered.hexagonal.domain.event.TodoCreatedEvent;
 import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import com.example.hexagonalvslayered.hexagonal.infrastructure.codec.TodoEventBinaryHttpMessageConverter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
 import java.util.UUID;
 
 @Slf4j
@@ -22,19 +26,35 @@ public class RestApiEventPublisherAdapter implements EventPublisherPort, Publish
 
     private final RestTemplate restTemplate;
     private final RestTemplateConfig restTemplateConfig;
+    
+    // 재시도 스케줄러가 이 어댑터로 재전송하므로 순환 참조를 피하기 위해 사용 시점에 조회
+    private final ObjectProvider<EventRetryScheduler> eventRetryScheduler;
+    
+    // 수신 측이 바이너리 형식을 거부(415)하면 이후로는 JSON으로만 전송
+    private volatile boolean binaryRejected;
 
     @Override
     public void publishEvent(DomainEvent event) {
         try {
-            TodoEvent todoEvent = convertToTodoEvent(event);
+            TodoEvent todoEvent = TodoEvent.from(event);
             publishTodoEvent(todoEvent);
         } catch (Exception e) {
             log.error("이벤트 발행 실패: {}", e.getMessage());
         }
     }
 
+    /**
+     * 이벤트를 전송하고, 실패하면 호출 스레드를 붙잡지 않고 재시도를 예약합니다.
+     */
     @Override
     public void publishTodoEvent(TodoEvent event) {
+        if (!sendTodoEvent(event)) {
+            eventRetryScheduler.ifAvailable(scheduler -> scheduler.schedule(event, "REST API delivery failed"));
+        }
+    }
+    
+    @Override
+    public boolean sendTodoEvent(TodoEvent event) {
         try {
             if (event.getEventId() == null) {
                 event.setEventId(UUID.randomUUID().toString());
@@ -42,37 +62,58 @@ public class RestApiEventPublisherAdapter implements EventPublisherPort, Publish
             
             log.info("Publishing todo event via REST API: {}", event);
             String eventEndpoint = restTemplateConfig.getFullEventUrl();
-            ResponseEntity<Void> response = restTemplate.postForEntity(eventEndpoint, event, Void.class);
+            ResponseEntity<Void> response = post(eventEndpoint, event);
             
             if (response.getStatusCode().is2xxSuccessful()) {
                 log.info("Event sent successfully: {}", event);
-            } else {
-                log.error("Failed to send event: {}, status code: {}", event, response.getStatusCode());
+                return true;
             }
+            log.error("Failed to send event: {}, status code: {}", event, response.getStatusCode());
+            return false;
         } catch (Exception e) {
             log.error("이벤트 REST API 발행 실패: {}", e.getMessage());
+            return false;
         }
     }
     
-    private TodoEvent convertToTodoEvent(DomainEvent event) {
-        if (event instanceof TodoCreatedEvent createdEvent) {
-            return TodoEvent.builder()
-                    .eventId(UUID.randomUUID().toString())
-                    .eventType(TodoEvent.EventType.CREATED.name())
-                    .todoId(createdEvent.getTodoId())
-                    .title(createdEvent.getTitle())
-                    .createdAt(event.getOccurredAt())
-                    .build();
-        } else if (event instanceof TodoCompletedEvent completedEvent) {
-            return TodoEvent.builder()
-                    .eventId(UUID.randomUUID().toString())
-                    .eventType(TodoEvent.EventType.COMPLETED.name())
-                    .todoId(completedEvent.getTodoId())
-                    .title(completedEvent.getTitle())
-                    .createdAt(event.getOccurredAt())
-                    .build();
-        } else {
-            throw new IllegalArgumentException("Unsupported event type: " + event.getClass().getName());
+    @Override
+    public boolean sendTodoEvents(List<TodoEvent> events) {
+        try {
+            events.stream()
+                    .filter(event -> event.getEventId() == null)
+                    .forEach(event -> event.setEventId(UUID.randomUUID().toString()));
+            
+            log.info("Publishing {} todo events via REST API", events.size());
+            String batchEndpoint = restTemplateConfig.getFullBatchEventUrl();
+            ResponseEntity<Void> response = post(batchEndpoint, events);
+            
+            if (response.getStatusCode().is2xxSuccessful()) {
+                log.info("{} events sent successfully", events.size());
+                return true;
+            }
+            log.error("Failed to send {} events, status code: {}", events.size(), response.getStatusCode());
+            return false;
+        } catch (Exception e) {
+            log.error("이벤트 REST API 일괄 발행 실패: {}", e.getMessage());
+            return false;
+        }
+    }
+    
+    /**
+     * 바이너리 형식을 사용하도록 설정되어 있으면 application/x-todo-event로 전송하고,
+     * 수신 측이 지원하지 않으면(415) 같은 본문을 JSON으로 다시 전송합니다.
+     */
+    private ResponseEntity<Void> post(String url, Object body) {
+        if (restTemplateConfig.isBinaryEvents() && !binaryRejected) {
+            HttpHeaders headers = new HttpHeaders();
+            headers.setContentType(TodoEventBinaryHttpMessageConverter.MEDIA_TYPE);
+            try {
+                return restTemplate.postForEntity(url, new HttpEntity<>(body, headers), Void.class);
+            } catch (HttpClientErrorException.UnsupportedMediaType e) {
+                binaryRejected = true;
+                log.warn("수신 측이 바이너리 이벤트 형식을 지원하지 않아 JSON으로 전환: {}", url);
+            }
         }
+        return restTemplate.postForEntity(url, body, Void.class);
     }
-} 
\ No newline at end of file
+}
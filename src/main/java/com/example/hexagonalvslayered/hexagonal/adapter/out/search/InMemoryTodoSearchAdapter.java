@@ -0,0 +1,278 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.search;
+
+import com.example.hexagonalvslayered.hexagonal.application.port.out.SearchTodoPort;
+import com.example.hexagonalvslayered.hexagonal.domain.TodoSnapshot;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.LongSupplier;
+import java.util.stream.Collectors;
+
+/**
+ * 메모리 역색인(inverted index) 기반 검색 어댑터
+ * 
+ * 1. 제목/설명을 소문자 단어로 분리해서 단어 → (Todo ID → 가중치) 포스팅 목록을 유지
+ *    (제목에 나온 단어는 설명보다 높은 가중치)
+ * 2. 검색 시 가장 짧은 포스팅 목록부터 교집합을 구하므로 전체 Todo 수가 아니라 후보 수에 비례한 비용으로 검색
+ * 3. 관련도 = 단어별 (가중치 × IDF)의 합, 드물게 나오는 단어일수록 높은 점수
+ * 4. 단어 사전은 정렬된 맵이므로 마지막 단어를 접두어 범위로 검색할 수 있음
+ *    (min-prefix-length보다 짧은 마지막 단어는 사전 대부분을 훑지 않도록 정확히 일치하는 단어만 검색)
+ *    접두어는 사전 순으로 최대 max-prefix-expansions 개의 단어로만 확장하고, 포스팅 목록을 합친 맵을 만들지 않고
+ *    교집합을 구하면서 단어별 목록을 직접 조회하므로 비용이 색인 크기가 아니라 확장한 단어 수에 비례
+ * 
+ * 조회 모델과 마찬가지로 버전을 비교해서 순서가 뒤바뀐 이벤트를 무시하고,
+ * 삭제된 ID는 tombstone으로 기록해서 다시 색인되지 않도록 합니다.
+ * tombstone-retention이 지난 tombstone과 빈 포스팅 목록은 삭제 시점에 정리합니다. (보존 기간마다 한 번)
+ * hexagonal.search.enabled=true인 경우에만 등록됩니다.
+ */
+@Component
+@ConditionalOnProperty(name = "hexagonal.search.enabled", havingValue = "true")
+public class InMemoryTodoSearchAdapter implements SearchTodoPort {
+    
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DESCRIPTION_WEIGHT = 1;
+    
+    private final ConcurrentSkipListMap<String, ConcurrentMap<Long, Integer>> postings = new ConcurrentSkipListMap<>();
+    private final ConcurrentMap<Long, IndexedTodo> indexedTodos = new ConcurrentHashMap<>();
+    // 삭제된 ID → 삭제 시각(nanoTime)
+    private final Map<Long, Long> tombstones = new ConcurrentHashMap<>();
+    
+    // 색인/삭제는 읽기 잠금을 함께 잡고, 빈 포스팅 목록 정리만 쓰기 잠금으로 배타 실행
+    // (정리하는 사이에 다른 Todo가 같은 단어를 추가해서 포스팅이 유실되지 않도록)
+    private final ReadWriteLock maintenanceLock = new ReentrantReadWriteLock();
+    
+    private final int minPrefixLength;
+    private final int maxPrefixExpansions;
+    private final long tombstoneRetentionNanos;
+    private final LongSupplier clock;
+    
+    private volatile long lastPrunedAt;
+    
+    public InMemoryTodoSearchAdapter(
+            @Value("${hexagonal.search.min-prefix-length:3}") int minPrefixLength,
+            @Value("${hexagonal.search.max-prefix-expansions:50}") int maxPrefixExpansions,
+            @Value("${hexagonal.search.tombstone-retention:10m}") Duration tombstoneRetention) {
+        this(minPrefixLength, maxPrefixExpansions, tombstoneRetention, System::nanoTime);
+    }
+    
+    InMemoryTodoSearchAdapter(int minPrefixLength, int maxPrefixExpansions, Duration tombstoneRetention,
+                              LongSupplier clock) {
+        this.minPrefixLength = minPrefixLength;
+        this.maxPrefixExpansions = maxPrefixExpansions;
+        this.tombstoneRetentionNanos = tombstoneRetention.toNanos();
+        this.clock = clock;
+        this.lastPrunedAt = clock.getAsLong();
+    }
+    
+    @Override
+    public void index(TodoSnapshot snapshot) {
+        Long id = snapshot.id();
+        if (id == null || tombstones.containsKey(id)) {
+            return;
+        }
+        Map<String, Integer> weights = new HashMap<>();
+        tokenize(snapshot.title()).forEach(term -> weights.merge(term, TITLE_WEIGHT, Integer::sum));
+        tokenize(snapshot.description()).forEach(term -> weights.merge(term, DESCRIPTION_WEIGHT, Integer::sum));
+        
+        maintenanceLock.readLock().lock();
+        try {
+            // 같은 Todo에 대한 색인/삭제는 ID 단위로 직렬화
+            indexedTodos.compute(id, (key, current) -> {
+                if (current != null && !isNewer(snapshot.version(), current.version())) {
+                    return current;
+                }
+                if (current != null) {
+                    unpost(key, current.weights());
+                }
+                if (tombstones.containsKey(key)) {
+                    return null;
+                }
+                weights.forEach((term, weight) ->
+                        postings.computeIfAbsent(term, t -> new ConcurrentHashMap<>()).put(key, weight));
+                return new IndexedTodo(snapshot.version(), weights);
+            });
+        } finally {
+            maintenanceLock.readLock().unlock();
+        }
+    }
+    
+    @Override
+    public void remove(Long todoId) {
+        long now = clock.getAsLong();
+        tombstones.put(todoId, now);
+        maintenanceLock.readLock().lock();
+        try {
+            indexedTodos.computeIfPresent(todoId, (key, current) -> {
+                unpost(key, current.weights());
+                return null;
+            });
+        } finally {
+            maintenanceLock.readLock().unlock();
+        }
+        pruneIfDue(now);
+    }
+    
+    @Override
+    public List<Long> search(String query, int limit) {
+        List<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+        
+        // 단어별 후보 (마지막 단어는 접두어로 확장)
+        List<TermMatches> candidates = new ArrayList<>(terms.size());
+        for (int i = 0; i < terms.size(); i++) {
+            String term = terms.get(i);
+            boolean prefix = i == terms.size() - 1 && term.length() >= minPrefixLength;
+            TermMatches matches = prefix ? prefixMatches(term) : exactMatches(term);
+            if (matches.size() == 0) {
+                return List.of();
+            }
+            candidates.add(matches);
+        }
+        candidates.sort(Comparator.comparingInt(TermMatches::size));
+        
+        int totalTodos = Math.max(indexedTodos.size(), 1);
+        Map<Long, Double> scores = new HashMap<>();
+        candidates.get(0).postingLists().forEach(matches -> matches.keySet().forEach(id -> scores.put(id, 0.0)));
+        for (TermMatches matches : candidates) {
+            double idf = Math.log(1.0 + (double) totalTodos / matches.size());
+            scores.entrySet().removeIf(entry -> {
+                Integer weight = matches.weight(entry.getKey());
+                if (weight == null) {
+                    return true;
+                }
+                entry.setValue(entry.getValue() + weight * idf);
+                return false;
+            });
+            if (scores.isEmpty()) {
+                return List.of();
+            }
+        }
+        
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.comparingByKey()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toList());
+    }
+    
+    private TermMatches exactMatches(String term) {
+        Map<Long, Integer> matches = postings.get(term);
+        return new TermMatches(matches != null ? List.of(matches) : List.of());
+    }
+    
+    private TermMatches prefixMatches(String prefix) {
+        // 범위 전체를 세지 않도록 앞에서부터 필요한 개수만 순회
+        List<Map<Long, Integer>> expansions = postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false)
+                .values().stream()
+                .filter(matches -> !matches.isEmpty())
+                .limit(maxPrefixExpansions)
+                .collect(Collectors.toList());
+        return new TermMatches(expansions);
+    }
+    
+    private void unpost(Long id, Map<String, Integer> weights) {
+        // 빈 포스팅 목록은 여기서 지우지 않고 pruneIfDue에서 쓰기 잠금을 잡고 정리
+        weights.keySet().forEach(term -> {
+            ConcurrentMap<Long, Integer> matches = postings.get(term);
+            if (matches != null) {
+                matches.remove(id);
+            }
+        });
+    }
+    
+    /**
+     * 보존 기간이 지난 tombstone과 빈 포스팅 목록을 정리합니다.
+     * 색인/삭제가 진행 중이면 기다리지 않고 다음 기회로 미룹니다.
+     */
+    private void pruneIfDue(long now) {
+        if (now - lastPrunedAt < tombstoneRetentionNanos || !maintenanceLock.writeLock().tryLock()) {
+            return;
+        }
+        try {
+            lastPrunedAt = now;
+            tombstones.values().removeIf(removedAt -> now - removedAt >= tombstoneRetentionNanos);
+            postings.values().removeIf(Map::isEmpty);
+        } finally {
+            maintenanceLock.writeLock().unlock();
+        }
+    }
+    
+    int tombstoneCount() {
+        return tombstones.size();
+    }
+    
+    int termCount() {
+        return postings.size();
+    }
+    
+    private static boolean isNewer(Long version, Long currentVersion) {
+        return currentVersion == null || (version != null && version > currentVersion);
+    }
+    
+    /**
+     * 문자/숫자가 아닌 문자를 기준으로 나누고 소문자로 변환합니다.
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> terms = new ArrayList<>();
+        int start = -1;
+        for (int i = 0; i <= text.length(); i++) {
+            boolean wordChar = i < text.length() && Character.isLetterOrDigit(text.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                terms.add(text.substring(start, i).toLowerCase(Locale.ROOT));
+                start = -1;
+            }
+        }
+        return terms;
+    }
+    
+    private record IndexedTodo(Long version, Map<String, Integer> weights) {
+    }
+    
+    /**
+     * 검색어 하나에 해당하는 포스팅 목록들 (정확히 일치하면 1개, 접두어면 확장한 단어별로 1개씩)
+     */
+    private record TermMatches(List<Map<Long, Integer>> postingLists) {
+        
+        // 여러 단어에 함께 나온 Todo는 중복으로 세므로 후보 수의 상한 (교집합 순서와 IDF 계산용)
+        int size() {
+            int size = 0;
+            for (Map<Long, Integer> matches : postingLists) {
+                size += matches.size();
+            }
+            return size;
+        }
+        
+        // 확장한 단어 중 가장 높은 가중치, 어느 단어에도 없으면 null
+        Integer weight(Long id) {
+            Integer best = null;
+            for (Map<Long, Integer> matches : postingLists) {
+                Integer weight = matches.get(id);
+                if (weight != null && (best == null || weight > best)) {
+                    best = weight;
+                }
+            }
+            return best;
+        }
+    }
+}
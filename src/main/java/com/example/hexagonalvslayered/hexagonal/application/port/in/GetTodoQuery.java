@@ -1,13 +1,59 @@
 package com.example.hexagonalvslayered.hexagonal.application.port.in;
 
 import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.hexagonal.domain.TodoFilter;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface GetTodoQuery {
     
     List<Todo> getAllTodos();
     
     Optional<Todo> getTodoById(Long id);
-} 
\ No newline at end of file
+    
+    /**
+     * 조건에 맞는 Todo를 정렬 기준에 따라 조회합니다. (최대 1000개)
+     */
+    List<Todo> getTodos(TodoFilter filter);
+    
+    /**
+     * 커서(afterId) 이후의 Todo를 한 페이지 조회합니다.
+     *
+     * @param afterId 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param limit 페이지 크기
+     */
+    TodoPage getTodosAfter(Long afterId, int limit);
+    
+    /**
+     * Todo 목록의 현재 버전 (목록 ETag 계산용)
+     */
+    long getTodoListVersion();
+    
+    /**
+     * 모든 Todo를 한 건씩 consumer에 전달합니다. (스트리밍 내보내기용)
+     */
+    void exportAllTodos(Consumer<Todo> consumer);
+    
+    class TodoPage {
+        private final List<Todo> todos;
+        private final Long nextCursor;
+        
+        public TodoPage(List<Todo> todos, Long nextCursor) {
+            this.todos = todos;
+            this.nextCursor = nextCursor;
+        }
+        
+        public List<Todo> getTodos() {
+            return todos;
+        }
+        
+        /**
+         * 다음 페이지 조회에 사용할 커서. 마지막 페이지이면 null
+         */
+        public Long getNextCursor() {
+            return nextCursor;
+        }
+    }
+}
\ No newline at end of file
@@ -2,10 +2,17 @@ package com.example.hexagonalvslayered.hexagonal.application.port.in;
 
 import com.example.hexagonalvslayered.hexagonal.domain.Todo;
 
+import java.util.List;
+
 public interface ManageTodoUseCase {
     
     Todo createTodo(CreateTodoCommand command);
     
+    /**
+     * 여러 Todo를 한 번에 생성합니다. 생성된 Todo마다 TodoCreatedEvent가 발행됩니다.
+     */
+    List<Todo> createTodos(List<CreateTodoCommand> commands);
+    
     Todo updateTodo(Long id, UpdateTodoCommand command);
     
     void deleteTodo(Long id);
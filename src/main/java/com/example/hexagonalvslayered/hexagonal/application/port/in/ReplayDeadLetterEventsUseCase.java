@@ -0,0 +1,18 @@
+package com.example.hexagonalvslayered.hexagonal.application.port.in;
+
+public interface ReplayDeadLetterEventsUseCase {
+    
+    /**
+     * 데드 레터 이벤트를 저장된 순서대로 최대 limit 개 다시 전송합니다.
+     * 전송에 성공한 이벤트만 데드 레터에서 삭제합니다.
+     */
+    ReplayResult replayDeadLetters(int limit);
+    
+    /**
+     * @param replayed  다시 전송해서 데드 레터에서 삭제한 이벤트 수
+     * @param failed    읽었지만 전송하지 못한 이벤트 수 (실패 이후 전송하지 않은 이벤트 포함)
+     * @param remaining 다시 전송한 뒤 데드 레터에 남아 있는 이벤트 수
+     */
+    record ReplayResult(int replayed, int failed, long remaining) {
+    }
+}
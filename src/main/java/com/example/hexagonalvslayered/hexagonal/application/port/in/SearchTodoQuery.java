@@ -0,0 +1,16 @@
+package com.example.hexagonalvslayered.hexagonal.application.port.in;
+
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+
+import java.util.List;
+
+public interface SearchTodoQuery {
+    
+    /**
+     * 제목과 설명에서 키워드로 Todo를 검색합니다. (관련도 순)
+     *
+     * @param query 검색어 (공백으로 구분된 단어는 AND로 결합)
+     * @param limit 최대 결과 수
+     */
+    List<Todo> searchTodos(String query, int limit);
+}
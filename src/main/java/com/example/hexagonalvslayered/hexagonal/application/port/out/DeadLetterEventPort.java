@@ -0,0 +1,32 @@
+package com.example.hexagonalvslayered.hexagonal.application.port.out;
+
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 재시도를 모두 소진해서 전송하지 못한 이벤트를 보관하는 저장소 (데드 레터)
+ */
+public interface DeadLetterEventPort {
+    
+    /**
+     * 이벤트를 데드 레터로 저장합니다. 같은 eventId가 이미 있으면 시도 횟수와 사유를 갱신합니다.
+     *
+     * @param attempts 지금까지의 전송 시도 횟수
+     * @param reason 마지막 실패 사유
+     */
+    void saveDeadLetter(TodoEvent event, int attempts, String reason);
+    
+    /**
+     * 저장된 순서대로 최대 limit 개의 데드 레터 이벤트를 조회합니다.
+     */
+    List<TodoEvent> loadDeadLetters(int limit);
+    
+    /**
+     * 다시 전송된 이벤트를 데드 레터에서 삭제합니다.
+     */
+    void deleteDeadLetters(Collection<String> eventIds);
+    
+    long countDeadLetters();
+}
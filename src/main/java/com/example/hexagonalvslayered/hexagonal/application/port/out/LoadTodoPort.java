@@ -1,13 +1,46 @@
 package com.example.hexagonalvslayered.hexagonal.application.port.out;
 
 import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.hexagonal.domain.TodoFilter;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 public interface LoadTodoPort {
     
     List<Todo> loadAllTodos();
     
     Optional<Todo> loadTodoById(Long id);
+    
+    /**
+     * 주어진 ID의 Todo를 한 번에 조회합니다. (순서는 보장하지 않으며, 없는 ID는 결과에서 빠짐)
+     */
+    List<Todo> loadTodosByIds(Collection<Long> ids);
+    
+    /**
+     * afterId 보다 큰 ID를 가진 Todo를 ID 오름차순으로 최대 limit 개 조회합니다.
+     * (키셋 페이지네이션: 테이블 크기와 무관하게 페이지당 비용이 일정함)
+     *
+     * @param afterId 이전 페이지의 마지막 ID (첫 페이지는 null)
+     * @param limit 조회할 최대 개수
+     */
+    List<Todo> loadTodosAfter(Long afterId, int limit);
+    
+    /**
+     * 조건에 맞는 Todo를 정렬 기준에 따라 최대 limit 개 조회합니다.
+     */
+    List<Todo> loadTodos(TodoFilter filter, int limit);
+    
+    /**
+     * Todo 목록의 현재 쓰기 버전을 반환합니다. 쓰기가 커밋될 때마다 증가하며 DB를 조회하지 않습니다.
+     */
+    long loadTodoListVersion();
+    
+    /**
+     * 모든 Todo를 ID 순서대로 한 건씩 읽어 consumer에 전달합니다.
+     * 전체 목록을 메모리에 적재하지 않으므로 대량 내보내기에 사용합니다.
+     */
+    void streamAllTodos(Consumer<Todo> consumer);
 } 
\ No newline at end of file
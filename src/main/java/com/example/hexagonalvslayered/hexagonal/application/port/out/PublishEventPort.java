@@ -2,6 +2,19 @@ package com.example.hexagonalvslayered.hexagonal.application.port.out;
 
 import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
 
+import java.util.List;
+
 public interface PublishEventPort {
     void publishTodoEvent(TodoEvent event);
+    
+    /**
+     * 이벤트를 전송하고 성공 여부를 반환합니다. (실패해도 예외를 던지지 않음)
+     */
+    boolean sendTodoEvent(TodoEvent event);
+    
+    /**
+     * 여러 이벤트를 한 번의 요청으로 전송하고 성공 여부를 반환합니다. (전체 성공 또는 전체 실패)
+     * 아웃박스 릴레이와 데드 레터 재전송이 hexagonal.events.batch.max-size 개씩 묶어 호출합니다.
+     */
+    boolean sendTodoEvents(List<TodoEvent> events);
 } 
\ No newline at end of file
@@ -2,9 +2,28 @@ package com.example.hexagonalvslayered.hexagonal.application.port.out;
 
 import com.example.hexagonalvslayered.hexagonal.domain.Todo;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 public interface SaveTodoPort {
     
     Todo saveTodo(Todo todo);
     
-    void deleteTodo(Long id);
+    /**
+     * 여러 Todo를 한 번에 저장합니다. (JDBC 배치 INSERT)
+     */
+    List<Todo> saveAllTodos(List<Todo> todos);
+    
+    /**
+     * Todo를 완료 상태로 변경하고 변경된 Todo를 반환합니다. (조회 없이 한 문장으로 처리)
+     *
+     * @return 대상 Todo가 없으면 Optional.empty()
+     */
+    Optional<Todo> markTodoCompleted(Long id, LocalDateTime completedAt);
+    
+    /**
+     * @return 삭제된 Todo가 있으면 true
+     */
+    boolean deleteTodo(Long id);
 } 
\ No newline at end of file
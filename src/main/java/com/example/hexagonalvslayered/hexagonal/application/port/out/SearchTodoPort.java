@@ -0,0 +1,24 @@
+package com.example.hexagonalvslayered.hexagonal.application.port.out;
+
+import com.example.hexagonalvslayered.hexagonal.domain.TodoSnapshot;
+
+import java.util.List;
+
+/**
+ * Todo 키워드 검색 인덱스
+ */
+public interface SearchTodoPort {
+    
+    /**
+     * 스냅샷의 제목과 설명을 색인합니다. 이미 더 최신 버전이 색인되어 있거나 삭제된 Todo이면 무시합니다.
+     */
+    void index(TodoSnapshot snapshot);
+    
+    void remove(Long todoId);
+    
+    /**
+     * 검색어의 모든 단어를 포함하는 Todo의 ID를 관련도 순으로 최대 limit 개 반환합니다.
+     * 마지막 단어는 접두어로 검색합니다. (입력 중 검색 지원)
+     */
+    List<Long> search(String query, int limit);
+}
@@ -1,5 +1,7 @@
 package com.example.hexagonalvslayered.hexagonal.application.port.out;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 헥사고날 아키텍처의 아웃바운드 포트 인터페이스
  * 
@@ -22,4 +24,15 @@ public interface SendNotificationPort {
      * @return 알림 전송 성공 여부
      */
     boolean sendCompletionNotification(Long todoId, String title);
+    
+    /**
+     * 완료 알림 전송을 요청하고, 전송 결과를 기다리지 않고 반환합니다.
+     * 
+     * 구현체는 짧은 시간 동안 들어온 요청을 모아 한 번에 전송할 수 있습니다.
+     * 
+     * @param todoId Todo ID
+     * @param title Todo 제목
+     * @return 알림 전송 성공 여부 (전송이 끝나면 완료됨)
+     */
+    CompletableFuture<Boolean> sendCompletionNotificationAsync(Long todoId, String title);
 } 
\ No newline at end of file
@@ -0,0 +1,40 @@
+package com.example.hexagonalvslayered.hexagonal.application.port.out;
+
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.hexagonal.domain.TodoSnapshot;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * 도메인 이벤트로 갱신되는 조회 전용 모델 (CQRS의 Query 측 저장소)
+ */
+public interface TodoReadModelPort {
+    
+    /**
+     * 스냅샷을 반영합니다. 이미 더 최신 버전이 반영되어 있거나 삭제된 Todo이면 무시합니다.
+     */
+    void upsert(TodoSnapshot snapshot);
+    
+    void remove(Long todoId);
+    
+    List<Todo> findAll();
+    
+    /**
+     * ID 순으로 모든 Todo를 한 건씩 consumer에 전달합니다. (전체 목록을 복사하지 않음)
+     */
+    void forEach(Consumer<Todo> consumer);
+    
+    Optional<Todo> findById(Long id);
+    
+    /**
+     * ID 순으로 afterId 이후의 Todo를 최대 limit 건 조회합니다.
+     */
+    List<Todo> findAfter(Long afterId, int limit);
+    
+    /**
+     * 조회 모델의 현재 버전 (반영된 변경이 있을 때마다 증가, 목록 ETag 계산용)
+     */
+    long version();
+}
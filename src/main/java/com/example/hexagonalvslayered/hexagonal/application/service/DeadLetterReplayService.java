@@ -0,0 +1,61 @@
+package com.example.hexagonalvslayered.hexagonal.application.service;
+
+import com.example.hexagonalvslayered.hexagonal.application.port.in.ReplayDeadLetterEventsUseCase;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.DeadLetterEventPort;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.PublishEventPort;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 데드 레터 이벤트 재전송 서비스
+ * 
+ * 데드 레터를 저장된 순서대로 읽어 최대 events-per-request 개씩 한 번의 요청으로 다시 전송하고,
+ * 전송에 성공한 이벤트만 삭제합니다. 한 요청이 실패하면 순서를 지키고 장애 중인 수신 측에 요청을 더 보내지 않도록
+ * 나머지 이벤트도 전송하지 않으며, 실패한 이벤트부터 다음 재전송 요청까지 남아 있습니다.
+ * 수신 측은 eventId로 중복을 걸러낼 수 있으므로 같은 이벤트를 여러 번 재전송해도 안전합니다.
+ */
+@Slf4j
+@Service
+public class DeadLetterReplayService implements ReplayDeadLetterEventsUseCase {
+    
+    private static final int MAX_REPLAY_SIZE = 1000;
+    
+    private final DeadLetterEventPort deadLetterEventPort;
+    private final PublishEventPort publishEventPort;
+    private final int eventsPerRequest;
+    
+    public DeadLetterReplayService(DeadLetterEventPort deadLetterEventPort,
+                                   PublishEventPort publishEventPort,
+                                   @Value("${hexagonal.events.batch.max-size:100}") int eventsPerRequest) {
+        this.deadLetterEventPort = deadLetterEventPort;
+        this.publishEventPort = publishEventPort;
+        this.eventsPerRequest = Math.max(eventsPerRequest, 1);
+    }
+    
+    @Override
+    public ReplayResult replayDeadLetters(int limit) {
+        List<TodoEvent> events = deadLetterEventPort.loadDeadLetters(Math.min(Math.max(limit, 1), MAX_REPLAY_SIZE));
+        List<String> replayedIds = new ArrayList<>(events.size());
+        for (int from = 0; from < events.size(); from += eventsPerRequest) {
+            List<TodoEvent> chunk = events.subList(from, Math.min(from + eventsPerRequest, events.size()));
+            boolean sent = chunk.size() == 1
+                    ? publishEventPort.sendTodoEvent(chunk.get(0))
+                    : publishEventPort.sendTodoEvents(chunk);
+            if (!sent) {
+                break;
+            }
+            chunk.forEach(event -> replayedIds.add(event.getEventId()));
+        }
+        if (!replayedIds.isEmpty()) {
+            deadLetterEventPort.deleteDeadLetters(replayedIds);
+        }
+        int failed = events.size() - replayedIds.size();
+        log.info("Replayed {} dead-letter events ({} failed)", replayedIds.size(), failed);
+        return new ReplayResult(replayedIds.size(), failed, deadLetterEventPort.countDeadLetters());
+    }
+}
@@ -1,12 +1,17 @@
 package com.example.hexagonalvslayered.hexagonal.application.service;
 
+import com.example.hexagonalvslayered.common.jfr.DomainEventPublishEvent;
 import com.example.hexagonalvslayered.hexagonal.application.port.in.GetTodoQuery;
 import com.example.hexagonalvslayered.hexagonal.application.port.in.ManageTodoUseCase;
 import com.example.hexagonalvslayered.hexagonal.application.port.out.EventPublisherPort;
 import com.example.hexagonalvslayered.hexagonal.application.port.out.LoadTodoPort;
 import com.example.hexagonalvslayered.hexagonal.application.port.out.SaveTodoPort;
 import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.hexagonal.domain.TodoFilter;
+import com.example.hexagonalvslayered.hexagonal.domain.event.DomainEvent;
 import com.example.hexagonalvslayered.hexagonal.domain.event.TodoCreatedEvent;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoDeletedEvent;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoUpdatedEvent;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -15,6 +20,8 @@ import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * 헥사고날 아키텍처의 서비스 계층 구현
@@ -31,6 +38,9 @@ import java.util.Optional;
 @RequiredArgsConstructor
 public class HexagonalTodoService implements GetTodoQuery, ManageTodoUseCase {
     
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_FILTER_RESULTS = 1000;
+    
     // 헥사고날 아키텍처에서는 서비스가 구체적인 구현체가 아닌 포트 인터페이스에 의존
     // 이를 통해 외부 시스템과의 결합도를 낮춤
     private final LoadTodoPort loadTodoPort;
@@ -47,6 +57,35 @@ public class HexagonalTodoService implements GetTodoQuery, ManageTodoUseCase {
         return loadTodoPort.loadTodoById(id);
     }
     
+    @Override
+    public List<Todo> getTodos(TodoFilter filter) {
+        return loadTodoPort.loadTodos(filter, MAX_FILTER_RESULTS);
+    }
+    
+    @Override
+    public TodoPage getTodosAfter(Long afterId, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        
+        // 한 건을 더 조회해서 다음 페이지 존재 여부를 판단 (별도의 count 쿼리 없음)
+        List<Todo> todos = loadTodoPort.loadTodosAfter(afterId, pageSize + 1);
+        if (todos.size() <= pageSize) {
+            return new TodoPage(todos, null);
+        }
+        
+        List<Todo> page = todos.subList(0, pageSize);
+        return new TodoPage(page, page.get(pageSize - 1).getId());
+    }
+    
+    @Override
+    public long getTodoListVersion() {
+        return loadTodoPort.loadTodoListVersion();
+    }
+    
+    @Override
+    public void exportAllTodos(Consumer<Todo> consumer) {
+        loadTodoPort.streamAllTodos(consumer);
+    }
+    
     @Override
     @Transactional
     public Todo createTodo(CreateTodoCommand command) {
@@ -62,7 +101,7 @@ public class HexagonalTodoService implements GetTodoQuery, ManageTodoUseCase {
         Todo savedTodo = saveTodoPort.saveTodo(todo);
         
         // 도메인 이벤트 등록
-        TodoCreatedEvent event = new TodoCreatedEvent(savedTodo.getId(), savedTodo.getTitle());
+        TodoCreatedEvent event = new TodoCreatedEvent(savedTodo.toSnapshot());
         savedTodo.registerEvent(event);
         
         // 이벤트 발행
@@ -71,6 +110,32 @@ public class HexagonalTodoService implements GetTodoQuery, ManageTodoUseCase {
         return savedTodo;
     }
     
+    @Override
+    @Transactional
+    public List<Todo> createTodos(List<CreateTodoCommand> commands) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Todo> todos = commands.stream()
+                .map(command -> Todo.builder()
+                        .title(command.getTitle())
+                        .description(command.getDescription())
+                        .completed(false)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build())
+                .collect(Collectors.toList());
+        
+        // 한 번의 포트 호출로 저장 (어댑터에서 JDBC 배치 INSERT로 처리)
+        List<Todo> savedTodos = saveTodoPort.saveAllTodos(todos);
+        
+        // 생성된 Todo마다 도메인 이벤트 등록 및 발행
+        savedTodos.forEach(savedTodo -> {
+            savedTodo.registerEvent(new TodoCreatedEvent(savedTodo.toSnapshot()));
+            publishEvents(savedTodo);
+        });
+        
+        return savedTodos;
+    }
+    
     @Override
     @Transactional
     public Todo updateTodo(Long id, UpdateTodoCommand command) {
@@ -82,7 +147,10 @@ public class HexagonalTodoService implements GetTodoQuery, ManageTodoUseCase {
         todo.update(command.getTitle(), command.getDescription());
         
         Todo updatedTodo = saveTodoPort.saveTodo(todo);
-        publishEvents(todo);
+        
+        // 도메인 이벤트 등록 및 발행 (저장 후 증가된 버전을 포함)
+        updatedTodo.registerEvent(new TodoUpdatedEvent(updatedTodo.toSnapshot()));
+        publishEvents(updatedTodo);
         
         return updatedTodo;
     }
@@ -90,29 +158,29 @@ public class HexagonalTodoService implements GetTodoQuery, ManageTodoUseCase {
     @Override
     @Transactional
     public void deleteTodo(Long id) {
-        if (!loadTodoPort.loadTodoById(id).isPresent()) {
+        // 존재 여부 조회 없이 DELETE 한 문장으로 처리하고, 삭제된 행 수로 존재 여부를 판단
+        if (!saveTodoPort.deleteTodo(id)) {
             throw new RuntimeException("Todo not found with id: " + id);
         }
-        saveTodoPort.deleteTodo(id);
+        
+        // 삭제된 Todo 객체가 없으므로 이벤트를 직접 발행
+        publishEvent(new TodoDeletedEvent(id));
     }
     
     @Override
     @Transactional
     public Todo completeTodo(Long id) {
-        Todo todo = loadTodoPort.loadTodoById(id)
+        // 조회 후 저장(SELECT + merge 시 SELECT + UPDATE) 대신
+        // 완료 처리와 변경된 행 조회를 한 문장으로 수행하는 포트를 사용
+        LocalDateTime completedAt = LocalDateTime.now();
+        Todo completedTodo = saveTodoPort.markTodoCompleted(id, completedAt)
                 .orElseThrow(() -> new RuntimeException("Todo not found with id: " + id));
         
-        // 헥사고날 아키텍처에서는 도메인 객체가 비즈니스 로직을 포함하는 풍부한 객체로 설계됨
-        // 도메인 로직(완료 처리)이 도메인 객체 내부에 캡슐화됨
-        // 도메인 객체 내부에서 이벤트 발생
-        todo.markAsCompleted();
-        
-        Todo updatedTodo = saveTodoPort.saveTodo(todo);
+        // 완료 상태 반영과 도메인 이벤트 등록은 도메인 객체가 담당
+        completedTodo.applyCompletion(completedAt);
+        publishEvents(completedTodo);
         
-        // 도메인 이벤트 발행
-        publishEvents(todo);
-        
-        return updatedTodo;
+        return completedTodo;
     }
     
     /**
@@ -120,12 +188,19 @@ public class HexagonalTodoService implements GetTodoQuery, ManageTodoUseCase {
      * 이벤트 발행 실패는 핵심 비즈니스 로직에 영향을 주지 않습니다.
      */
     private void publishEvents(Todo todo) {
-        todo.pullDomainEvents().forEach(event -> {
-            try {
-                eventPublisherPort.publishEvent(event);
-            } catch (Exception e) {
-                log.error("이벤트 발행 실패: {}", e.getMessage());
-            }
-        });
+        todo.pullDomainEvents().forEach(this::publishEvent);
+    }
+    
+    private void publishEvent(DomainEvent event) {
+        DomainEventPublishEvent recording = DomainEventPublishEvent.start(event.getClass().getSimpleName(), event.getTodoId());
+        boolean published = false;
+        try {
+            eventPublisherPort.publishEvent(event);
+            published = true;
+        } catch (Exception e) {
+            log.error("이벤트 발행 실패: {}", e.getMessage());
+        } finally {
+            recording.finish(published);
+        }
     }
 } 
\ No newline at end of file
@@ -0,0 +1,115 @@
+package com.example.hexagonalvslayered.hexagonal.application.service;
+
+import com.example.hexagonalvslayered.hexagonal.application.port.in.GetTodoQuery;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.LoadTodoPort;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.TodoReadModelPort;
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.hexagonal.domain.TodoFilter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * 조회 모델에서 Todo를 조회하는 GetTodoQuery 구현 (CQRS)
+ * 
+ * 쓰기(ManageTodoUseCase)는 HexagonalTodoService가 그대로 처리하고,
+ * 조회는 도메인 이벤트로 갱신되는 조회 모델에서 처리하므로 DB 커넥션을 사용하지 않습니다.
+ * 애플리케이션 시작 시 LoadTodoPort로 조회 모델을 다시 구성하며,
+ * 구성이 끝나기 전까지는 LoadTodoPort에서 조회합니다.
+ */
+@Slf4j
+@Primary
+@Service
+@ConditionalOnProperty(name = "hexagonal.read-model.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ReadModelTodoQueryService implements GetTodoQuery {
+    
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_FILTER_RESULTS = 1000;
+    
+    private final TodoReadModelPort todoReadModelPort;
+    private final LoadTodoPort loadTodoPort;
+    
+    private volatile boolean ready;
+    
+    /**
+     * 저장소의 모든 Todo로 조회 모델을 구성합니다.
+     * 구성 중에 도착한 이벤트와 겹치더라도 조회 모델이 버전을 비교하므로 이전 상태로 덮어쓰지 않습니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        loadTodoPort.streamAllTodos(todo -> todoReadModelPort.upsert(todo.toSnapshot()));
+        ready = true;
+        log.info("Todo read model rebuilt in {} ms", System.currentTimeMillis() - startedAt);
+    }
+    
+    @Override
+    public List<Todo> getAllTodos() {
+        return ready ? todoReadModelPort.findAll() : loadTodoPort.loadAllTodos();
+    }
+    
+    @Override
+    public Optional<Todo> getTodoById(Long id) {
+        return ready ? todoReadModelPort.findById(id) : loadTodoPort.loadTodoById(id);
+    }
+    
+    @Override
+    public List<Todo> getTodos(TodoFilter filter) {
+        if (!ready) {
+            return loadTodoPort.loadTodos(filter, MAX_FILTER_RESULTS);
+        }
+        // 조건에 맞는 Todo만 모아서 정렬 (전체 목록을 복사하지 않음)
+        List<Todo> matches = new ArrayList<>();
+        todoReadModelPort.forEach(todo -> {
+            if (filter.matches(todo)) {
+                matches.add(todo);
+            }
+        });
+        return matches.stream()
+                .sorted(filter.comparator())
+                .limit(MAX_FILTER_RESULTS)
+                .collect(Collectors.toList());
+    }
+    
+    @Override
+    public TodoPage getTodosAfter(Long afterId, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        
+        // 한 건을 더 조회해서 다음 페이지 존재 여부를 판단
+        List<Todo> todos = ready
+                ? todoReadModelPort.findAfter(afterId, pageSize + 1)
+                : loadTodoPort.loadTodosAfter(afterId, pageSize + 1);
+        if (todos.size() <= pageSize) {
+            return new TodoPage(todos, null);
+        }
+        
+        List<Todo> page = todos.subList(0, pageSize);
+        return new TodoPage(page, page.get(pageSize - 1).getId());
+    }
+    
+    @Override
+    public long getTodoListVersion() {
+        // 조회 모델은 커밋 이후 비동기로 갱신되므로, 목록 ETag도 조회 모델의 버전을 기준으로 계산
+        return ready ? todoReadModelPort.version() : loadTodoPort.loadTodoListVersion();
+    }
+    
+    @Override
+    public void exportAllTodos(Consumer<Todo> consumer) {
+        if (ready) {
+            todoReadModelPort.forEach(consumer);
+        } else {
+            loadTodoPort.streamAllTodos(consumer);
+        }
+    }
+}
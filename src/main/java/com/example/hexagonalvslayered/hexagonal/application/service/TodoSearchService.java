@@ -0,0 +1,60 @@
+package com.example.hexagonalvslayered.hexagonal.application.service;
+
+import com.example.hexagonalvslayered.hexagonal.application.port.in.SearchTodoQuery;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.LoadTodoPort;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.SearchTodoPort;
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 키워드 검색 서비스
+ * 
+ * 검색 인덱스(SearchTodoPort)에서 관련도 순으로 ID를 찾고, 해당 Todo는 LoadTodoPort로 한 번에 조회합니다.
+ * 인덱스는 도메인 이벤트로 갱신되며, 애플리케이션 시작 시 저장소의 모든 Todo로 다시 구성합니다.
+ * 인덱스가 메모리를 사용하므로 hexagonal.search.enabled=true인 경우에만 등록됩니다.
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(name = "hexagonal.search.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class TodoSearchService implements SearchTodoQuery {
+    
+    private static final int MAX_SEARCH_RESULTS = 100;
+    
+    private final SearchTodoPort searchTodoPort;
+    private final LoadTodoPort loadTodoPort;
+    
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildIndex() {
+        long startedAt = System.currentTimeMillis();
+        loadTodoPort.streamAllTodos(todo -> searchTodoPort.index(todo.toSnapshot()));
+        log.info("Todo search index rebuilt in {} ms", System.currentTimeMillis() - startedAt);
+    }
+    
+    @Override
+    public List<Todo> searchTodos(String query, int limit) {
+        List<Long> ids = searchTodoPort.search(query, Math.min(Math.max(limit, 1), MAX_SEARCH_RESULTS));
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        
+        // 인덱스의 관련도 순서를 유지 (색인 직후 삭제된 Todo는 제외)
+        Map<Long, Todo> todosById = loadTodoPort.loadTodosByIds(ids).stream()
+                .collect(Collectors.toMap(Todo::getId, Function.identity()));
+        return ids.stream()
+                .map(todosById::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+}
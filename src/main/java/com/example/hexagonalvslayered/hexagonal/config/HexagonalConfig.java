@@ -5,7 +5,11 @@ import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.transaction.annotation.EnableTransactionManagement;
 
 @Configuration
-@EnableJpaRepositories(basePackages = "com.example.hexagonalvslayered.hexagonal.adapter.out.persistence")
+@EnableJpaRepositories(basePackages = {
+        "com.example.hexagonalvslayered.hexagonal.adapter.out.persistence",
+        "com.example.hexagonalvslayered.hexagonal.adapter.out.outbox",
+        "com.example.hexagonalvslayered.hexagonal.adapter.out.deadletter"
+})
 @EnableTransactionManagement
 public class HexagonalConfig {
 } 
\ No newline at end of file
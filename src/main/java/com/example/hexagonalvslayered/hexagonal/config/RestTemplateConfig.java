@@ -29,9 +29,35 @@ public class RestTemplateConfig {
         return notificationServiceUrl + eventsEndpoint;
     }
     
+    public String getFullBatchEventUrl() {
+        return getFullEventUrl() + "/batch";
+    }
+    
+    @Value("${spring.rest.binary-events:false}")
+    private boolean binaryEvents;
+    
+    /**
+     * true이면 이벤트를 application/x-todo-event 바이너리 형식으로 전송합니다. (수신 측이 415로 거부하면 JSON으로 전환)
+     */
+    public boolean isBinaryEvents() {
+        return binaryEvents;
+    }
+    
+    @Value("${spring.rest.connect-timeout:2s}")
+    private Duration connectTimeout;
+    
+    @Value("${spring.rest.read-timeout:5s}")
+    private Duration readTimeout;
+    
+    /**
+     * 응답하지 않는 수신 측이 호출 스레드를 무한정 붙잡지 않도록 연결/읽기 타임아웃을 설정합니다.
+     * (RestTemplateBuilder는 클래스패스에 맞는 HTTP 클라이언트를 선택하며, 커넥션은 keep-alive로 재사용됨)
+     */
     @Bean
-    public RestTemplate restTemplate() {
-        return new RestTemplateBuilder()
+    public RestTemplate restTemplate(RestTemplateBuilder restTemplateBuilder) {
+        return restTemplateBuilder
+                .connectTimeout(connectTimeout)
+                .readTimeout(readTimeout)
                 .build();
     }
 } 
\ No newline at end of file
@@ -12,6 +12,7 @@ import lombok.ToString;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -39,9 +40,10 @@ public class Todo {
     private boolean completed;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
     
-    @Builder.Default
-    private List<DomainEvent> domainEvents = new ArrayList<>();
+    // 이벤트를 처음 등록할 때 생성 (조회만 하는 Todo는 목록을 할당하지 않음)
+    private List<DomainEvent> domainEvents;
     
     /**
      * ID, 제목, 완료 상태만 초기화하는 생성자
@@ -52,13 +54,36 @@ public class Todo {
         this.completed = completed;
         this.createdAt = LocalDateTime.now();
         this.updatedAt = LocalDateTime.now();
-        this.domainEvents = new ArrayList<>();
+    }
+    
+    /**
+     * 저장된 상태로 Todo를 복원하는 생성자 (조회 쿼리가 결과 행에서 바로 생성할 때 사용)
+     */
+    public Todo(Long id, String title, String description, boolean completed,
+                LocalDateTime createdAt, LocalDateTime updatedAt, Long version) {
+        this.id = id;
+        this.title = title;
+        this.description = description;
+        this.completed = completed;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.version = version;
+    }
+    
+    /**
+     * 아직 꺼내지 않은 도메인 이벤트 목록을 반환합니다. (읽기 전용, 이벤트 등록은 registerEvent로만 가능)
+     */
+    public List<DomainEvent> getDomainEvents() {
+        return domainEvents != null ? Collections.unmodifiableList(domainEvents) : List.of();
     }
     
     /**
      * 발생한 도메인 이벤트를 등록합니다.
      */
     public void registerEvent(DomainEvent event) {
+        if (this.domainEvents == null) {
+            this.domainEvents = new ArrayList<>(2);
+        }
         this.domainEvents.add(event);
     }
     
@@ -66,22 +91,38 @@ public class Todo {
      * 발생한 도메인 이벤트 목록을 반환하고 초기화합니다.
      */
     public List<DomainEvent> pullDomainEvents() {
-        List<DomainEvent> events = new ArrayList<>(this.domainEvents);
-        this.domainEvents.clear();
+        List<DomainEvent> events = domainEvents != null ? Collections.unmodifiableList(domainEvents) : List.of();
+        this.domainEvents = null;
         return events;
     }
     
+    /**
+     * 현재 상태를 불변 스냅샷으로 반환합니다.
+     */
+    public TodoSnapshot toSnapshot() {
+        return new TodoSnapshot(id, title, description, completed, createdAt, updatedAt, version);
+    }
+    
     /**
      * Todo를 완료 상태로 변경하는 비즈니스 로직
      * 헥사고날 아키텍처에서는 이러한 상태 변경 로직이 도메인 객체 내부에 캡슐화됨
      * 상태 변경 시 도메인 이벤트를 발행함
      */
     public void markAsCompleted() {
+        applyCompletion(LocalDateTime.now());
+    }
+    
+    /**
+     * completedAt 시각에 완료된 상태를 반영하고 TodoCompletedEvent를 등록합니다.
+     * 완료 처리를 저장소에서 한 문장으로 수행한 경우(SaveTodoPort.markTodoCompleted)에도
+     * 완료 이벤트는 이 메서드로만 등록되므로, 완료 규칙이 도메인 객체 한 곳에 유지됩니다.
+     */
+    public void applyCompletion(LocalDateTime completedAt) {
         this.completed = true;
-        this.updatedAt = LocalDateTime.now();
+        this.updatedAt = completedAt;
         
         // 도메인 이벤트 등록
-        registerEvent(new TodoCompletedEvent(this.id, this.title));
+        registerEvent(new TodoCompletedEvent(toSnapshot()));
     }
     
     /**
@@ -0,0 +1,86 @@
+package com.example.hexagonalvslayered.hexagonal.domain;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+
+/**
+ * Todo 목록 조회 조건
+ * 
+ * 모든 조건은 선택 사항이며, 지정된 조건은 AND로 결합됩니다.
+ * 생성 시각 범위는 createdFrom 이상, createdTo 미만입니다.
+ */
+@Getter
+@Builder
+public class TodoFilter {
+    
+    private final Boolean completed;
+    private final LocalDateTime createdFrom;
+    private final LocalDateTime createdTo;
+    private final LocalDateTime updatedSince;
+    
+    @Builder.Default
+    private final SortField sortBy = SortField.ID;
+    private final boolean descending;
+    
+    /**
+     * 조건에 맞는 Todo인지 확인합니다. (메모리 조회 모델에서 사용)
+     */
+    public boolean matches(Todo todo) {
+        if (completed != null && todo.isCompleted() != completed) {
+            return false;
+        }
+        if (createdFrom != null && (todo.getCreatedAt() == null || todo.getCreatedAt().isBefore(createdFrom))) {
+            return false;
+        }
+        if (createdTo != null && (todo.getCreatedAt() == null || !todo.getCreatedAt().isBefore(createdTo))) {
+            return false;
+        }
+        return updatedSince == null
+                || (todo.getUpdatedAt() != null && !todo.getUpdatedAt().isBefore(updatedSince));
+    }
+    
+    /**
+     * 정렬 기준에 맞는 Comparator (같은 값이면 ID 순)
+     */
+    public Comparator<Todo> comparator() {
+        Comparator<Todo> comparator = switch (sortBy) {
+            case ID -> Comparator.comparing(Todo::getId);
+            case CREATED_AT -> Comparator.comparing(Todo::getCreatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(Todo::getId);
+            case UPDATED_AT -> Comparator.comparing(Todo::getUpdatedAt, Comparator.nullsFirst(Comparator.naturalOrder()))
+                    .thenComparing(Todo::getId);
+        };
+        return descending ? comparator.reversed() : comparator;
+    }
+    
+    public enum SortField {
+        ID("id"),
+        CREATED_AT("createdAt"),
+        UPDATED_AT("updatedAt");
+        
+        private final String property;
+        
+        SortField(String property) {
+            this.property = property;
+        }
+        
+        public String getProperty() {
+            return property;
+        }
+        
+        /**
+         * API 파라미터의 속성 이름(id, createdAt, updatedAt)으로 정렬 기준을 찾습니다.
+         */
+        public static SortField fromProperty(String property) {
+            for (SortField field : values()) {
+                if (field.property.equals(property)) {
+                    return field;
+                }
+            }
+            throw new IllegalArgumentException("Unsupported sort property: " + property);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.hexagonalvslayered.hexagonal.domain;
+
+import java.time.LocalDateTime;
+
+/**
+ * 특정 시점의 Todo 상태를 담는 불변 값 객체
+ * 
+ * 도메인 이벤트에 실려 전달되며, 이벤트 구독자가 저장소를 다시 조회하지 않고도
+ * 변경된 상태를 알 수 있게 합니다. (예: 조회 모델 갱신)
+ */
+public record TodoSnapshot(
+        Long id,
+        String title,
+        String description,
+        boolean completed,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version
+) {
+    
+    /**
+     * 다른 스냅샷보다 최신 상태인지 확인합니다. (버전이 없으면 최신으로 간주하지 않음)
+     */
+    public boolean isNewerThan(TodoSnapshot other) {
+        if (other.version() == null) {
+            return true;
+        }
+        return version != null && version > other.version();
+    }
+    
+    public Todo toTodo() {
+        return Todo.builder()
+                .id(id)
+                .title(title)
+                .description(description)
+                .completed(completed)
+                .createdAt(createdAt)
+                .updatedAt(updatedAt)
+                .version(version)
+                .build();
+    }
+}
@@ -12,4 +12,9 @@ public interface DomainEvent {
      * 이벤트 발생 시간을 반환합니다.
      */
     LocalDateTime getOccurredAt();
+    
+    /**
+     * 이벤트가 발생한 Todo의 ID를 반환합니다.
+     */
+    Long getTodoId();
 } 
\ No newline at end of file
@@ -1,5 +1,6 @@
 package com.example.hexagonalvslayered.hexagonal.domain.event;
 
+import com.example.hexagonalvslayered.hexagonal.domain.TodoSnapshot;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
@@ -12,11 +13,21 @@ public class TodoCreatedEvent implements DomainEvent {
     
     private final Long todoId;
     private final String title;
+    // 이벤트 발생 시점의 Todo 상태 (ID와 제목만으로 생성한 이벤트는 null)
+    private final TodoSnapshot snapshot;
     private final LocalDateTime occurredAt;
     
     public TodoCreatedEvent(Long todoId, String title) {
         this.todoId = todoId;
         this.title = title;
+        this.snapshot = null;
+        this.occurredAt = LocalDateTime.now();
+    }
+    
+    public TodoCreatedEvent(TodoSnapshot snapshot) {
+        this.todoId = snapshot.id();
+        this.title = snapshot.title();
+        this.snapshot = snapshot;
         this.occurredAt = LocalDateTime.now();
     }
     
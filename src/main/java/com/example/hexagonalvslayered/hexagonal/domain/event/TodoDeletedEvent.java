@@ -0,0 +1,25 @@
+package com.example.hexagonalvslayered.hexagonal.domain.event;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Todo가 삭제되었을 때 발생하는 도메인 이벤트
+ */
+@Getter
+public class TodoDeletedEvent implements DomainEvent {
+    
+    private final Long todoId;
+    private final LocalDateTime occurredAt;
+    
+    public TodoDeletedEvent(Long todoId) {
+        this.todoId = todoId;
+        this.occurredAt = LocalDateTime.now();
+    }
+    
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
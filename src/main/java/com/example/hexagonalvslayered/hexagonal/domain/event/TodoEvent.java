@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
+import java.util.UUID;
 
 @Data
 @Builder
@@ -29,6 +30,55 @@ public class TodoEvent implements DomainEvent {
         COMPLETED
     }
     
+    /**
+     * 도메인 이벤트를 외부 시스템으로 전달할 TodoEvent로 변환합니다.
+     * createdAt과 updatedAt은 모두 이벤트 발생 시각으로, 수신 측은 updatedAt으로 같은 Todo 이벤트의 순서를 판단할 수 있습니다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 이벤트 타입인 경우
+     */
+    public static TodoEvent from(DomainEvent event) {
+        if (event instanceof TodoCreatedEvent createdEvent) {
+            return TodoEvent.builder()
+                    .eventId(UUID.randomUUID().toString())
+                    .eventType(TodoEvent.EventType.CREATED.name())
+                    .todoId(createdEvent.getTodoId())
+                    .title(createdEvent.getTitle())
+                    .createdAt(event.getOccurredAt())
+                    .updatedAt(event.getOccurredAt())
+                    .build();
+        } else if (event instanceof TodoCompletedEvent completedEvent) {
+            return TodoEvent.builder()
+                    .eventId(UUID.randomUUID().toString())
+                    .eventType(TodoEvent.EventType.COMPLETED.name())
+                    .todoId(completedEvent.getTodoId())
+                    .title(completedEvent.getTitle())
+                    .createdAt(event.getOccurredAt())
+                    .updatedAt(event.getOccurredAt())
+                    .build();
+        } else if (event instanceof TodoUpdatedEvent updatedEvent) {
+            return TodoEvent.builder()
+                    .eventId(UUID.randomUUID().toString())
+                    .eventType(TodoEvent.EventType.UPDATED.name())
+                    .todoId(updatedEvent.getTodoId())
+                    .title(updatedEvent.getTitle())
+                    .description(updatedEvent.getSnapshot().description())
+                    .completed(updatedEvent.getSnapshot().completed())
+                    .createdAt(event.getOccurredAt())
+                    .updatedAt(event.getOccurredAt())
+                    .build();
+        } else if (event instanceof TodoDeletedEvent deletedEvent) {
+            return TodoEvent.builder()
+                    .eventId(UUID.randomUUID().toString())
+                    .eventType(TodoEvent.EventType.DELETED.name())
+                    .todoId(deletedEvent.getTodoId())
+                    .createdAt(event.getOccurredAt())
+                    .updatedAt(event.getOccurredAt())
+                    .build();
+        } else {
+            throw new IllegalArgumentException("Unsupported event type: " + event.getClass().getName());
+        }
+    }
+    
     @Override
     public LocalDateTime getOccurredAt() {
         return createdAt;
@@ -36,13 +86,11 @@ public class TodoEvent implements DomainEvent {
     
     @Override
     public String toString() {
-        return String.format(
-            "{\"eventId\":\"%s\",\"eventType\":\"%s\",\"todoId\":%d,\"title\":\"%s\",\"createdAt\":\"%s\"}",
-            eventId,
-            eventType,
-            todoId,
-            title,
-            createdAt
-        );
+        // 로그마다 호출되므로 String.format(서식 문자열 파싱) 대신 문자열 연결 사용
+        return "{\"eventId\":\"" + eventId
+                + "\",\"eventType\":\"" + eventType
+                + "\",\"todoId\":" + todoId
+                + ",\"title\":\"" + title
+                + "\",\"createdAt\":\"" + createdAt + "\"}";
     }
 } 
\ No newline at end of file
@@ -0,0 +1,30 @@
+package com.example.hexagonalvslayered.hexagonal.domain.event;
+
+import com.example.hexagonalvslayered.hexagonal.domain.TodoSnapshot;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * Todo의 제목이나 설명이 수정되었을 때 발생하는 도메인 이벤트
+ */
+@Getter
+public class TodoUpdatedEvent implements DomainEvent {
+    
+    private final Long todoId;
+    private final String title;
+    private final TodoSnapshot snapshot;
+    private final LocalDateTime occurredAt;
+    
+    public TodoUpdatedEvent(TodoSnapshot snapshot) {
+        this.todoId = snapshot.id();
+        this.title = snapshot.title();
+        this.snapshot = snapshot;
+        this.occurredAt = LocalDateTime.now();
+    }
+    
+    @Override
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,326 @@
+package com.example.hexagonalvslayered.hexagonal.infrastructure.codec;
+
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * TodoEvent의 바이너리 직렬화 형식 (application/x-todo-event)
+ * 
+ * 메시지 = 버전(1바이트) + 이벤트, 목록이면 버전(1바이트) + 개수(varint) + 이벤트들
+ * 이벤트 = 필드 플래그(1바이트) + eventType(1바이트) + [eventId] + [todoId] + [title] + [description] + [createdAt] + [updatedAt]
+ * 
+ * - eventType: EventType 서수 (값이 없으면 254, 알 수 없는 타입이면 255 뒤에 문자열)
+ * - eventId: 소문자 UUID 형식이면 16바이트, 아니면 문자열
+ * - todoId: varint (7비트 단위 가변 길이 정수, 1~127은 1바이트)
+ * - 시각: UTC 기준 epoch 마이크로초 (8바이트, 마이크로초 미만은 버림)
+ * - 문자열: varint 길이 + UTF-8 바이트
+ * - null인 필드는 플래그 비트만 끄고 값을 쓰지 않음
+ */
+public final class TodoEventBinaryCodec {
+    
+    public static final int VERSION = 1;
+    
+    private static final int HAS_EVENT_ID = 1;
+    private static final int UUID_EVENT_ID = 1 << 1;
+    private static final int HAS_TODO_ID = 1 << 2;
+    private static final int HAS_TITLE = 1 << 3;
+    private static final int HAS_DESCRIPTION = 1 << 4;
+    private static final int HAS_CREATED_AT = 1 << 5;
+    private static final int HAS_UPDATED_AT = 1 << 6;
+    private static final int COMPLETED = 1 << 7;
+    
+    private static final int NO_EVENT_TYPE = 0xFE;
+    private static final int CUSTOM_EVENT_TYPE = 0xFF;
+    private static final TodoEvent.EventType[] EVENT_TYPES = TodoEvent.EventType.values();
+    
+    private static final int UUID_LENGTH = 36;
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    
+    private TodoEventBinaryCodec() {
+    }
+    
+    public static byte[] encode(TodoEvent event) {
+        Output out = new Output(64);
+        out.writeByte(VERSION);
+        writeEvent(event, out);
+        return out.toByteArray();
+    }
+    
+    public static byte[] encodeAll(List<TodoEvent> events) {
+        Output out = new Output(8 + events.size() * 64);
+        out.writeByte(VERSION);
+        out.writeVarLong(events.size());
+        for (TodoEvent event : events) {
+            writeEvent(event, out);
+        }
+        return out.toByteArray();
+    }
+    
+    /**
+     * @throws IllegalArgumentException 형식이 맞지 않는 메시지인 경우
+     */
+    public static TodoEvent decode(byte[] bytes) {
+        Input in = new Input(bytes);
+        in.readVersion();
+        TodoEvent event = readEvent(in);
+        in.requireEnd();
+        return event;
+    }
+    
+    /**
+     * @throws IllegalArgumentException 형식이 맞지 않는 메시지인 경우
+     */
+    public static List<TodoEvent> decodeAll(byte[] bytes) {
+        Input in = new Input(bytes);
+        in.readVersion();
+        long count = in.readVarLong();
+        // 이벤트 하나는 최소 2바이트이므로 메시지 길이보다 많을 수 없음
+        if (count < 0 || count > bytes.length) {
+            throw new IllegalArgumentException("Invalid event count: " + count);
+        }
+        List<TodoEvent> events = new ArrayList<>((int) count);
+        for (long i = 0; i < count; i++) {
+            events.add(readEvent(in));
+        }
+        in.requireEnd();
+        return events;
+    }
+    
+    private static void writeEvent(TodoEvent event, Output out) {
+        String eventId = event.getEventId();
+        UUID uuid = compactUuid(eventId);
+        int eventType = eventTypeCode(event.getEventType());
+        
+        int flags = 0;
+        flags |= eventId != null ? HAS_EVENT_ID : 0;
+        flags |= uuid != null ? UUID_EVENT_ID : 0;
+        flags |= event.getTodoId() != null ? HAS_TODO_ID : 0;
+        flags |= event.getTitle() != null ? HAS_TITLE : 0;
+        flags |= event.getDescription() != null ? HAS_DESCRIPTION : 0;
+        flags |= event.getCreatedAt() != null ? HAS_CREATED_AT : 0;
+        flags |= event.getUpdatedAt() != null ? HAS_UPDATED_AT : 0;
+        flags |= event.isCompleted() ? COMPLETED : 0;
+        out.writeByte(flags);
+        
+        out.writeByte(eventType);
+        if (eventType == CUSTOM_EVENT_TYPE) {
+            out.writeString(event.getEventType());
+        }
+        if (uuid != null) {
+            out.writeLong(uuid.getMostSignificantBits());
+            out.writeLong(uuid.getLeastSignificantBits());
+        } else if (eventId != null) {
+            out.writeString(eventId);
+        }
+        if (event.getTodoId() != null) {
+            out.writeVarLong(event.getTodoId());
+        }
+        if (event.getTitle() != null) {
+            out.writeString(event.getTitle());
+        }
+        if (event.getDescription() != null) {
+            out.writeString(event.getDescription());
+        }
+        if (event.getCreatedAt() != null) {
+            out.writeLong(toEpochMicros(event.getCreatedAt()));
+        }
+        if (event.getUpdatedAt() != null) {
+            out.writeLong(toEpochMicros(event.getUpdatedAt()));
+        }
+    }
+    
+    private static TodoEvent readEvent(Input in) {
+        int flags = in.readUnsignedByte();
+        int eventType = in.readUnsignedByte();
+        
+        TodoEvent event = new TodoEvent();
+        if (eventType == CUSTOM_EVENT_TYPE) {
+            event.setEventType(in.readString());
+        } else if (eventType != NO_EVENT_TYPE) {
+            if (eventType >= EVENT_TYPES.length) {
+                throw new IllegalArgumentException("Unknown event type code: " + eventType);
+            }
+            event.setEventType(EVENT_TYPES[eventType].name());
+        }
+        if ((flags & UUID_EVENT_ID) != 0) {
+            long mostSignificantBits = in.readLong();
+            long leastSignificantBits = in.readLong();
+            event.setEventId(new UUID(mostSignificantBits, leastSignificantBits).toString());
+        } else if ((flags & HAS_EVENT_ID) != 0) {
+            event.setEventId(in.readString());
+        }
+        if ((flags & HAS_TODO_ID) != 0) {
+            event.setTodoId(in.readVarLong());
+        }
+        if ((flags & HAS_TITLE) != 0) {
+            event.setTitle(in.readString());
+        }
+        if ((flags & HAS_DESCRIPTION) != 0) {
+            event.setDescription(in.readString());
+        }
+        if ((flags & HAS_CREATED_AT) != 0) {
+            event.setCreatedAt(fromEpochMicros(in.readLong()));
+        }
+        if ((flags & HAS_UPDATED_AT) != 0) {
+            event.setUpdatedAt(fromEpochMicros(in.readLong()));
+        }
+        event.setCompleted((flags & COMPLETED) != 0);
+        return event;
+    }
+    
+    private static int eventTypeCode(String eventType) {
+        if (eventType == null) {
+            return NO_EVENT_TYPE;
+        }
+        for (TodoEvent.EventType type : EVENT_TYPES) {
+            if (type.name().equals(eventType)) {
+                return type.ordinal();
+            }
+        }
+        return CUSTOM_EVENT_TYPE;
+    }
+    
+    // 16바이트로 줄여도 같은 문자열로 복원되는 경우에만 UUID로 취급
+    private static UUID compactUuid(String eventId) {
+        if (eventId == null || eventId.length() != UUID_LENGTH) {
+            return null;
+        }
+        try {
+            UUID uuid = UUID.fromString(eventId);
+            return uuid.toString().equals(eventId) ? uuid : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * MICROS_PER_SECOND + dateTime.getNano() / 1_000;
+    }
+    
+    private static LocalDateTime fromEpochMicros(long epochMicros) {
+        long seconds = Math.floorDiv(epochMicros, MICROS_PER_SECOND);
+        int nanos = (int) Math.floorMod(epochMicros, MICROS_PER_SECOND) * 1_000;
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+    
+    private static final class Output {
+        
+        private byte[] buffer;
+        private int size;
+        
+        private Output(int initialCapacity) {
+            this.buffer = new byte[initialCapacity];
+        }
+        
+        private void writeByte(int value) {
+            ensureCapacity(1);
+            buffer[size++] = (byte) value;
+        }
+        
+        private void writeLong(long value) {
+            ensureCapacity(Long.BYTES);
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                buffer[size++] = (byte) (value >>> shift);
+            }
+        }
+        
+        private void writeVarLong(long value) {
+            ensureCapacity(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[size++] = (byte) value;
+        }
+        
+        private void writeString(String value) {
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(utf8.length);
+            ensureCapacity(utf8.length);
+            System.arraycopy(utf8, 0, buffer, size, utf8.length);
+            size += utf8.length;
+        }
+        
+        private byte[] toByteArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+        
+        private void ensureCapacity(int additional) {
+            if (size + additional > buffer.length) {
+                buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + additional));
+            }
+        }
+    }
+    
+    private static final class Input {
+        
+        private final byte[] bytes;
+        private int position;
+        
+        private Input(byte[] bytes) {
+            this.bytes = bytes;
+        }
+        
+        private void readVersion() {
+            int version = readUnsignedByte();
+            if (version != VERSION) {
+                throw new IllegalArgumentException("Unsupported todo event format version: " + version);
+            }
+        }
+        
+        private int readUnsignedByte() {
+            require(1);
+            return bytes[position++] & 0xFF;
+        }
+        
+        private long readLong() {
+            require(Long.BYTES);
+            long value = 0;
+            for (int i = 0; i < Long.BYTES; i++) {
+                value = (value << 8) | (bytes[position++] & 0xFF);
+            }
+            return value;
+        }
+        
+        private long readVarLong() {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                int b = readUnsignedByte();
+                value |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return value;
+                }
+            }
+            throw new IllegalArgumentException("Malformed varint");
+        }
+        
+        private String readString() {
+            long length = readVarLong();
+            if (length < 0 || length > bytes.length - position) {
+                throw new IllegalArgumentException("Invalid string length: " + length);
+            }
+            String value = new String(bytes, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return value;
+        }
+        
+        private void requireEnd() {
+            if (position != bytes.length) {
+                throw new IllegalArgumentException("Unexpected trailing bytes: " + (bytes.length - position));
+            }
+        }
+        
+        private void require(int length) {
+            if (bytes.length - position < length) {
+                throw new IllegalArgumentException("Truncated todo event message");
+            }
+        }
+    }
+}
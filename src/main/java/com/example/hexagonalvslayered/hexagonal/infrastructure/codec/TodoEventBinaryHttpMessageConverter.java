@@ -0,0 +1,107 @@
+package com.example.hexagonalvslayered.hexagonal.infrastructure.codec;
+
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractGenericHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StreamUtils;
+
+import java.io.IOException;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.time.DateTimeException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * TodoEvent와 List&lt;TodoEvent&gt;를 application/x-todo-event 바이너리 형식(TodoEventBinaryCodec)으로 읽고 쓰는 컨버터
+ * 
+ * 빈으로 등록되어 있으므로 스프링 MVC(EventController 수신)와 RestTemplateBuilder로 만든 RestTemplate(이벤트 전송)에 모두 적용됩니다.
+ * Content-Type이 이 형식인 요청만 처리하고, 그 외에는 기존 JSON 컨버터가 처리합니다.
+ * (쓰기는 이 형식을 명시적으로 지정한 경우에만 하므로 Content-Type 없는 요청이나 다른 응답은 JSON 그대로 유지됨)
+ */
+@Component
+public class TodoEventBinaryHttpMessageConverter extends AbstractGenericHttpMessageConverter<Object> {
+    
+    public static final String MEDIA_TYPE_VALUE = "application/x-todo-event";
+    public static final MediaType MEDIA_TYPE = MediaType.parseMediaType(MEDIA_TYPE_VALUE);
+    
+    public TodoEventBinaryHttpMessageConverter() {
+        super(MEDIA_TYPE);
+    }
+    
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return TodoEvent.class == clazz || List.class.isAssignableFrom(clazz);
+    }
+    
+    @Override
+    public boolean canRead(Type type, @Nullable Class<?> contextClass, @Nullable MediaType mediaType) {
+        return isTodoEventType(type) && canRead(mediaType);
+    }
+    
+    @Override
+    public boolean canWrite(@Nullable Type type, Class<?> clazz, @Nullable MediaType mediaType) {
+        // RestTemplate은 요청 본문의 런타임 클래스(ArrayList 등)를 넘기므로 목록 원소는 쓸 때 확인
+        return (type == null || type instanceof Class || isTodoEventType(type)) && canWrite(clazz, mediaType);
+    }
+    
+    @Override
+    protected boolean canWrite(@Nullable MediaType mediaType) {
+        return mediaType != null && MEDIA_TYPE.equalsTypeAndSubtype(mediaType);
+    }
+    
+    @Override
+    public Object read(Type type, @Nullable Class<?> contextClass, HttpInputMessage inputMessage) throws IOException {
+        return decode(type == TodoEvent.class, inputMessage);
+    }
+    
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) throws IOException {
+        return decode(clazz == TodoEvent.class, inputMessage);
+    }
+    
+    @Override
+    protected void writeInternal(Object body, @Nullable Type type, HttpOutputMessage outputMessage) throws IOException {
+        byte[] bytes = body instanceof TodoEvent event
+                ? TodoEventBinaryCodec.encode(event)
+                : TodoEventBinaryCodec.encodeAll(toEvents((List<?>) body));
+        outputMessage.getHeaders().setContentLength(bytes.length);
+        StreamUtils.copy(bytes, outputMessage.getBody());
+    }
+    
+    private Object decode(boolean single, HttpInputMessage inputMessage) throws IOException {
+        byte[] bytes = StreamUtils.copyToByteArray(inputMessage.getBody());
+        try {
+            return single ? TodoEventBinaryCodec.decode(bytes) : TodoEventBinaryCodec.decodeAll(bytes);
+        } catch (IllegalArgumentException | DateTimeException e) {
+            throw new HttpMessageNotReadableException("Invalid todo event message: " + e.getMessage(), e, inputMessage);
+        }
+    }
+    
+    private static List<TodoEvent> toEvents(List<?> body) {
+        List<TodoEvent> events = new ArrayList<>(body.size());
+        for (Object element : body) {
+            if (!(element instanceof TodoEvent event)) {
+                throw new HttpMessageNotWritableException("Only TodoEvent lists can be written as " + MEDIA_TYPE_VALUE);
+            }
+            events.add(event);
+        }
+        return events;
+    }
+    
+    private static boolean isTodoEventType(Type type) {
+        if (type == TodoEvent.class) {
+            return true;
+        }
+        return type instanceof ParameterizedType parameterized
+                && parameterized.getRawType() instanceof Class<?> rawType
+                && rawType.isAssignableFrom(ArrayList.class)
+                && parameterized.getActualTypeArguments()[0] == TodoEvent.class;
+    }
+}
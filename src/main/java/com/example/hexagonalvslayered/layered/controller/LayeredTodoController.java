@@ -1,12 +1,21 @@
 package com.example.hexagonalvslayered.layered.controller;
 
+import com.example.hexagonalvslayered.common.web.EntityTags;
+import com.example.hexagonalvslayered.common.web.NdjsonResponses;
+import com.example.hexagonalvslayered.common.web.TodoQueryParameters;
 import com.example.hexagonalvslayered.layered.dto.TodoDto;
+import com.example.hexagonalvslayered.layered.dto.TodoPageDto;
 import com.example.hexagonalvslayered.layered.dto.TodoRequest;
+import com.example.hexagonalvslayered.layered.dto.TodoSearchRequest;
 import com.example.hexagonalvslayered.layered.service.LayeredTodoService;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 
@@ -16,15 +25,56 @@ import java.util.List;
 public class LayeredTodoController {
     
     private final LayeredTodoService todoService;
+    private final ObjectMapper objectMapper;
     
+    /**
+     * Todo 목록을 조회합니다. 조건 파라미터가 있으면 서버에서 필터링/정렬한 결과(최대 1000개)를 반환합니다.
+     */
     @GetMapping
-    public ResponseEntity<List<TodoDto>> getAllTodos() {
-        return ResponseEntity.ok(todoService.getAllTodos());
+    public ResponseEntity<List<TodoDto>> getAllTodos(@ModelAttribute TodoSearchRequest search, WebRequest webRequest) {
+        // 잘못된 정렬 파라미터는 304 여부와 관계없이 400으로 응답
+        TodoQueryParameters.SortOrder sortOrder = TodoQueryParameters.parseSort(search.getSort());
+        
+        // 목록 버전은 데이터를 읽기 전에 확인 (DB 조회 없이 304 응답 가능)
+        String etag = EntityTags.forList(todoService.getTodoListVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return EntityTags.notModified(etag);
+        }
+        List<TodoDto> todos = search.isEmpty() ? todoService.getAllTodos() : todoService.searchTodos(search, sortOrder);
+        return ResponseEntity.ok().eTag(etag).body(todos);
+    }
+    
+    @GetMapping(params = "limit")
+    public ResponseEntity<TodoPageDto> getTodoPage(@RequestParam(required = false) Long after,
+                                                   @RequestParam int limit,
+                                                   WebRequest webRequest) {
+        TodoQueryParameters.rejectFiltersWithPage(webRequest);
+        String etag = EntityTags.forList(todoService.getTodoListVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return EntityTags.notModified(etag);
+        }
+        return ResponseEntity.ok().eTag(etag).body(todoService.getTodosAfter(after, limit));
+    }
+    
+    /**
+     * 모든 Todo를 NDJSON(한 줄에 JSON 하나)으로 스트리밍합니다.
+     * DB에서 읽는 즉시 응답에 쓰므로 행 수와 관계없이 힙 사용량이 일정합니다.
+     */
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportTodos() {
+        return NdjsonResponses.stream(objectMapper, TodoDto.class, todoService::exportAllTodos);
     }
     
     @GetMapping("/{id}")
-    public ResponseEntity<TodoDto> getTodoById(@PathVariable Long id) {
-        return ResponseEntity.ok(todoService.getTodoById(id));
+    public ResponseEntity<TodoDto> getTodoById(@PathVariable Long id, WebRequest webRequest) {
+        // 레이어드 아키텍처에는 조회 캐시가 없으므로 행 버전 확인을 위해 DB 조회는 필요하지만,
+        // 버전이 같으면 JSON 직렬화 없이 304 응답
+        TodoDto todo = todoService.getTodoById(id);
+        String etag = EntityTags.forTodo(todo.getId(), todo.getVersion());
+        if (webRequest.checkNotModified(etag)) {
+            return EntityTags.notModified(etag);
+        }
+        return ResponseEntity.ok().eTag(etag).body(todo);
     }
     
     @PostMapping
@@ -32,6 +82,11 @@ public class LayeredTodoController {
         return new ResponseEntity<>(todoService.createTodo(request), HttpStatus.CREATED);
     }
     
+    @PostMapping("/batch")
+    public ResponseEntity<List<TodoDto>> createTodos(@RequestBody List<TodoRequest> requests) {
+        return new ResponseEntity<>(todoService.createTodos(requests), HttpStatus.CREATED);
+    }
+    
     @PutMapping("/{id}")
     public ResponseEntity<TodoDto> updateTodo(@PathVariable Long id, @RequestBody TodoRequest request) {
         return ResponseEntity.ok(todoService.updateTodo(id, request));
@@ -47,4 +102,4 @@ public class LayeredTodoController {
     public ResponseEntity<TodoDto> completeTodo(@PathVariable Long id) {
         return ResponseEntity.ok(todoService.completeTodo(id));
     }
-} 
\ No newline at end of file
+}
\ No newline at end of file
@@ -25,4 +25,5 @@ public class TodoDto {
     private boolean completed;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 } 
\ No newline at end of file
@@ -0,0 +1,26 @@
+package com.example.hexagonalvslayered.layered.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoPageDto {
+    
+    private List<TodoDto> items;
+    
+    // 다음 페이지 요청 시 after 파라미터로 전달할 커서 (마지막 페이지이면 null)
+    private Long nextCursor;
+}
\ No newline at end of file
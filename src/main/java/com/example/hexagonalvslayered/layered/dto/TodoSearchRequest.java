@@ -0,0 +1,43 @@
+package com.example.hexagonalvslayered.layered.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+/**
+ * Todo 목록 조회 조건 (모든 조건은 선택 사항이며 AND로 결합)
+ * 생성 시각 범위는 createdFrom 이상, createdTo 미만입니다.
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TodoSearchRequest {
+    
+    private Boolean completed;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+    
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime updatedSince;
+    
+    // 정렬 기준 (id, createdAt, updatedAt 중 하나, 예: createdAt,desc)
+    private String sort;
+    
+    public boolean isEmpty() {
+        return completed == null && createdFrom == null && createdTo == null
+                && updatedSince == null && sort == null;
+    }
+}
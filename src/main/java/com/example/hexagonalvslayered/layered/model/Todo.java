@@ -4,6 +4,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.EqualsAndHashCode;
@@ -24,6 +28,11 @@ import java.time.LocalDateTime;
  * 4. 비즈니스 로직 부재: 비즈니스 로직은 주로 서비스 계층에 위치
  */
 @Entity
+// 목록 필터(완료 여부 + 생성 시각 범위, 수정 시각 이후)가 전체 스캔 대신 인덱스 범위 검색을 사용하도록 함
+@Table(name = "todo", indexes = {
+        @Index(name = "idx_todo_completed_created_at", columnList = "completed, created_at"),
+        @Index(name = "idx_todo_updated_at", columnList = "updated_at")
+})
 @Getter
 @Setter
 @ToString
@@ -33,8 +42,11 @@ import java.time.LocalDateTime;
 @Builder
 public class Todo {
     
+    // IDENTITY 전략은 INSERT 시점에 ID를 받아와야 해서 Hibernate의 JDBC 배치 INSERT가 비활성화됨
+    // 시퀀스를 allocationSize 단위로 미리 할당받아 배치 INSERT가 가능하도록 함
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "todo_seq")
+    @SequenceGenerator(name = "todo_seq", sequenceName = "todo_seq", allocationSize = 50)
     private Long id;
     
     private String title;
@@ -47,6 +59,10 @@ public class Todo {
     
     private LocalDateTime updatedAt;
     
+    // 행 단위 버전 (낙관적 잠금 및 단건 조회 ETag에 사용)
+    @Version
+    private Long version;
+    
     // 레이어드 아키텍처에서는 도메인 객체에 비즈니스 로직이 거의 없음
     // 대신 서비스 계층에서 이 객체의 상태를 변경하는 로직을 구현
     // 예: TodoService.completeTodo() 메서드에서 todo.setCompleted(true) 호출
@@ -1,9 +1,67 @@
 package com.example.hexagonalvslayered.layered.repository;
 
 import com.example.hexagonalvslayered.layered.model.Todo;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 @Repository
-public interface LayeredTodoRepository extends JpaRepository<Todo, Long> {
+public interface LayeredTodoRepository extends JpaRepository<Todo, Long>, TodoViewQueries {
+    
+    String TODO_VIEW = "select new com.example.hexagonalvslayered.layered.repository.TodoView("
+            + "t.id, t.title, t.description, t.completed, t.createdAt, t.updatedAt, t.version) "
+            + "from Todo t ";
+    
+    /**
+     * 엔티티 대신 읽기 전용 프로젝션(TodoView)으로 바로 조회합니다. (영속성 컨텍스트를 거치지 않음)
+     */
+    @Query(TODO_VIEW + "order by t.id")
+    List<TodoView> findAllViews();
+    
+    @Query(TODO_VIEW + "where t.id = :id")
+    Optional<TodoView> findViewById(@Param("id") Long id);
+    
+    @Query(TODO_VIEW + "where t.id > :id order by t.id")
+    List<TodoView> findViewsByIdGreaterThan(@Param("id") Long id, Limit limit);
+    
+    /**
+     * JDBC fetch size 단위로 커서를 이동하며 읽는 스트림 (트랜잭션 안에서 사용하고 반드시 close 해야 함)
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select t from Todo t order by t.id")
+    Stream<Todo> streamAllBy();
+    
+    /**
+     * 완료 처리 UPDATE와 변경된 행 조회를 한 문장으로 실행합니다.
+     * H2의 data change delta table(FINAL TABLE)을 사용하며, PostgreSQL의 UPDATE ... RETURNING에 해당합니다.
+     * 대상 행이 없으면 빈 결과를 반환합니다.
+     */
+    @Query(value = "SELECT * FROM FINAL TABLE ("
+            + "UPDATE todo SET completed = TRUE, updated_at = :updatedAt, version = version + 1 "
+            + "WHERE id = :id)",
+            nativeQuery = true)
+    Optional<Todo> completeById(@Param("id") Long id, @Param("updatedAt") LocalDateTime updatedAt);
+    
+    /**
+     * 엔티티를 조회하지 않고 DELETE 한 문장으로 삭제합니다.
+     *
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("delete from Todo t where t.id = :id")
+    int deleteTodoById(@Param("id") Long id);
 } 
\ No newline at end of file
@@ -0,0 +1,38 @@
+package com.example.hexagonalvslayered.layered.repository;
+
+import com.example.hexagonalvslayered.layered.dto.TodoSearchRequest;
+import com.example.hexagonalvslayered.layered.model.Todo;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Todo 목록 조회 조건을 JPA Specification으로 변환합니다.
+ * 조건 컬럼은 Todo의 (completed, created_at), (updated_at) 인덱스로 범위 검색됩니다.
+ */
+public final class TodoSpecifications {
+    
+    private TodoSpecifications() {
+    }
+    
+    public static Specification<Todo> matching(TodoSearchRequest search) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (search.getCompleted() != null) {
+                predicates.add(cb.equal(root.get("completed"), search.getCompleted()));
+            }
+            if (search.getCreatedFrom() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), search.getCreatedFrom()));
+            }
+            if (search.getCreatedTo() != null) {
+                predicates.add(cb.lessThan(root.get("createdAt"), search.getCreatedTo()));
+            }
+            if (search.getUpdatedSince() != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("updatedAt"), search.getUpdatedSince()));
+            }
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+}
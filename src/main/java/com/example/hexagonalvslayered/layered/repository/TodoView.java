@@ -0,0 +1,19 @@
+package com.example.hexagonalvslayered.layered.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * 조회 전용 쿼리가 엔티티 대신 반환하는 읽기 전용 프로젝션
+ * 
+ * 리포지토리가 웹 응답 DTO에 의존하지 않도록 리포지토리 계층에 두며, 응답 DTO로의 변환은 서비스 계층이 담당합니다.
+ */
+public record TodoView(
+        Long id,
+        String title,
+        String description,
+        boolean completed,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version
+) {
+}
@@ -0,0 +1,16 @@
+package com.example.hexagonalvslayered.layered.repository;
+
+import com.example.hexagonalvslayered.layered.model.Todo;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Specification 조건 조회를 읽기 전용 프로젝션(TodoView)으로 실행하는 리포지토리 확장
+ * (Spring Data의 findBy(Specification, ...)는 관리 엔티티를 만들기 때문에 직접 구현)
+ */
+public interface TodoViewQueries {
+    
+    List<TodoView> findViews(Specification<Todo> specification, Sort sort, int limit);
+}
@@ -0,0 +1,38 @@
+package com.example.hexagonalvslayered.layered.repository;
+
+import com.example.hexagonalvslayered.layered.model.Todo;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+
+/**
+ * TodoViewQueries 구현 (Spring Data가 이름 규칙으로 LayeredTodoRepository에 연결)
+ */
+class TodoViewQueriesImpl implements TodoViewQueries {
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    @Override
+    public List<TodoView> findViews(Specification<Todo> specification, Sort sort, int limit) {
+        // 다른 조회 쿼리(TODO_VIEW)와 같이 생성자 표현식으로 프로젝션을 바로 생성 (관리 엔티티를 만들지 않음)
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TodoView> query = cb.createQuery(TodoView.class);
+        Root<Todo> root = query.from(Todo.class);
+        query.select(cb.construct(TodoView.class,
+                        root.get("id"), root.get("title"), root.get("description"), root.get("completed"),
+                        root.get("createdAt"), root.get("updatedAt"), root.get("version")))
+                .where(specification.toPredicate(root, query, cb))
+                .orderBy(QueryUtils.toOrders(sort, root, cb));
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.hexagonalvslayered.layered.service;
+
+import com.example.hexagonalvslayered.common.NotificationResilienceGuard;
+import com.example.hexagonalvslayered.common.TransactionCallbacks;
+import com.example.hexagonalvslayered.config.AsyncConfig;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 레이어드 서비스의 외부 알림을 트랜잭션 커밋 이후에 실행하는 디스패처
+ *
+ * 트랜잭션 안에서 외부 알림(블로킹 호출)을 직접 호출하면 알림이 끝날 때까지 DB 커넥션을 점유하므로,
+ * 커밋이 성공한 뒤에 크기가 제한된 작업 큐(layeredNotificationExecutor)로 넘겨 실행합니다.
+ * - 롤백되면 알림을 실행하지 않음
+ * - 큐가 가득 차면 커밋을 마친 요청 스레드에서 직접 실행 (커넥션은 이미 반환된 상태)
+ * - 트랜잭션 밖에서 호출되면 기다릴 커밋이 없으므로 호출한 스레드에서 즉시 실행
+ *
+ * 외부 알림 서비스가 느려지거나 장애가 나면 NotificationResilienceGuard가 큐에 넣기 전에 알림을 버려서,
+ * 작업 큐와 요청 스레드에 알림이 쌓이지 않도록 합니다.
+ */
+@Component
+@Slf4j
+public class AfterCommitNotificationDispatcher {
+
+    private final Executor executor;
+    private final NotificationResilienceGuard resilienceGuard;
+
+    public AfterCommitNotificationDispatcher(
+            @Qualifier(AsyncConfig.LAYERED_NOTIFICATION_EXECUTOR) Executor executor,
+            NotificationResilienceGuard resilienceGuard) {
+        this.executor = executor;
+        this.resilienceGuard = resilienceGuard;
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 알림 작업을 작업 큐에 넣습니다.
+     */
+    public void dispatchAfterCommit(Runnable notification) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            NotificationResilienceGuard.Permit permit = acquire();
+            if (permit != null) {
+                guarded(notification, permit).run();
+            }
+            return;
+        }
+        // 롤백되면 자리를 차지하지 않도록 커밋된 뒤에 한도를 확인
+        TransactionCallbacks.afterCommit(() -> submit(notification));
+    }
+
+    private void submit(Runnable notification) {
+        NotificationResilienceGuard.Permit permit = acquire();
+        if (permit == null) {
+            return;
+        }
+        Runnable guardedNotification = guarded(notification, permit);
+        Runnable task = () -> {
+            try {
+                guardedNotification.run();
+            } catch (RuntimeException e) {
+                // 이미 커밋된 뒤이므로 알림 실패는 로그로만 남김
+                log.warn("커밋 후 알림 전송 실패", e);
+            }
+        };
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    private NotificationResilienceGuard.Permit acquire() {
+        NotificationResilienceGuard.Permit permit = resilienceGuard.tryAcquire();
+        if (permit == null) {
+            log.warn("외부 알림 서비스 보호를 위해 알림을 보내지 않음 (circuit: {})", resilienceGuard.getCircuitState());
+        }
+        return permit;
+    }
+
+    private Runnable guarded(Runnable notification, NotificationResilienceGuard.Permit permit) {
+        return () -> {
+            boolean succeeded = false;
+            // 작업 큐에서 기다린 시간은 외부 호출 시간에서 제외
+            permit.started();
+            try {
+                notification.run();
+                succeeded = true;
+            } finally {
+                permit.complete(succeeded);
+            }
+        };
+    }
+}
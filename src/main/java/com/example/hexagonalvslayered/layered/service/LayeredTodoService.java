@@ -1,17 +1,29 @@
 package com.example.hexagonalvslayered.layered.service;
 
 import com.example.hexagonalvslayered.common.ExternalNotificationService;
+import com.example.hexagonalvslayered.common.WriteVersionCounter;
+import com.example.hexagonalvslayered.common.web.TodoQueryParameters;
 import com.example.hexagonalvslayered.layered.dto.TodoDto;
+import com.example.hexagonalvslayered.layered.dto.TodoPageDto;
 import com.example.hexagonalvslayered.layered.dto.TodoRequest;
+import com.example.hexagonalvslayered.layered.dto.TodoSearchRequest;
 import com.example.hexagonalvslayered.layered.model.Todo;
 import com.example.hexagonalvslayered.layered.repository.LayeredTodoRepository;
+import com.example.hexagonalvslayered.layered.repository.TodoSpecifications;
+import com.example.hexagonalvslayered.layered.repository.TodoView;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 레이어드 아키텍처의 서비스 계층 구현
@@ -25,6 +37,9 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class LayeredTodoService {
     
+    private static final int MAX_PAGE_SIZE = 1000;
+    private static final int MAX_SEARCH_RESULTS = 1000;
+    
     // 레이어드 아키텍처에서는 서비스가 Repository에 직접 의존
     private final LayeredTodoRepository todoRepository;
     
@@ -32,16 +47,79 @@ public class LayeredTodoService {
     // 이는 서비스 계층과 외부 시스템 간의 강한 결합을 만듦
     private final ExternalNotificationService notificationService;
     
+    // 외부 알림은 커밋 이후 별도 작업 큐에서 실행 (알림 대기 중에 DB 커넥션을 점유하지 않도록)
+    private final AfterCommitNotificationDispatcher notificationDispatcher;
+    
+    @PersistenceContext
+    private EntityManager entityManager;
+    
+    // 목록 ETag용 쓰기 버전 (쓰기 트랜잭션이 커밋되면 증가)
+    private final WriteVersionCounter listVersion = new WriteVersionCounter();
+    
+    /**
+     * Todo 목록의 현재 버전 (목록 ETag 계산용, DB를 조회하지 않음)
+     */
+    public long getTodoListVersion() {
+        return listVersion.current();
+    }
+    
+    // 조회 메서드는 readOnly 트랜잭션에서 프로젝션(TodoView)으로 조회
+    // (readOnly이면 Spring이 Hibernate 세션의 flush 모드를 MANUAL로 설정)
+    @Transactional(readOnly = true)
     public List<TodoDto> getAllTodos() {
-        return todoRepository.findAll().stream()
+        return todoRepository.findAllViews().stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+    
+    /**
+     * 조건에 맞는 Todo를 정렬 기준에 따라 프로젝션(TodoView)으로 조회합니다. (최대 1000개)
+     */
+    @Transactional(readOnly = true)
+    public List<TodoDto> searchTodos(TodoSearchRequest search, TodoQueryParameters.SortOrder sortOrder) {
+        return todoRepository.findViews(TodoSpecifications.matching(search), toSort(sortOrder), MAX_SEARCH_RESULTS)
+                .stream()
                 .map(this::mapToDto)
                 .collect(Collectors.toList());
     }
     
+    @Transactional(readOnly = true)
+    public TodoPageDto getTodosAfter(Long afterId, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+        long cursor = afterId != null ? afterId : 0L;
+        
+        // 한 건을 더 조회해서 다음 페이지 존재 여부를 판단 (별도의 count 쿼리 없음)
+        List<TodoView> views = todoRepository.findViewsByIdGreaterThan(cursor, Limit.of(pageSize + 1));
+        Long nextCursor = null;
+        if (views.size() > pageSize) {
+            views = views.subList(0, pageSize);
+            nextCursor = views.get(pageSize - 1).id();
+        }
+        List<TodoDto> items = views.stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+        return new TodoPageDto(items, nextCursor);
+    }
+    
+    /**
+     * 모든 Todo를 한 건씩 consumer에 전달합니다. (스트리밍 내보내기용)
+     */
+    @Transactional(readOnly = true)
+    public void exportAllTodos(Consumer<TodoDto> consumer) {
+        try (Stream<Todo> todos = todoRepository.streamAllBy()) {
+            todos.forEach(todo -> {
+                consumer.accept(mapToDto(todo));
+                // 처리한 엔티티를 즉시 분리해서 영속성 컨텍스트가 행 수만큼 커지지 않도록 함
+                entityManager.detach(todo);
+            });
+        }
+    }
+    
+    @Transactional(readOnly = true)
     public TodoDto getTodoById(Long id) {
-        Todo todo = todoRepository.findById(id)
+        return todoRepository.findViewById(id)
+                .map(this::mapToDto)
                 .orElseThrow(() -> new RuntimeException("Todo not found with id: " + id));
-        return mapToDto(todo);
     }
     
     @Transactional
@@ -55,9 +133,31 @@ public class LayeredTodoService {
                 .build();
         
         Todo savedTodo = todoRepository.save(todo);
+        listVersion.incrementAfterCommit();
         return mapToDto(savedTodo);
     }
     
+    @Transactional
+    public List<TodoDto> createTodos(List<TodoRequest> requests) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Todo> todos = requests.stream()
+                .map(request -> Todo.builder()
+                        .title(request.getTitle())
+                        .description(request.getDescription())
+                        .completed(false)
+                        .createdAt(now)
+                        .updatedAt(now)
+                        .build())
+                .collect(Collectors.toList());
+        
+        // 시퀀스 기반 ID 할당 덕분에 hibernate.jdbc.batch_size 단위로 배치 INSERT됨
+        List<TodoDto> savedTodos = todoRepository.saveAll(todos).stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+        listVersion.incrementAfterCommit();
+        return savedTodos;
+    }
+    
     @Transactional
     public TodoDto updateTodo(Long id, TodoRequest request) {
         Todo todo = todoRepository.findById(id)
@@ -69,38 +169,51 @@ public class LayeredTodoService {
         todo.setDescription(request.getDescription());
         todo.setUpdatedAt(LocalDateTime.now());
         
-        Todo updatedTodo = todoRepository.save(todo);
+        // 증가된 @Version 값을 응답에 반영하기 위해 즉시 flush
+        Todo updatedTodo = todoRepository.saveAndFlush(todo);
+        listVersion.incrementAfterCommit();
         return mapToDto(updatedTodo);
     }
     
     @Transactional
     public void deleteTodo(Long id) {
-        if (!todoRepository.existsById(id)) {
+        // 존재 여부 조회 없이 DELETE 한 문장으로 처리하고, 삭제된 행 수로 존재 여부를 판단
+        if (todoRepository.deleteTodoById(id) == 0) {
             throw new RuntimeException("Todo not found with id: " + id);
         }
-        todoRepository.deleteById(id);
+        listVersion.incrementAfterCommit();
     }
     
     @Transactional
     public TodoDto completeTodo(Long id) {
-        Todo todo = todoRepository.findById(id)
-                .orElseThrow(() -> new RuntimeException("Todo not found with id: " + id));
-        
         // 레이어드 아키텍처에서는 도메인 객체가 단순 데이터 구조체로 사용되는 경향이 있음
         // 비즈니스 로직(완료 처리)이 서비스 계층에 구현됨
-        todo.setCompleted(true);
-        todo.setUpdatedAt(LocalDateTime.now());
-        
-        Todo updatedTodo = todoRepository.save(todo);
+        // 조회 후 저장 대신 완료 처리와 변경된 행 조회를 한 문장으로 수행
+        Todo updatedTodo = todoRepository.completeById(id, LocalDateTime.now())
+                .orElseThrow(() -> new RuntimeException("Todo not found with id: " + id));
+        listVersion.incrementAfterCommit();
         
         // 레이어드 아키텍처에서는 외부 시스템(알림 서비스)에 직접 의존
         // 이로 인해 서비스 계층과 외부 시스템 간의 강한 결합이 발생
         // 단위 테스트 시 실제 외부 시스템을 모킹해야 함
-        notificationService.sendCompletionNotification(updatedTodo.getId(), updatedTodo.getTitle());
+        // 알림은 커밋이 성공한 뒤에만 전송
+        Long todoId = updatedTodo.getId();
+        String title = updatedTodo.getTitle();
+        notificationDispatcher.dispatchAfterCommit(
+                () -> notificationService.sendCompletionNotification(todoId, title));
         
         return mapToDto(updatedTodo);
     }
     
+    /**
+     * 정렬 기준을 Sort로 변환합니다. (같은 값이면 ID 순)
+     */
+    private Sort toSort(TodoQueryParameters.SortOrder sortOrder) {
+        Sort.Direction direction = sortOrder.descending() ? Sort.Direction.DESC : Sort.Direction.ASC;
+        Sort primary = Sort.by(direction, sortOrder.property());
+        return "id".equals(sortOrder.property()) ? primary : primary.and(Sort.by(direction, "id"));
+    }
+    
     private TodoDto mapToDto(Todo todo) {
         return TodoDto.builder()
                 .id(todo.getId())
@@ -109,6 +222,13 @@ public class LayeredTodoService {
                 .completed(todo.isCompleted())
                 .createdAt(todo.getCreatedAt())
                 .updatedAt(todo.getUpdatedAt())
+                .version(todo.getVersion())
                 .build();
     }
+    
+    // 목록 조회에서 행마다 호출되므로 빌더 객체 없이 생성자로 바로 생성
+    private TodoDto mapToDto(TodoView view) {
+        return new TodoDto(view.id(), view.title(), view.description(), view.completed(),
+                view.createdAt(), view.updatedAt(), view.version());
+    }
 } 
\ No newline at end of file
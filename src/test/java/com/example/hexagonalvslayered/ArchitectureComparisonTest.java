@@ -1,15 +1,19 @@
 package com.example.hexagonalvslayered;
 
 import com.example.hexagonalvslayered.common.ExternalNotificationService;
+import com.example.hexagonalvslayered.common.NotificationResilienceGuard;
 import com.example.hexagonalvslayered.hexagonal.application.port.in.ManageTodoUseCase;
 import com.example.hexagonalvslayered.hexagonal.application.port.out.EventPublisherPort;
 import com.example.hexagonalvslayered.hexagonal.application.port.out.LoadTodoPort;
 import com.example.hexagonalvslayered.hexagonal.application.port.out.SaveTodoPort;
 import com.example.hexagonalvslayered.hexagonal.application.port.out.SendNotificationPort;
 import com.example.hexagonalvslayered.hexagonal.application.service.HexagonalTodoService;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoCompletedEvent;
 import com.example.hexagonalvslayered.layered.dto.TodoRequest;
 import com.example.hexagonalvslayered.layered.repository.LayeredTodoRepository;
+import com.example.hexagonalvslayered.layered.service.AfterCommitNotificationDispatcher;
 import com.example.hexagonalvslayered.layered.service.LayeredTodoService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,7 +32,9 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -97,7 +103,8 @@ public class ArchitectureComparisonTest {
         // 레이어드 아키텍처 서비스 초기화
         // 구체적인 구현체에 직접 의존하는 구조
         layeredTodoService = new LayeredTodoService(
-                todoRepository, externalNotificationService);
+                todoRepository, externalNotificationService,
+                new AfterCommitNotificationDispatcher(Runnable::run, NotificationResilienceGuard.permissive(new SimpleMeterRegistry())));
     }
     
     /**
@@ -148,22 +155,20 @@ public class ArchitectureComparisonTest {
         String todoTitle = "테스트 Todo";
         String todoDescription = "헥사고날 아키텍처 테스트";
         
-        var todo = createHexagonalTodo(todoId, todoTitle, todoDescription, false);
         var completedTodo = createHexagonalTodo(todoId, todoTitle, todoDescription, true);
         
-        when(loadTodoPort.loadTodoById(todoId)).thenReturn(Optional.of(todo));
-        when(saveTodoPort.saveTodo(any(com.example.hexagonalvslayered.hexagonal.domain.Todo.class)))
-                .thenReturn(completedTodo);
+        when(saveTodoPort.markTodoCompleted(eq(todoId), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(completedTodo));
         
         // When
         var result = hexagonalTodoService.completeTodo(todoId);
         
         // Then
+        // 조회 없이 완료 처리 포트 호출 한 번으로 처리됨
         assertTrue(result.isCompleted());
-        verify(loadTodoPort, times(1)).loadTodoById(todoId);
-        verify(saveTodoPort, times(1))
-                .saveTodo(any(com.example.hexagonalvslayered.hexagonal.domain.Todo.class));
-        verify(eventPublisherPort, times(1)).publishEvent(any());
+        verify(loadTodoPort, never()).loadTodoById(todoId);
+        verify(saveTodoPort, times(1)).markTodoCompleted(eq(todoId), any(LocalDateTime.class));
+        verify(eventPublisherPort, times(1)).publishEvent(any(TodoCompletedEvent.class));
     }
     
     @Test
@@ -174,14 +179,12 @@ public class ArchitectureComparisonTest {
         String todoTitle = "테스트 Todo";
         String todoDescription = "레이어드 아키텍처 테스트";
         
-        var todo = createLayeredTodo(todoId, todoTitle, todoDescription, false);
         var completedTodo = createLayeredTodo(todoId, todoTitle, todoDescription, true);
         
         // 레이어드 아키텍처에서는 구체적인 구현체를 직접 모킹
         // 서비스 계층이 외부 시스템에 직접 의존하는 구조
-        when(todoRepository.findById(todoId)).thenReturn(Optional.of(todo));
-        when(todoRepository.save(any(com.example.hexagonalvslayered.layered.model.Todo.class)))
-                .thenReturn(completedTodo);
+        when(todoRepository.completeById(eq(todoId), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(completedTodo));
         when(externalNotificationService.sendCompletionNotification(todoId, todoTitle))
                 .thenReturn(true);
         
@@ -190,9 +193,8 @@ public class ArchitectureComparisonTest {
         
         // Then
         assertTrue(result.isCompleted());
-        verify(todoRepository, times(1)).findById(todoId);
-        verify(todoRepository, times(1))
-                .save(any(com.example.hexagonalvslayered.layered.model.Todo.class));
+        verify(todoRepository, never()).findById(todoId);
+        verify(todoRepository, times(1)).completeById(eq(todoId), any(LocalDateTime.class));
         verify(externalNotificationService, times(1))
                 .sendCompletionNotification(todoId, todoTitle);
     }
@@ -205,12 +207,10 @@ public class ArchitectureComparisonTest {
         String todoTitle = "테스트 Todo";
         String todoDescription = "헥사고날 아키텍처 테스트";
         
-        var todo = createHexagonalTodo(todoId, todoTitle, todoDescription, false);
         var completedTodo = createHexagonalTodo(todoId, todoTitle, todoDescription, true);
         
-        when(loadTodoPort.loadTodoById(todoId)).thenReturn(Optional.of(todo));
-        when(saveTodoPort.saveTodo(any(com.example.hexagonalvslayered.hexagonal.domain.Todo.class)))
-                .thenReturn(completedTodo);
+        when(saveTodoPort.markTodoCompleted(eq(todoId), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(completedTodo));
         
         // 외부 시스템(이벤트 발행) 장애 시뮬레이션
         doThrow(new RuntimeException("외부 시스템 장애")).when(eventPublisherPort).publishEvent(any());
@@ -220,9 +220,7 @@ public class ArchitectureComparisonTest {
         var result = hexagonalTodoService.completeTodo(todoId);
         
         assertTrue(result.isCompleted());
-        verify(loadTodoPort, times(1)).loadTodoById(todoId);
-        verify(saveTodoPort, times(1))
-                .saveTodo(any(com.example.hexagonalvslayered.hexagonal.domain.Todo.class));
+        verify(saveTodoPort, times(1)).markTodoCompleted(eq(todoId), any(LocalDateTime.class));
         verify(eventPublisherPort, times(1)).publishEvent(any());
     }
     
@@ -234,12 +232,10 @@ public class ArchitectureComparisonTest {
         String todoTitle = "테스트 Todo";
         String todoDescription = "레이어드 아키텍처 테스트";
         
-        var todo = createLayeredTodo(todoId, todoTitle, todoDescription, false);
         var completedTodo = createLayeredTodo(todoId, todoTitle, todoDescription, true);
         
-        when(todoRepository.findById(todoId)).thenReturn(Optional.of(todo));
-        when(todoRepository.save(any(com.example.hexagonalvslayered.layered.model.Todo.class)))
-                .thenReturn(completedTodo);
+        when(todoRepository.completeById(eq(todoId), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(completedTodo));
         
         // 외부 시스템 장애 시뮬레이션
         // 레이어드 아키텍처에서는 외부 시스템을 직접 모킹하여 장애를 시뮬레이션
@@ -4,6 +4,7 @@ import com.example.hexagonalvslayered.hexagonal.application.port.out.EventPublis
 import com.example.hexagonalvslayered.hexagonal.domain.Todo;
 import com.example.hexagonalvslayered.hexagonal.domain.event.DomainEvent;
 import com.example.hexagonalvslayered.hexagonal.domain.event.TodoCompletedEvent;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
@@ -11,7 +12,10 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -55,4 +59,36 @@ class HexagonalEventHandlingTest {
         assertEquals(1L, todoCompletedEvent.getTodoId());
         assertEquals("테스트 할 일", todoCompletedEvent.getTitle());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldExposeDomainEventsAsReadOnlyList() {
+        // Given
+        Todo todo = new Todo(1L, "테스트 할 일", false);
+        todo.markAsCompleted();
+        
+        // When
+        List<DomainEvent> pending = todo.getDomainEvents();
+        List<DomainEvent> pulled = todo.pullDomainEvents();
+        
+        // Then: 이벤트는 registerEvent로만 등록할 수 있고, 꺼낸 뒤에는 비워짐
+        assertThrows(UnsupportedOperationException.class, () -> pending.add(pulled.get(0)));
+        assertThrows(UnsupportedOperationException.class, pulled::clear);
+        assertEquals(1, pulled.size());
+        assertTrue(todo.getDomainEvents().isEmpty());
+    }
+    
+    @Test
+    void shouldSetUpdatedAtToOccurredAtWhenConvertingToTodoEvent() {
+        // Given
+        Todo todo = new Todo(1L, "테스트 할 일", false);
+        todo.markAsCompleted();
+        DomainEvent domainEvent = todo.pullDomainEvents().get(0);
+        
+        // When
+        TodoEvent todoEvent = TodoEvent.from(domainEvent);
+        
+        // Then: 수신 측이 순서 판단에 쓰는 updatedAt이 항상 채워짐
+        assertEquals(domainEvent.getOccurredAt(), todoEvent.getUpdatedAt());
+        assertEquals(domainEvent.getOccurredAt(), todoEvent.getCreatedAt());
+    }
+}
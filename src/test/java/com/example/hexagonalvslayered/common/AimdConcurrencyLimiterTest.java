@@ -0,0 +1,64 @@
+package com.example.hexagonalvslayered.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AimdConcurrencyLimiterTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    private final AimdConcurrencyLimiter limiter = new AimdConcurrencyLimiter(4, 1, 8, 0.5, Duration.ofSeconds(1));
+
+    @Test
+    void shouldRejectWhenLimitIsReached() {
+        for (int i = 0; i < 4; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertFalse(limiter.tryAcquire());
+        assertEquals(4, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldHalveLimitOnSlowCall() {
+        // Given
+        assertTrue(limiter.tryAcquire());
+
+        // When
+        limiter.onSample(SLOW, false);
+
+        // Then
+        assertEquals(2, limiter.getLimit());
+        assertEquals(0, limiter.getInFlight());
+    }
+
+    @Test
+    void shouldIncreaseLimitOnlyWhenUtilized() {
+        // Given: 한도(4)의 절반 미만을 사용한 호출은 한도를 늘리지 않음
+        assertTrue(limiter.tryAcquire());
+        limiter.onSample(FAST, false);
+        assertEquals(4, limiter.getLimit());
+
+        // When: 한도의 절반 이상을 사용 중일 때 빠르게 성공
+        assertTrue(limiter.tryAcquire());
+        assertTrue(limiter.tryAcquire());
+        limiter.onSample(FAST, false);
+
+        // Then
+        assertEquals(5, limiter.getLimit());
+    }
+
+    @Test
+    void shouldNotGoBelowMinimumLimit() {
+        for (int i = 0; i < 5; i++) {
+            assertTrue(limiter.tryAcquire());
+            limiter.onSample(FAST, true);
+        }
+        assertEquals(1, limiter.getLimit());
+    }
+}
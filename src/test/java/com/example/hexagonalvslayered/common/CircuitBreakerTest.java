@@ -0,0 +1,88 @@
+package com.example.hexagonalvslayered.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CircuitBreakerTest {
+
+    private static final long FAST = Duration.ofMillis(10).toNanos();
+    private static final long SLOW = Duration.ofSeconds(2).toNanos();
+
+    private final AtomicLong now = new AtomicLong();
+    private final CircuitBreaker circuitBreaker = new CircuitBreaker(
+            0.5, Duration.ofSeconds(1), 10, 4, Duration.ofSeconds(5), 2, now::get);
+
+    @Test
+    void shouldOpenWhenSlowCallRateReachesThreshold() {
+        // Given: 4번 중 2번이 느린 호출
+        record(FAST, false);
+        record(SLOW, false);
+        record(FAST, false);
+        record(SLOW, false);
+
+        // Then: 열린 동안에는 호출을 즉시 거부
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    @Test
+    void shouldStayClosedBelowMinimumCalls() {
+        // Given
+        record(FAST, true);
+        record(FAST, true);
+        record(FAST, true);
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void shouldCloseAfterSuccessfulHalfOpenCalls() {
+        // Given
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        // When: 시험 호출은 half-open-calls 개까지만 허용
+        assertTrue(circuitBreaker.tryAcquire());
+        assertTrue(circuitBreaker.tryAcquire());
+        assertFalse(circuitBreaker.tryAcquire());
+        circuitBreaker.record(FAST, false);
+        circuitBreaker.record(FAST, false);
+
+        // Then
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreaker.getState());
+    }
+
+    @Test
+    void shouldReopenWhenHalfOpenCallFails() {
+        // Given
+        openCircuit();
+        now.addAndGet(Duration.ofSeconds(5).toNanos());
+
+        // When
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.record(FAST, true);
+
+        // Then
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+        assertFalse(circuitBreaker.tryAcquire());
+    }
+
+    private void openCircuit() {
+        for (int i = 0; i < 4; i++) {
+            record(FAST, true);
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreaker.getState());
+    }
+
+    private void record(long latencyNanos, boolean failed) {
+        assertTrue(circuitBreaker.tryAcquire());
+        circuitBreaker.record(latencyNanos, failed);
+    }
+}
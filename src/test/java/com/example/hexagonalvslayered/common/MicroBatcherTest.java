@@ -0,0 +1,50 @@
+package com.example.hexagonalvslayered.common;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class MicroBatcherTest {
+
+    private final List<List<Integer>> batches = new CopyOnWriteArrayList<>();
+
+    @Test
+    void shouldHandleFullBatchesAndRemainderInOrderOnShutdown() throws InterruptedException {
+        // Given: linger가 충분히 길어서 크기와 종료로만 처리됨
+        MicroBatcher<Integer> batcher = new MicroBatcher<>("test-batch-", 2, Duration.ofHours(1),
+                batch -> batches.add(new ArrayList<>(batch)));
+
+        // When
+        for (int i = 1; i <= 5; i++) {
+            batcher.add(i);
+        }
+        batcher.shutdown();
+
+        // Then: 남은 항목은 이미 대기 중인 배치 뒤에 처리됨
+        assertEquals(List.of(List.of(1, 2), List.of(3, 4), List.of(5)), batches);
+    }
+
+    @Test
+    void shouldKeepHandlingAfterBatchFailure() throws InterruptedException {
+        // Given: 첫 배치 처리가 실패
+        MicroBatcher<Integer> batcher = new MicroBatcher<>("test-batch-", 1, Duration.ofHours(1), batch -> {
+            if (batch.contains(1)) {
+                throw new IllegalStateException("first batch failed");
+            }
+            batches.add(new ArrayList<>(batch));
+        });
+
+        // When
+        batcher.add(1);
+        batcher.add(2);
+        batcher.shutdown();
+
+        // Then
+        assertEquals(List.of(List.of(2)), batches);
+    }
+}
@@ -0,0 +1,48 @@
+package com.example.hexagonalvslayered.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class NotificationResilienceGuardTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldMeasureCallFromStartedNotFromAcquire() throws InterruptedException {
+        // Given: 허가를 받은 뒤 작업 큐에서 기다림
+        NotificationResilienceGuard guard = NotificationResilienceGuard.permissive(meterRegistry);
+        NotificationResilienceGuard.Permit permit = guard.tryAcquire();
+        Thread.sleep(100);
+
+        // When
+        permit.started().complete(true);
+
+        // Then: 큐 대기 시간은 호출 시간에 포함되지 않음
+        double recordedMillis = meterRegistry.get("notification.calls")
+                .tag("outcome", "success")
+                .timer().totalTime(TimeUnit.MILLISECONDS);
+        assertTrue(recordedMillis < 100, "recorded " + recordedMillis + "ms");
+    }
+
+    @Test
+    void shouldNeverShedWhenPermissive() {
+        // Given
+        NotificationResilienceGuard guard = NotificationResilienceGuard.permissive(meterRegistry);
+
+        // When: 모든 호출이 실패해도
+        for (int i = 0; i < 1000; i++) {
+            NotificationResilienceGuard.Permit permit = guard.tryAcquire();
+            assertNotNull(permit);
+            permit.complete(false);
+        }
+
+        // Then: 서킷이 열리지 않음
+        assertEquals(CircuitBreaker.State.CLOSED, guard.getCircuitState());
+    }
+}
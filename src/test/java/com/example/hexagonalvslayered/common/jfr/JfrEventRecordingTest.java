@@ -0,0 +1,162 @@
+package com.example.hexagonalvslayered.common.jfr;
+
+import com.example.hexagonalvslayered.common.ExternalNotificationService;
+import com.example.hexagonalvslayered.config.MonitoredTaskDecorator;
+import com.example.hexagonalvslayered.hexagonal.adapter.in.eventlistener.TodoEventListener;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.EventPublisherPort;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.LoadTodoPort;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.SaveTodoPort;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.SearchTodoPort;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.SendNotificationPort;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.TodoReadModelPort;
+import com.example.hexagonalvslayered.hexagonal.application.service.HexagonalTodoService;
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoDeletedEvent;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.when;
+
+/**
+ * 도메인 이벤트 발행, 이벤트 리스너 실행, 외부 알림 호출이 JFR 이벤트로 기록되는지 확인
+ */
+@ExtendWith(MockitoExtension.class)
+class JfrEventRecordingTest {
+
+    @Mock
+    private LoadTodoPort loadTodoPort;
+
+    @Mock
+    private SaveTodoPort saveTodoPort;
+
+    @Mock
+    private EventPublisherPort eventPublisherPort;
+
+    @Mock
+    private SendNotificationPort sendNotificationPort;
+
+    @Mock
+    private ObjectProvider<SearchTodoPort> searchTodoPort;
+
+    @Mock
+    private ObjectProvider<TodoReadModelPort> todoReadModelPort;
+
+    @Test
+    void shouldRecordDomainEventPublish() throws IOException {
+        // Given
+        HexagonalTodoService service = new HexagonalTodoService(loadTodoPort, saveTodoPort, eventPublisherPort);
+        when(saveTodoPort.markTodoCompleted(eq(1L), any())).thenReturn(Optional.of(new Todo(1L, "JFR", false)));
+
+        // When
+        List<RecordedEvent> events = JfrRecordings.record(DomainEventPublishEvent.NAME, () -> service.completeTodo(1L));
+
+        // Then
+        assertEquals(1, events.size());
+        assertEquals("TodoCompletedEvent", events.get(0).getString("eventType"));
+        assertEquals(1L, events.get(0).getLong("todoId"));
+        assertTrue(events.get(0).getBoolean("succeeded"));
+    }
+
+    @Test
+    void shouldRecordFailedDomainEventPublish() throws IOException {
+        // Given
+        HexagonalTodoService service = new HexagonalTodoService(loadTodoPort, saveTodoPort, eventPublisherPort);
+        when(saveTodoPort.markTodoCompleted(eq(1L), any())).thenReturn(Optional.of(new Todo(1L, "JFR", false)));
+        doThrow(new RuntimeException("이벤트 발행 실패")).when(eventPublisherPort).publishEvent(any());
+
+        // When
+        List<RecordedEvent> events = JfrRecordings.record(DomainEventPublishEvent.NAME, () -> service.completeTodo(1L));
+
+        // Then: 발행 실패는 유스케이스에 영향을 주지 않고 실패로 기록됨
+        assertEquals(1, events.size());
+        assertFalse(events.get(0).getBoolean("succeeded"));
+    }
+
+    @Test
+    void shouldRecordHandlerWithExecutorQueueTime() throws IOException {
+        // Given: 제출된 뒤 50ms 동안 큐에서 기다린 리스너 작업
+        TodoEventListener listener = new TodoEventListener(sendNotificationPort, searchTodoPort, todoReadModelPort);
+        MonitoredTaskDecorator decorator = new MonitoredTaskDecorator(new SimpleMeterRegistry(), "todo-events");
+
+        // When
+        List<RecordedEvent> events = JfrRecordings.record(TodoEventHandlerEvent.NAME, () -> {
+            Runnable task = decorator.decorate(() -> listener.handleTodoDeletedEvent(new TodoDeletedEvent(5L)));
+            sleep(Duration.ofMillis(50));
+            task.run();
+        });
+
+        // Then
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("handleTodoDeletedEvent", event.getString("handler"));
+        assertEquals("TodoDeletedEvent", event.getString("eventType"));
+        assertEquals(5L, event.getLong("todoId"));
+        assertTrue(event.getDuration("queueTime").compareTo(Duration.ofMillis(50)) >= 0);
+        assertTrue(event.getBoolean("succeeded"));
+    }
+
+    @Test
+    void shouldRecordNotificationCall() throws IOException {
+        // Given
+        ExternalNotificationService notificationService = new ExternalNotificationService();
+
+        // When
+        List<RecordedEvent> events = JfrRecordings.record(NotificationCallEvent.NAME,
+                () -> notificationService.sendCompletionNotification(3L, "알림"));
+
+        // Then
+        assertEquals(1, events.size());
+        assertEquals(3L, events.get(0).getLong("todoId"));
+        assertEquals(1, events.get(0).getInt("batchSize"));
+        assertTrue(events.get(0).getBoolean("succeeded"));
+    }
+
+    @Test
+    void shouldRecordInterruptedNotificationCallAsFailed() throws IOException {
+        // Given
+        ExternalNotificationService notificationService = new ExternalNotificationService();
+
+        AtomicBoolean sent = new AtomicBoolean(true);
+
+        // When: 인터럽트된 스레드에서 호출하면 시뮬레이션 지연이 바로 중단됨
+        List<RecordedEvent> events = JfrRecordings.record(NotificationCallEvent.NAME, () -> {
+            Thread.currentThread().interrupt();
+            try {
+                sent.set(notificationService.sendCompletionNotification(3L, "알림"));
+            } finally {
+                Thread.interrupted();
+            }
+        });
+
+        // Then: 기록과 반환값 모두 실패
+        assertEquals(1, events.size());
+        assertFalse(events.get(0).getBoolean("succeeded"));
+        assertFalse(sent.get());
+    }
+
+    private static void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
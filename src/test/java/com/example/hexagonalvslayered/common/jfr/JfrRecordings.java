@@ -0,0 +1,39 @@
+package com.example.hexagonalvslayered.common.jfr;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * JFR 이벤트 테스트용 도우미
+ */
+public final class JfrRecordings {
+
+    private JfrRecordings() {
+    }
+
+    /**
+     * action을 실행하는 동안 eventName 이벤트를 임계값 없이 기록하고, 기록된 이벤트를 반환합니다.
+     */
+    public static List<RecordedEvent> record(String eventName, Runnable action) throws IOException {
+        Path file = Files.createTempFile("jfr-test", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withoutThreshold();
+            recording.start();
+            action.run();
+            recording.stop();
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file).stream()
+                    .filter(event -> event.getEventType().getName().equals(eventName))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.deleteIfExists(file);
+        }
+    }
+}
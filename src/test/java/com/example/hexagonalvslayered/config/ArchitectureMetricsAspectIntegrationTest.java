@@ -0,0 +1,56 @@
+package com.example.hexagonalvslayered.config;
+
+import com.example.hexagonalvslayered.layered.repository.LayeredTodoRepository;
+import com.example.hexagonalvslayered.layered.service.AfterCommitNotificationDispatcher;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 애스펙트가 직접 만든 프록시가 아니라 실제 Spring 빈(Spring Data 리포지토리, 알림 디스패처)을 감싸는지 확인
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+class ArchitectureMetricsAspectIntegrationTest {
+
+    @Autowired
+    private LayeredTodoRepository layeredTodoRepository;
+
+    @Autowired
+    private AfterCommitNotificationDispatcher notificationDispatcher;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void shouldRecordCallsOnSpringDataRepositoryBean() {
+        // When
+        layeredTodoRepository.count();
+
+        // Then
+        assertEquals(1, meterRegistry.get("architecture.calls")
+                .tag("architecture", "layered")
+                .tag("component", "LayeredTodoRepository")
+                .tag("operation", "count")
+                .tag("outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    void shouldRecordNotificationsOnDispatcherBean() {
+        // When: 트랜잭션 밖에서는 호출한 스레드에서 바로 실행
+        notificationDispatcher.dispatchAfterCommit(() -> {
+        });
+
+        // Then
+        assertEquals(1, meterRegistry.get("architecture.calls")
+                .tag("architecture", "layered")
+                .tag("component", "AfterCommitNotificationDispatcher")
+                .tag("operation", "dispatchAfterCommit")
+                .timer().count());
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.hexagonalvslayered.config;
+
+import com.example.hexagonalvslayered.common.NotificationResilienceGuard;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.SendNotificationPort;
+import com.example.hexagonalvslayered.layered.repository.LayeredTodoRepository;
+import com.example.hexagonalvslayered.layered.service.AfterCommitNotificationDispatcher;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static com.example.hexagonalvslayered.config.AspectTestSupport.advised;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ArchitectureMetricsAspectTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ArchitectureMetricsAspect aspect = new ArchitectureMetricsAspect(meterRegistry);
+
+    @Test
+    void shouldRecordLayeredRepositoryCallsByArchitectureAndOperation() {
+        // Given: Spring Data 리포지토리처럼 JDK 프록시로 만든 리포지토리
+        LayeredTodoRepository repository = advised(LayeredTodoRepository.class, (proxy, method, args) -> {
+            if (method.getName().equals("findById")) {
+                return Optional.empty();
+            }
+            throw new RuntimeException("Todo not found with id: " + args[0]);
+        }, aspect);
+
+        // When
+        repository.findById(1L);
+
+        // Then
+        assertEquals(1, meterRegistry.get("architecture.calls")
+                .tag("architecture", "layered")
+                .tag("component", "LayeredTodoRepository")
+                .tag("operation", "findById")
+                .tag("outcome", "success")
+                .timer().count());
+    }
+
+    @Test
+    void shouldCountErrorsByExceptionType() {
+        // Given
+        LayeredTodoRepository repository = advised(LayeredTodoRepository.class, (proxy, method, args) -> {
+            throw new RuntimeException("Todo not found with id: " + args[0]);
+        }, aspect);
+
+        // When
+        assertThrows(RuntimeException.class, () -> repository.deleteById(1L));
+
+        // Then: 예외는 그대로 전달되고 오류로 기록됨
+        assertEquals(1, meterRegistry.get("architecture.calls")
+                .tags("operation", "deleteById", "outcome", "error")
+                .timer().count());
+        assertEquals(1.0, meterRegistry.get("architecture.errors")
+                .tags("operation", "deleteById", "exception", "RuntimeException")
+                .counter().count());
+    }
+
+    @Test
+    void shouldRecordAsyncCallWhenFutureCompletes() {
+        // Given
+        CompletableFuture<Boolean> result = new CompletableFuture<>();
+        SendNotificationPort port = advised(SendNotificationPort.class, (proxy, method, args) -> result, aspect);
+
+        // When
+        port.sendCompletionNotificationAsync(1L, "비동기 알림");
+
+        // Then: 반환 시점이 아니라 완료 시점에 기록
+        assertNull(meterRegistry.find("architecture.calls").tag("outcome", "success").timer());
+        result.complete(true);
+        assertEquals(1, meterRegistry.get("architecture.calls")
+                .tag("architecture", "hexagonal")
+                .tag("component", "SendNotificationPort")
+                .tag("operation", "sendCompletionNotificationAsync")
+                .timer().count());
+        assertFalse(meterRegistry.find("architecture.errors").counters().iterator().hasNext());
+    }
+
+    @Test
+    void shouldRecordLayeredNotificationWhenDispatchedTaskRuns() {
+        // Given: 커밋 후 작업을 바로 실행하지 않고 쌓아 두는 작업 큐
+        List<Runnable> queued = new ArrayList<>();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(new AfterCommitNotificationDispatcher(
+                queued::add, NotificationResilienceGuard.permissive(meterRegistry)));
+        proxyFactory.addAspect(aspect);
+        AfterCommitNotificationDispatcher dispatcher = proxyFactory.getProxy();
+
+        // When
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            dispatcher.dispatchAfterCommit(() -> {
+            });
+            TransactionSynchronizationUtils.triggerAfterCommit();
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then: 큐에 넣은 시점이 아니라 알림이 실행된 시점에 레이어드 호출로 기록
+        assertNull(meterRegistry.find("architecture.calls").tag("component", "AfterCommitNotificationDispatcher").timer());
+        queued.forEach(Runnable::run);
+        assertEquals(1, meterRegistry.get("architecture.calls")
+                .tag("architecture", "layered")
+                .tag("component", "AfterCommitNotificationDispatcher")
+                .tag("operation", "dispatchAfterCommit")
+                .tag("outcome", "success")
+                .timer().count());
+    }
+}
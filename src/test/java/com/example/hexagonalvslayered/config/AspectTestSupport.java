@@ -0,0 +1,27 @@
+package com.example.hexagonalvslayered.config;
+
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+
+/**
+ * 애스펙트 단위 테스트용 프록시 생성 도우미
+ */
+final class AspectTestSupport {
+
+    private AspectTestSupport() {
+    }
+
+    /**
+     * 인터페이스를 handler로 구현한 대상(Spring Data 리포지토리처럼 JDK 프록시)에 aspect를 적용한 프록시를 만듭니다.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> T advised(Class<T> type, InvocationHandler handler, Object aspect) {
+        Object target = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler);
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.addInterface(type);
+        proxyFactory.addAspect(aspect);
+        return (T) proxyFactory.getProxy();
+    }
+}
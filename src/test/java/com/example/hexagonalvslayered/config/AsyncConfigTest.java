@@ -0,0 +1,97 @@
+package com.example.hexagonalvslayered.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AsyncConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldRejectAndCountTasksWhenQueueIsFull() throws InterruptedException {
+        // Given: 스레드 1개, 큐 1칸이 모두 찬 상태
+        AsyncTaskExecutor executor = new AsyncConfig().todoEventExecutor(meterRegistry, 1, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            fill(executor, release);
+
+            // When & Then: 제출한 스레드를 대기시키지 않고 바로 거부
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+            assertEquals(1.0, rejectedCount());
+        } finally {
+            release.countDown();
+            ((ThreadPoolTaskExecutor) executor).shutdown();
+        }
+    }
+
+    @Test
+    @EnabledForJreRange(min = JRE.JAVA_21)
+    void shouldRejectAndCountTasksOnVirtualThreadsWithoutBlockingSubmitter() throws InterruptedException {
+        // Given
+        AsyncConfig asyncConfig = new AsyncConfig();
+        ReflectionTestUtils.setField(asyncConfig, "virtualThreads", true);
+        AsyncTaskExecutor executor = asyncConfig.todoEventExecutor(meterRegistry, 1, 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            fill(executor, release);
+
+            // When & Then: 가상 스레드에서도 한도에 도달하면 기다리지 않고 거부
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+            assertEquals(1.0, rejectedCount());
+        } finally {
+            release.countDown();
+            ((ThreadPoolTaskExecutor) executor).shutdown();
+        }
+    }
+
+    @Test
+    void shouldRecordTaskWaitTime() throws Exception {
+        // Given
+        AsyncTaskExecutor executor = new AsyncConfig().todoEventExecutor(meterRegistry, 1, 1, 10);
+        try {
+            // When
+            executor.submit(() -> { }).get(1, TimeUnit.SECONDS);
+
+            // Then
+            assertEquals(1, meterRegistry.get("executor.wait")
+                    .tag("name", AsyncConfig.TODO_EVENT_EXECUTOR)
+                    .timer().count());
+        } finally {
+            ((ThreadPoolTaskExecutor) executor).shutdown();
+        }
+    }
+
+    // 실행 중인 작업 1개와 대기 중인 작업 1개로 스레드와 큐를 채움
+    private static void fill(AsyncTaskExecutor executor, CountDownLatch release) throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+        executor.execute(() -> { });
+    }
+
+    private double rejectedCount() {
+        return meterRegistry.get("executor.rejected")
+                .tag("name", AsyncConfig.TODO_EVENT_EXECUTOR)
+                .counter().count();
+    }
+}
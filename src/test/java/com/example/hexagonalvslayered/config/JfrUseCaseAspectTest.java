@@ -0,0 +1,83 @@
+package com.example.hexagonalvslayered.config;
+
+import com.example.hexagonalvslayered.common.jfr.JfrRecordings;
+import com.example.hexagonalvslayered.common.jfr.TodoUseCaseEvent;
+import com.example.hexagonalvslayered.hexagonal.application.port.in.GetTodoQuery;
+import com.example.hexagonalvslayered.hexagonal.application.port.in.ManageTodoUseCase;
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+
+import static com.example.hexagonalvslayered.config.AspectTestSupport.advised;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JfrUseCaseAspectTest {
+
+    @Test
+    void shouldRecordUseCaseWithTodoIdFromArgument() throws IOException {
+        // Given
+        ManageTodoUseCase useCase = advised(ManageTodoUseCase.class,
+                (proxy, method, args) -> new Todo(7L, "JFR", true), new JfrUseCaseAspect());
+
+        // When
+        List<RecordedEvent> events = JfrRecordings.record(TodoUseCaseEvent.NAME, () -> useCase.completeTodo(7L));
+
+        // Then
+        assertEquals(1, events.size());
+        RecordedEvent event = events.get(0);
+        assertEquals("hexagonal", event.getString("architecture"));
+        assertEquals("completeTodo", event.getString("useCase"));
+        assertEquals(7L, event.getLong("todoId"));
+        assertTrue(event.getBoolean("succeeded"));
+    }
+
+    @Test
+    void shouldRecordFailedUseCase() throws IOException {
+        // Given
+        ManageTodoUseCase useCase = advised(ManageTodoUseCase.class, (proxy, method, args) -> {
+            throw new RuntimeException("Todo not found with id: " + args[0]);
+        }, new JfrUseCaseAspect());
+
+        // When
+        List<RecordedEvent> events = JfrRecordings.record(TodoUseCaseEvent.NAME,
+                () -> assertThrows(RuntimeException.class, () -> useCase.deleteTodo(3L)));
+
+        // Then: 예외는 그대로 전달되고 실패로 기록됨
+        assertEquals(1, events.size());
+        assertEquals(3L, events.get(0).getLong("todoId"));
+        assertFalse(events.get(0).getBoolean("succeeded"));
+    }
+
+    @Test
+    void shouldNotRecordPaginationCursorAsTodoId() throws IOException {
+        // Given
+        GetTodoQuery query = advised(GetTodoQuery.class,
+                (proxy, method, args) -> new GetTodoQuery.TodoPage(List.of(), null), new JfrUseCaseAspect());
+
+        // When
+        List<RecordedEvent> events = JfrRecordings.record(TodoUseCaseEvent.NAME, () -> query.getTodosAfter(5L, 10));
+
+        // Then: 첫 번째 Long 인자는 커서이므로 Todo ID로 기록하지 않음
+        assertEquals(1, events.size());
+        assertEquals("getTodosAfter", events.get(0).getString("useCase"));
+        assertEquals(0L, events.get(0).getLong("todoId"));
+    }
+
+    @Test
+    void shouldNotRecordTodoListVersionLookup() throws IOException {
+        // Given
+        GetTodoQuery query = advised(GetTodoQuery.class, (proxy, method, args) -> 3L, new JfrUseCaseAspect());
+
+        // When
+        List<RecordedEvent> events = JfrRecordings.record(TodoUseCaseEvent.NAME, query::getTodoListVersion);
+
+        // Then: ETag용 버전 조회는 유스케이스로 기록하지 않음
+        assertTrue(events.isEmpty());
+    }
+}
@@ -1,24 +1,33 @@
 package com.example.hexagonalvslayered.hexagonal.adapter.in.rest;
 
 import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import com.example.hexagonalvslayered.hexagonal.infrastructure.codec.TodoEventBinaryCodec;
+import com.example.hexagonalvslayered.hexagonal.infrastructure.codec.TodoEventBinaryHttpMessageConverter;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @WebMvcTest(EventController.class)
+@Import(EventDeduplicator.class)
 class EventControllerTest {
 
     @Autowired
     private MockMvc mockMvc;
 
+    @Autowired
+    private EventDeduplicator eventDeduplicator;
+
     @Test
     void shouldReceiveCreatedEvent() throws Exception {
         // Given
@@ -58,4 +67,92 @@ class EventControllerTest {
                 .content(eventJson))
                 .andExpect(status().isOk());
     }
-} 
\ No newline at end of file
+
+    @Test
+    void shouldReceiveEventBatch() throws Exception {
+        // Given
+        String eventsJson = """
+            [
+                {
+                    "eventId": "%s",
+                    "eventType": "CREATED",
+                    "todoId": 1,
+                    "title": "Test Todo",
+                    "createdAt": "%s"
+                },
+                {
+                    "eventId": "%s",
+                    "eventType": "DELETED",
+                    "todoId": 1,
+                    "createdAt": "%s"
+                }
+            ]
+            """.formatted(UUID.randomUUID().toString(), LocalDateTime.now(),
+                UUID.randomUUID().toString(), LocalDateTime.now());
+
+        // When & Then
+        mockMvc.perform(post("/api/events/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(eventsJson))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldAcknowledgeRedeliveredEventWithoutProcessingItAgain() throws Exception {
+        // Given
+        String eventJson = """
+            {
+                "eventId": "%s",
+                "eventType": "COMPLETED",
+                "todoId": 1,
+                "title": "Test Todo",
+                "createdAt": "%s"
+            }
+            """.formatted(UUID.randomUUID().toString(), LocalDateTime.now());
+        long duplicatesBefore = eventDeduplicator.getDuplicateCount();
+
+        // When & Then: 재전송된 이벤트도 200으로 응답해서 송신 측이 다시 보내지 않도록 함
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/events")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(eventJson))
+                    .andExpect(status().isOk());
+        }
+        assertEquals(duplicatesBefore + 1, eventDeduplicator.getDuplicateCount());
+    }
+
+    @Test
+    void shouldReceiveBinaryEncodedEvents() throws Exception {
+        // Given
+        TodoEvent event = TodoEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType(TodoEvent.EventType.CREATED.name())
+                .todoId(1L)
+                .title("Test Todo")
+                .createdAt(LocalDateTime.now())
+                .build();
+        TodoEvent other = TodoEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType(TodoEvent.EventType.DELETED.name())
+                .todoId(2L)
+                .build();
+
+        // When & Then
+        mockMvc.perform(post("/api/events")
+                .contentType(TodoEventBinaryHttpMessageConverter.MEDIA_TYPE)
+                .content(TodoEventBinaryCodec.encode(event)))
+                .andExpect(status().isOk());
+        mockMvc.perform(post("/api/events/batch")
+                .contentType(TodoEventBinaryHttpMessageConverter.MEDIA_TYPE)
+                .content(TodoEventBinaryCodec.encodeAll(List.of(event, other))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void shouldRejectMalformedBinaryEvent() throws Exception {
+        mockMvc.perform(post("/api/events")
+                .contentType(TodoEventBinaryHttpMessageConverter.MEDIA_TYPE)
+                .content(new byte[] {1, 0}))
+                .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,84 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.in.rest;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventDeduplicatorTest {
+    
+    private final AtomicLong now = new AtomicLong();
+    
+    @Test
+    void shouldRejectEventIdSeenWithinWindow() {
+        // Given
+        EventDeduplicator deduplicator = new EventDeduplicator(Duration.ofMinutes(1), 100, now::get);
+        assertTrue(deduplicator.markIfFirstSeen("event-1"));
+    
+        // When: 세대가 한 번 바뀌어도 직전 세대에 남아 있음
+        now.addAndGet(Duration.ofSeconds(90).toNanos());
+    
+        // Then
+        assertFalse(deduplicator.markIfFirstSeen("event-1"));
+        assertEquals(1, deduplicator.getDuplicateCount());
+    }
+    
+    @Test
+    void shouldForgetEventIdAfterTwoGenerations() {
+        // Given
+        EventDeduplicator deduplicator = new EventDeduplicator(Duration.ofMinutes(1), 100, now::get);
+        assertTrue(deduplicator.markIfFirstSeen("event-1"));
+    
+        // When
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+        assertTrue(deduplicator.markIfFirstSeen("event-2"));
+        now.addAndGet(Duration.ofMinutes(1).toNanos());
+    
+        // Then
+        assertTrue(deduplicator.markIfFirstSeen("event-1"));
+    }
+    
+    @Test
+    void shouldBoundMemoryByRotatingFullGeneration() {
+        // Given: 세대당 최대 2개
+        EventDeduplicator deduplicator = new EventDeduplicator(Duration.ofMinutes(1), 2, now::get);
+        deduplicator.markIfFirstSeen("event-1");
+        deduplicator.markIfFirstSeen("event-2");
+        deduplicator.markIfFirstSeen("event-3");
+        deduplicator.markIfFirstSeen("event-4");
+    
+        // When: 세대가 두 번 바뀌어 가장 오래된 eventId는 잊힘
+        deduplicator.markIfFirstSeen("event-5");
+    
+        // Then
+        assertTrue(deduplicator.markIfFirstSeen("event-1"));
+        assertFalse(deduplicator.markIfFirstSeen("event-5"));
+    }
+    
+    @Test
+    void shouldAcceptRedeliveryAfterFailedEventIsForgotten() {
+        // Given: 처리에 실패한 이벤트
+        EventDeduplicator deduplicator = new EventDeduplicator(Duration.ofMinutes(1), 100, now::get);
+        assertTrue(deduplicator.markIfFirstSeen("event-1"));
+        now.addAndGet(Duration.ofSeconds(90).toNanos());
+        assertTrue(deduplicator.markIfFirstSeen("event-2"));
+    
+        // When: 직전 세대에 있는 기록을 지움
+        deduplicator.forget("event-1");
+    
+        // Then: 재전송된 이벤트를 다시 처리하고, 실패하지 않은 이벤트는 계속 걸러냄
+        assertTrue(deduplicator.markIfFirstSeen("event-1"));
+        assertFalse(deduplicator.markIfFirstSeen("event-2"));
+    }
+    
+    @Test
+    void shouldAlwaysAcceptEventWithoutId() {
+        EventDeduplicator deduplicator = new EventDeduplicator(Duration.ofMinutes(1), 100, now::get);
+        assertTrue(deduplicator.markIfFirstSeen(null));
+        assertTrue(deduplicator.markIfFirstSeen(null));
+    }
+}
@@ -0,0 +1,208 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.in.web;
+
+import com.example.hexagonalvslayered.hexagonal.application.port.in.GetTodoQuery;
+import com.example.hexagonalvslayered.hexagonal.application.port.in.ManageTodoUseCase;
+import com.example.hexagonalvslayered.hexagonal.application.port.in.SearchTodoQuery;
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.hexagonal.domain.TodoFilter;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(HexagonalTodoController.class)
+class HexagonalTodoControllerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private GetTodoQuery getTodoQuery;
+
+    @MockitoBean
+    private ManageTodoUseCase manageTodoUseCase;
+
+    @MockitoBean
+    private SearchTodoQuery searchTodoQuery;
+
+    @Test
+    void shouldReturnPageWithNextCursor() throws Exception {
+        // Given
+        when(getTodoQuery.getTodoListVersion()).thenReturn(1L);
+        when(getTodoQuery.getTodosAfter(10L, 2))
+                .thenReturn(new GetTodoQuery.TodoPage(List.of(todo(11L), todo(12L)), 12L));
+
+        // When & Then
+        mockMvc.perform(get("/api/hexagonal/todos").param("after", "10").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(11))
+                .andExpect(jsonPath("$.nextCursor").value(12));
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutCursor() throws Exception {
+        // Given: 첫 페이지 요청 (after 없음)
+        when(getTodoQuery.getTodoListVersion()).thenReturn(1L);
+        when(getTodoQuery.getTodosAfter(null, 5))
+                .thenReturn(new GetTodoQuery.TodoPage(List.of(todo(1L)), null));
+
+        // When & Then
+        mockMvc.perform(get("/api/hexagonal/todos").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void shouldPassFilterAndSortToQuery() throws Exception {
+        // Given
+        when(getTodoQuery.getTodoListVersion()).thenReturn(1L);
+        when(getTodoQuery.getTodos(any())).thenReturn(List.of(todo(2L), todo(1L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/hexagonal/todos")
+                        .param("completed", "true")
+                        .param("createdFrom", "2024-01-01T00:00:00")
+                        .param("sort", "createdAt,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2));
+
+        ArgumentCaptor<TodoFilter> filter = ArgumentCaptor.forClass(TodoFilter.class);
+        verify(getTodoQuery).getTodos(filter.capture());
+        assertEquals(Boolean.TRUE, filter.getValue().getCompleted());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 0, 0), filter.getValue().getCreatedFrom());
+        assertEquals(TodoFilter.SortField.CREATED_AT, filter.getValue().getSortBy());
+        assertTrue(filter.getValue().isDescending());
+        verify(getTodoQuery, never()).getAllTodos();
+    }
+
+    @Test
+    void shouldRejectUnsupportedSort() throws Exception {
+        // When & Then: 지원하지 않는 속성이나 방향은 조회 없이 400
+        mockMvc.perform(get("/api/hexagonal/todos").param("sort", "title"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/hexagonal/todos").param("sort", "createdAt,sideways"))
+                .andExpect(status().isBadRequest());
+        verify(getTodoQuery, never()).getTodos(any());
+    }
+
+    @Test
+    void shouldRejectFiltersCombinedWithLimit() throws Exception {
+        // When & Then: 조건을 무시한 페이지를 반환하지 않음
+        mockMvc.perform(get("/api/hexagonal/todos").param("limit", "10").param("completed", "true"))
+                .andExpect(status().isBadRequest());
+        verify(getTodoQuery, never()).getTodosAfter(any(), anyInt());
+    }
+
+    @Test
+    void shouldStreamTodosAsNdjson() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<Todo> consumer = invocation.getArgument(0);
+            consumer.accept(todo(1L));
+            consumer.accept(todo(2L));
+            return null;
+        }).when(getTodoQuery).exportAllTodos(any());
+
+        // When: 응답 본문은 비동기로 쓰임
+        MvcResult result = mockMvc.perform(get("/api/hexagonal/todos/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then: 한 줄에 Todo 하나
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[1].startsWith("{\"id\":2,"));
+    }
+
+    @Test
+    void shouldReturnNotModifiedForUnchangedListWithoutReadingTodos() throws Exception {
+        // Given: 클라이언트가 가진 ETag와 현재 목록 버전이 같음
+        when(getTodoQuery.getTodoListVersion()).thenReturn(3L);
+
+        // When & Then
+        mockMvc.perform(get("/api/hexagonal/todos").header(HttpHeaders.IF_NONE_MATCH, "\"todos-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"todos-3\""))
+                .andExpect(content().string(""));
+        verify(getTodoQuery, never()).getAllTodos();
+    }
+
+    @Test
+    void shouldReturnNotModifiedForUnchangedTodo() throws Exception {
+        // Given
+        when(getTodoQuery.getTodoById(1L)).thenReturn(Optional.of(todo(1L)));
+
+        // When & Then: 행 버전이 같으면 304, 바뀌면 새 ETag와 함께 200
+        mockMvc.perform(get("/api/hexagonal/todos/1").header(HttpHeaders.IF_NONE_MATCH, "\"todo-1-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/hexagonal/todos/1").header(HttpHeaders.IF_NONE_MATCH, "\"todo-1-1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"todo-1-0\""))
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCreateTodosInBatch() throws Exception {
+        // Given
+        when(manageTodoUseCase.createTodos(anyList())).thenReturn(List.of(todo(1L), todo(2L)));
+
+        // When & Then
+        mockMvc.perform(post("/api/hexagonal/todos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"title\":\"첫 번째\"},{\"title\":\"두 번째\",\"description\":\"설명\"}]"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].id").value(2));
+
+        // 요청 순서대로 한 번의 유스케이스 호출로 전달
+        ArgumentCaptor<List<ManageTodoUseCase.CreateTodoCommand>> commands = ArgumentCaptor.forClass(List.class);
+        verify(manageTodoUseCase).createTodos(commands.capture());
+        assertEquals(List.of("첫 번째", "두 번째"), commands.getValue().stream()
+                .map(ManageTodoUseCase.CreateTodoCommand::getTitle)
+                .collect(Collectors.toList()));
+    }
+
+    private static Todo todo(Long id) {
+        return new Todo(id, "Todo " + id, "설명", false, NOW, NOW, 0L);
+    }
+}
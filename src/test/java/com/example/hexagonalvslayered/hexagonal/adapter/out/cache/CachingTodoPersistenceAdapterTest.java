@@ -0,0 +1,96 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.cache;
+
+import com.example.hexagonalvslayered.hexagonal.adapter.out.persistence.TodoPersistenceAdapter;
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class CachingTodoPersistenceAdapterTest {
+
+    @Mock
+    private TodoPersistenceAdapter delegate;
+
+    private CachingTodoPersistenceAdapter cachingAdapter;
+
+    @BeforeEach
+    void setUp() {
+        cachingAdapter = new CachingTodoPersistenceAdapter(
+                delegate, new SimpleMeterRegistry(), 100, Duration.ofMinutes(1));
+    }
+
+    @Test
+    void shouldLoadFromDelegateOnlyOnceForRepeatedReads() {
+        // Given
+        when(delegate.loadTodoById(1L)).thenReturn(Optional.of(new Todo(1L, "캐시 테스트", false)));
+
+        // When
+        cachingAdapter.loadTodoById(1L);
+        cachingAdapter.loadTodoById(1L);
+
+        // Then
+        verify(delegate, times(1)).loadTodoById(1L);
+        assertEquals(1L, cachingAdapter.stats().hitCount());
+        assertEquals(1L, cachingAdapter.stats().missCount());
+    }
+
+    @Test
+    void shouldReturnCopySoCallerMutationsDoNotLeakIntoCache() {
+        // Given
+        when(delegate.loadTodoById(1L)).thenReturn(Optional.of(new Todo(1L, "캐시 테스트", false)));
+
+        // When
+        Todo first = cachingAdapter.loadTodoById(1L).orElseThrow();
+        first.markAsCompleted();
+        Todo second = cachingAdapter.loadTodoById(1L).orElseThrow();
+
+        // Then
+        assertNotSame(first, second);
+        assertFalse(second.isCompleted());
+    }
+
+    @Test
+    void shouldInvalidateOnSave() {
+        // Given
+        Todo todo = new Todo(1L, "캐시 테스트", false);
+        when(delegate.loadTodoById(1L)).thenReturn(Optional.of(todo));
+        when(delegate.saveTodo(any(Todo.class))).thenReturn(todo);
+        cachingAdapter.loadTodoById(1L);
+
+        // When
+        cachingAdapter.saveTodo(todo);
+        cachingAdapter.loadTodoById(1L);
+
+        // Then
+        verify(delegate, times(2)).loadTodoById(1L);
+    }
+
+    @Test
+    void shouldInvalidateOnDelete() {
+        // Given
+        when(delegate.loadTodoById(1L)).thenReturn(Optional.of(new Todo(1L, "캐시 테스트", false)));
+        cachingAdapter.loadTodoById(1L);
+
+        // When
+        cachingAdapter.deleteTodo(1L);
+        cachingAdapter.loadTodoById(1L);
+
+        // Then
+        verify(delegate, times(2)).loadTodoById(1L);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,74 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.deadletter;
+
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DataJpaTest
+@Import(DeadLetterEventPersistenceAdapter.class)
+class DeadLetterEventPersistenceAdapterTest {
+
+    @Autowired
+    private DeadLetterEventPersistenceAdapter adapter;
+
+    @Autowired
+    private TodoEventDeadLetterRepository deadLetterRepository;
+
+    @Test
+    void shouldAccumulateAttemptsWhenSameEventIsDeadLetteredAgain() {
+        // Given
+        TodoEvent event = event("event-1");
+        adapter.saveDeadLetter(event, 5, "retry 4 failed");
+
+        // When: 재전송도 실패해서 같은 이벤트가 다시 데드 레터로 들어옴
+        adapter.saveDeadLetter(event, 5, "retry 4 failed again");
+
+        // Then: 행을 새로 만들지 않고 시도 횟수와 사유를 갱신
+        assertEquals(1, adapter.countDeadLetters());
+        TodoEventDeadLetterEntity deadLetter = deadLetterRepository.findByEventId("event-1").orElseThrow();
+        assertEquals(10, deadLetter.getAttempts());
+        assertEquals("retry 4 failed again", deadLetter.getReason());
+    }
+
+    @Test
+    void shouldLoadInSavedOrderAndDeleteByEventId() {
+        // Given
+        adapter.saveDeadLetter(event("event-1"), 5, "failed");
+        adapter.saveDeadLetter(event("event-2"), 5, "failed");
+        adapter.saveDeadLetter(event("event-3"), 5, "failed");
+
+        // When
+        List<TodoEvent> loaded = adapter.loadDeadLetters(2);
+        adapter.deleteDeadLetters(List.of("event-1", "event-3"));
+
+        // Then: 저장된 순서대로 읽고, 이벤트 내용이 그대로 복원됨
+        assertEquals(List.of("event-1", "event-2"), loaded.stream()
+                .map(TodoEvent::getEventId)
+                .collect(Collectors.toList()));
+        assertEquals("dead letter", loaded.get(0).getTitle());
+        assertTrue(loaded.get(0).isCompleted());
+        assertEquals(List.of("event-2"), adapter.loadDeadLetters(10).stream()
+                .map(TodoEvent::getEventId)
+                .collect(Collectors.toList()));
+    }
+
+    private static TodoEvent event(String eventId) {
+        return TodoEvent.builder()
+                .eventId(eventId)
+                .eventType(TodoEvent.EventType.COMPLETED.name())
+                .todoId(1L)
+                .title("dead letter")
+                .completed(true)
+                .createdAt(LocalDateTime.of(2024, 1, 1, 0, 0))
+                .build();
+    }
+}
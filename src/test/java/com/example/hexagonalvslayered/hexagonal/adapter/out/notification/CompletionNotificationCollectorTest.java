@@ -0,0 +1,72 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.notification;
+
+import com.example.hexagonalvslayered.common.CompletionNotification;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CompletionNotificationCollectorTest {
+
+    @Test
+    void shouldSendCollectedNotificationsAsOneBatchWithPerItemResults() throws InterruptedException {
+        // Given: 짝수 ID만 전송에 성공하는 외부 시스템
+        List<List<CompletionNotification>> calls = new CopyOnWriteArrayList<>();
+        CompletionNotificationCollector collector = new CompletionNotificationCollector(batch -> {
+            calls.add(batch);
+            return batch.stream().map(n -> n.todoId() % 2 == 0).collect(Collectors.toList());
+        }, 3, Duration.ofSeconds(10));
+
+        // When: max-size 개가 모이면 window 시간을 기다리지 않고 전송
+        CompletableFuture<Boolean> first = collector.submit(1L, "first");
+        CompletableFuture<Boolean> second = collector.submit(2L, "second");
+        CompletableFuture<Boolean> third = collector.submit(3L, "third");
+
+        // Then
+        assertFalse(third.join());
+        assertTrue(second.join());
+        assertFalse(first.join());
+        assertEquals(1, calls.size());
+        assertEquals(List.of(1L, 2L, 3L), calls.get(0).stream()
+                .map(CompletionNotification::todoId)
+                .collect(Collectors.toList()));
+        collector.shutdown();
+    }
+
+    @Test
+    void shouldSendPartialBatchAfterWindow() throws InterruptedException {
+        // Given
+        CompletionNotificationCollector collector = new CompletionNotificationCollector(
+                batch -> batch.stream().map(n -> true).collect(Collectors.toList()), 100, Duration.ofMillis(10));
+
+        // When & Then
+        assertTrue(collector.submit(1L, "only").join());
+        collector.shutdown();
+    }
+
+    @Test
+    void shouldFailEveryItemWhenBatchCallFails() throws InterruptedException {
+        // Given
+        CompletionNotificationCollector collector = new CompletionNotificationCollector(batch -> {
+            throw new RuntimeException("외부 알림 서비스 장애");
+        }, 2, Duration.ofSeconds(10));
+
+        // When
+        CompletableFuture<Boolean> first = collector.submit(1L, "first");
+        CompletableFuture<Boolean> second = collector.submit(2L, "second");
+
+        // Then
+        assertThrows(CompletionException.class, first::join);
+        assertThrows(CompletionException.class, second::join);
+        collector.shutdown();
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.outbox;
+
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoDeletedEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxEventRecorderTest {
+
+    @Mock
+    private TodoEventOutboxRepository outboxRepository;
+
+    @Test
+    void shouldRollBackTransactionWhenOutboxWriteFailsEvenIfCallerSwallowsException() {
+        // Given: 리포지토리가 롤백 전용 표시를 하지 않는 상태에서 아웃박스 저장이 실패
+        OutboxEventRecorder recorder = new OutboxEventRecorder(outboxRepository);
+        when(outboxRepository.save(any())).thenThrow(new RuntimeException("outbox unavailable"));
+        RecordingTransactionManager transactionManager = new RecordingTransactionManager();
+
+        // When: 서비스처럼 이벤트 발행 예외를 삼킴
+        assertThrows(IllegalStateException.class, () -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            try {
+                recorder.record(new TodoDeletedEvent(1L));
+            } catch (RuntimeException swallowed) {
+                // HexagonalTodoService.publishEvent와 같이 로그만 남김
+            }
+        }));
+
+        // Then: Todo 변경이 아웃박스 기록 없이 커밋되지 않음
+        assertFalse(transactionManager.committed);
+        assertTrue(transactionManager.rolledBack);
+    }
+
+    private static class RecordingTransactionManager extends AbstractPlatformTransactionManager {
+
+        private boolean committed;
+        private boolean rolledBack;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            committed = true;
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+            rolledBack = true;
+        }
+    }
+}
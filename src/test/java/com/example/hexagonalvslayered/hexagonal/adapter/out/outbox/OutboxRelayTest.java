@@ -0,0 +1,163 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.outbox;
+
+import com.example.hexagonalvslayered.common.RetryBackoff;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.DeadLetterEventPort;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.PublishEventPort;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Mock
+    private TodoEventOutboxRepository outboxRepository;
+    
+    @Mock
+    private PublishEventPort publishEventPort;
+
+    @Mock
+    private DeadLetterEventPort deadLetterEventPort;
+
+    @Captor
+    private ArgumentCaptor<Iterable<TodoEventOutboxEntity>> retries;
+
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        outboxRelay = relay(1);
+    }
+
+    @Test
+    void shouldDeleteOnlySentEventsAndStopAtFirstFailure() {
+        // Given: 같은 Todo의 세 이벤트 중 두 번째 전송이 실패
+        when(outboxRepository.findDueEvents(eq(NOW), any(Limit.class))).thenReturn(List.of(
+                outbox(1L, "event-1"), outbox(2L, "event-2"), outbox(3L, "event-3")));
+        when(publishEventPort.sendTodoEvent(any(TodoEvent.class)))
+                .thenAnswer(invocation -> !"event-2".equals(invocation.<TodoEvent>getArgument(0).getEventId()));
+        
+        // When
+        outboxRelay.relay();
+        
+        // Then: 실패한 이벤트 이후의 같은 Todo 이벤트는 순서를 지키기 위해 전송하지 않음
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(publishEventPort, never()).sendTodoEvent(argThat(event -> "event-3".equals(event.getEventId())));
+    }
+
+    @Test
+    void shouldSendPartitionAsSingleBatchRequest() {
+        // Given
+        OutboxRelay batchingRelay = relay(10);
+        when(outboxRepository.findDueEvents(eq(NOW), any(Limit.class))).thenReturn(List.of(
+                outbox(1L, "event-1"), outbox(2L, "event-2")));
+        when(publishEventPort.sendTodoEvents(anyList())).thenReturn(true);
+        
+        // When
+        batchingRelay.relay();
+        
+        // Then
+        verify(publishEventPort).sendTodoEvents(argThat(events -> events.size() == 2));
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+    }
+
+    @Test
+    void shouldKeepSendingOtherTodosInPartitionAfterFailure() {
+        // Given: 한 파티션에 두 Todo의 이벤트가 섞여 있고 Todo 1의 첫 이벤트 전송이 실패
+        when(outboxRepository.findDueEvents(eq(NOW), any(Limit.class))).thenReturn(List.of(
+                outbox(1L, "event-1", 1L), outbox(2L, "event-2", 2L),
+                outbox(3L, "event-3", 1L), outbox(4L, "event-4", 2L)));
+        when(publishEventPort.sendTodoEvent(any(TodoEvent.class)))
+                .thenAnswer(invocation -> !"event-1".equals(invocation.<TodoEvent>getArgument(0).getEventId()));
+        
+        // When
+        outboxRelay.relay();
+        
+        // Then: Todo 1의 나머지 이벤트만 미루고 Todo 2의 이벤트는 전송됨
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(2L, 4L));
+        verify(publishEventPort, never()).sendTodoEvent(argThat(event -> "event-3".equals(event.getEventId())));
+    }
+
+    @Test
+    void shouldDelayFailedEventWithBackoff() {
+        // Given
+        when(outboxRepository.findDueEvents(eq(NOW), any(Limit.class))).thenReturn(List.of(outbox(1L, "event-1")));
+        when(publishEventPort.sendTodoEvent(any(TodoEvent.class))).thenReturn(false);
+
+        // When
+        outboxRelay.relay();
+
+        // Then: 시도 횟수를 늘리고 지터를 더한 백오프(0.5~1초) 뒤로 다음 전송을 미룸
+        verify(outboxRepository).saveAll(retries.capture());
+        TodoEventOutboxEntity retry = retries.getValue().iterator().next();
+        assertEquals(1, retry.getAttempts());
+        assertFalse(retry.getNextAttemptAt().isBefore(NOW.plusNanos(500_000_000)));
+        assertFalse(retry.getNextAttemptAt().isAfter(NOW.plusSeconds(1)));
+        verify(outboxRepository, never()).deleteAllByIdInBatch(anyList());
+        verify(deadLetterEventPort, never()).saveDeadLetter(any(), anyInt(), anyString());
+    }
+
+    @Test
+    void shouldMoveEventToDeadLetterAfterMaxAttempts() {
+        // Given: 이미 두 번 실패한 이벤트 (최대 3번)
+        TodoEventOutboxEntity event = outbox(1L, "event-1");
+        event.setAttempts(2);
+        when(outboxRepository.findDueEvents(eq(NOW), any(Limit.class))).thenReturn(List.of(event));
+        when(publishEventPort.sendTodoEvent(any(TodoEvent.class))).thenReturn(false);
+
+        // When
+        outboxRelay.relay();
+
+        // Then: 데드 레터로 옮기고 아웃박스에서 삭제해서 같은 Todo의 다음 이벤트가 전송될 수 있도록 함
+        verify(deadLetterEventPort).saveDeadLetter(argThat(deadLetter -> "event-1".equals(deadLetter.getEventId())),
+                eq(3), anyString());
+        verify(outboxRepository).deleteAllByIdInBatch(List.of(1L));
+        verify(outboxRepository, never()).saveAll(any());
+    }
+
+    private OutboxRelay relay(int eventsPerRequest) {
+        return new OutboxRelay(outboxRepository, publishEventPort, deadLetterEventPort, Runnable::run,
+                new RetryBackoff(3, Duration.ofSeconds(1), Duration.ofSeconds(1)),
+                Clock.fixed(NOW.toInstant(ZoneOffset.UTC), ZoneOffset.UTC), 100, 1, eventsPerRequest);
+    }
+
+    private static TodoEventOutboxEntity outbox(Long id, String eventId) {
+        return outbox(id, eventId, 1L);
+    }
+
+    private static TodoEventOutboxEntity outbox(Long id, String eventId, Long todoId) {
+        return TodoEventOutboxEntity.builder()
+                .id(id)
+                .eventId(eventId)
+                .eventType(TodoEvent.EventType.UPDATED.name())
+                .todoId(todoId)
+                .title("아웃박스 테스트")
+                .build();
+    }
+}
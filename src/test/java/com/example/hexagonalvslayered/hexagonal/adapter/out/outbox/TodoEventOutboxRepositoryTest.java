@@ -0,0 +1,50 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.outbox;
+
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+class TodoEventOutboxRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private TodoEventOutboxRepository outboxRepository;
+
+    @Test
+    void shouldSkipAllEventsOfTodoWaitingForRetry() {
+        // Given: Todo 1의 첫 이벤트가 1분 뒤 재시도를 기다리는 중
+        outboxRepository.saveAll(List.of(
+                outbox("event-1", 1L, NOW.plusMinutes(1)),
+                outbox("event-2", 2L, null),
+                outbox("event-3", 1L, null)));
+
+        // When & Then: 재시도 시각 전에는 Todo 1의 이후 이벤트도 조회하지 않음
+        assertEquals(List.of("event-2"), eventIds(outboxRepository.findDueEvents(NOW, Limit.of(10))));
+        assertEquals(List.of("event-1", "event-2", "event-3"),
+                eventIds(outboxRepository.findDueEvents(NOW.plusMinutes(2), Limit.of(10))));
+    }
+
+    private static List<String> eventIds(List<TodoEventOutboxEntity> events) {
+        return events.stream().map(TodoEventOutboxEntity::getEventId).collect(Collectors.toList());
+    }
+
+    private static TodoEventOutboxEntity outbox(String eventId, Long todoId, LocalDateTime nextAttemptAt) {
+        return TodoEventOutboxEntity.builder()
+                .eventId(eventId)
+                .eventType(TodoEvent.EventType.UPDATED.name())
+                .todoId(todoId)
+                .title("아웃박스 테스트")
+                .nextAttemptAt(nextAttemptAt)
+                .build();
+    }
+}
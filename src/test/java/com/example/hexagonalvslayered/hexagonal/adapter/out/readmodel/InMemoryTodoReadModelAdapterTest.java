@@ -0,0 +1,114 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.readmodel;
+
+import com.example.hexagonalvslayered.hexagonal.domain.Todo;
+import com.example.hexagonalvslayered.hexagonal.domain.TodoSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryTodoReadModelAdapterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final InMemoryTodoReadModelAdapter readModel =
+            new InMemoryTodoReadModelAdapter(Duration.ofMinutes(10), clock::get);
+
+    @Test
+    void shouldIgnoreSnapshotOlderThanCurrentVersion() {
+        // Given: 완료 이벤트(버전 1)가 생성 이벤트(버전 0)보다 먼저 도착
+        readModel.upsert(snapshot(1L, "조회 모델", true, 1L));
+        
+        // When
+        readModel.upsert(snapshot(1L, "조회 모델", false, 0L));
+        
+        // Then
+        Todo todo = readModel.findById(1L).orElseThrow();
+        assertTrue(todo.isCompleted());
+        assertEquals(1L, todo.getVersion());
+    }
+
+    @Test
+    void shouldNotResurrectDeletedTodo() {
+        // Given
+        readModel.upsert(snapshot(1L, "조회 모델", false, 0L));
+        readModel.remove(1L);
+        
+        // When: 삭제 이후에 늦게 도착한 수정 이벤트
+        readModel.upsert(snapshot(1L, "수정된 제목", false, 1L));
+        
+        // Then
+        assertTrue(readModel.findById(1L).isEmpty());
+    }
+
+    @Test
+    void shouldPageInIdOrderAndBumpVersionOnChange() {
+        // Given
+        long initialVersion = readModel.version();
+        readModel.upsert(snapshot(3L, "세 번째", false, 0L));
+        readModel.upsert(snapshot(1L, "첫 번째", false, 0L));
+        readModel.upsert(snapshot(2L, "두 번째", false, 0L));
+        
+        // When
+        List<Todo> page = readModel.findAfter(1L, 10);
+        
+        // Then
+        assertEquals(List.of(2L, 3L), page.stream().map(Todo::getId).toList());
+        assertNotEquals(initialVersion, readModel.version());
+    }
+
+    @Test
+    void shouldNotBumpVersionWhenStaleSnapshotIsIgnored() {
+        // Given
+        readModel.upsert(snapshot(1L, "조회 모델", true, 1L));
+        long version = readModel.version();
+
+        // When: 이미 반영된 버전보다 오래된 스냅샷
+        readModel.upsert(snapshot(1L, "조회 모델", false, 0L));
+
+        // Then: 목록 ETag가 바뀌지 않음
+        assertEquals(version, readModel.version());
+    }
+
+    @Test
+    void shouldPruneTombstonesOlderThanRetention() {
+        // Given
+        readModel.upsert(snapshot(1L, "첫 번째", false, 0L));
+        readModel.remove(1L);
+        assertEquals(1, readModel.tombstoneCount());
+
+        // When: 보존 기간이 지난 뒤 다른 Todo가 삭제됨
+        clock.addAndGet(Duration.ofMinutes(11).toNanos());
+        readModel.remove(2L);
+
+        // Then: 오래된 tombstone만 정리됨
+        assertEquals(1, readModel.tombstoneCount());
+        readModel.upsert(snapshot(2L, "두 번째", false, 1L));
+        assertTrue(readModel.findById(2L).isEmpty());
+    }
+
+    @Test
+    void shouldVisitTodosInIdOrder() {
+        // Given
+        readModel.upsert(snapshot(2L, "두 번째", false, 0L));
+        readModel.upsert(snapshot(1L, "첫 번째", false, 0L));
+
+        // When
+        List<Long> ids = new ArrayList<>();
+        readModel.forEach(todo -> ids.add(todo.getId()));
+
+        // Then
+        assertEquals(List.of(1L, 2L), ids);
+    }
+
+    private static TodoSnapshot snapshot(Long id, String title, boolean completed, Long version) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TodoSnapshot(id, title, null, completed, now, now, version);
+    }
+}
@@ -0,0 +1,132 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.rest;
+
+import com.example.hexagonalvslayered.hexagonal.adapter.out.rest.AsyncHttpEventPublisherAdapter.BackpressurePolicy;
+import com.example.hexagonalvslayered.hexagonal.config.RestTemplateConfig;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoDeletedEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class AsyncHttpEventPublisherAdapterTest {
+
+    @Mock
+    private HttpClient httpClient;
+
+    @Mock
+    private EventRetryScheduler eventRetryScheduler;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void shouldRejectWhenInFlightLimitReached() {
+        // Given: 첫 요청이 끝나지 않아 한도(1)가 찬 상태
+        doReturn(new CompletableFuture<>()).when(httpClient).sendAsync(any(), any());
+        AsyncHttpEventPublisherAdapter publisher = publisher(BackpressurePolicy.REJECT, Duration.ZERO, 10);
+        publisher.publishEvent(new TodoDeletedEvent(1L));
+
+        // When
+        publisher.publishEvent(new TodoDeletedEvent(2L));
+
+        // Then: 새 이벤트는 전송하지 않고 거부로 기록
+        verify(httpClient, times(1)).sendAsync(any(), any());
+        assertEquals(1.0, shedCount("rejected"));
+    }
+
+    @Test
+    void shouldDropOldestPendingEventAndSendNewestWhenSlotFrees() {
+        // Given: 첫 요청이 진행 중이고 대기 큐(1)에 이벤트가 하나 있음
+        CompletableFuture<HttpResponse<Void>> firstResponse = new CompletableFuture<>();
+        doReturn(firstResponse).doReturn(new CompletableFuture<>()).when(httpClient).sendAsync(any(), any());
+        AsyncHttpEventPublisherAdapter publisher = publisher(BackpressurePolicy.DROP_OLDEST, Duration.ZERO, 1);
+        publisher.publishEvent(new TodoDeletedEvent(1L));
+        publisher.publishEvent(new TodoDeletedEvent(2L));
+
+        // When: 큐가 가득 찬 상태에서 새 이벤트가 들어오고 첫 요청이 끝남
+        publisher.publishEvent(new TodoDeletedEvent(3L));
+        firstResponse.complete(response(200));
+
+        // Then: 가장 오래된 대기 이벤트를 버리고 남은 이벤트를 이어서 전송
+        assertEquals(1.0, shedCount("dropped"));
+        verify(httpClient, times(2)).sendAsync(any(), any());
+        assertEquals(0, publisher.getAvailablePermits());
+    }
+
+    @Test
+    void shouldBlockUntilSlotFrees() {
+        // Given: 진행 중인 요청이 잠시 후 끝남
+        CompletableFuture<HttpResponse<Void>> firstResponse = new CompletableFuture<>();
+        doReturn(firstResponse).doReturn(new CompletableFuture<>()).when(httpClient).sendAsync(any(), any());
+        AsyncHttpEventPublisherAdapter publisher = publisher(BackpressurePolicy.BLOCK, Duration.ofSeconds(5), 10);
+        publisher.publishEvent(new TodoDeletedEvent(1L));
+        HttpResponse<Void> ok = response(200);
+        CompletableFuture.runAsync(() -> firstResponse.complete(ok),
+                CompletableFuture.delayedExecutor(50, TimeUnit.MILLISECONDS));
+
+        // When
+        publisher.publishEvent(new TodoDeletedEvent(2L));
+
+        // Then: 호출 스레드가 대기한 뒤 전송
+        verify(httpClient, times(2)).sendAsync(any(), any());
+        assertEquals(0.0, shedCount("rejected"));
+    }
+
+    @Test
+    void shouldRejectWhenBlockTimeoutExpires() {
+        // Given
+        doReturn(new CompletableFuture<>()).when(httpClient).sendAsync(any(), any());
+        AsyncHttpEventPublisherAdapter publisher = publisher(BackpressurePolicy.BLOCK, Duration.ofMillis(20), 10);
+        publisher.publishEvent(new TodoDeletedEvent(1L));
+
+        // When
+        publisher.publishEvent(new TodoDeletedEvent(2L));
+
+        // Then
+        verify(httpClient, times(1)).sendAsync(any(), any());
+        assertEquals(1.0, shedCount("rejected"));
+    }
+
+    @Test
+    void shouldFailStartupWhenOutboxIsAlsoEnabled() {
+        assertThrows(IllegalStateException.class, () -> new AsyncHttpEventPublisherAdapter(
+                new RestTemplateConfig(), objectMapper, eventRetryScheduler, meterRegistry, true,
+                Duration.ofSeconds(1), Duration.ofSeconds(1), 1, BackpressurePolicy.BLOCK, Duration.ZERO, 10));
+    }
+
+    private AsyncHttpEventPublisherAdapter publisher(BackpressurePolicy policy, Duration blockTimeout, int pendingCapacity) {
+        return new AsyncHttpEventPublisherAdapter(httpClient, objectMapper, eventRetryScheduler, meterRegistry,
+                URI.create("http://localhost/api/events"), Duration.ofSeconds(1), 1, policy, blockTimeout, pendingCapacity);
+    }
+
+    private double shedCount(String reason) {
+        return meterRegistry.get("events.async.rejected").tag("reason", reason).counter().count();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static HttpResponse<Void> response(int statusCode) {
+        HttpResponse<Void> response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(statusCode);
+        return response;
+    }
+}
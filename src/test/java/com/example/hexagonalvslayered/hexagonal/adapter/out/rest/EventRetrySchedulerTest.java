@@ -0,0 +1,105 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.rest;
+
+import com.example.hexagonalvslayered.hexagonal.application.port.out.DeadLetterEventPort;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EventRetrySchedulerTest {
+
+    @Mock
+    private RestApiEventPublisherAdapter publisher;
+
+    @Mock
+    private DeadLetterEventPort deadLetterEventPort;
+
+    private EventRetryScheduler retryScheduler;
+
+    @BeforeEach
+    void setUp() {
+        retryScheduler = new EventRetryScheduler(publisher, deadLetterEventPort,
+                3, Duration.ofMillis(5), Duration.ofMillis(20), 1, 100);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        retryScheduler.shutdown();
+    }
+
+    @Test
+    void shouldRetryUntilEventIsSent() {
+        // Given: 첫 재시도는 실패하고 두 번째 재시도에 성공
+        TodoEvent event = event("event-1");
+        when(publisher.sendTodoEvent(event)).thenReturn(false, true);
+
+        // When
+        retryScheduler.schedule(event, "delivery failed");
+
+        // Then
+        verify(publisher, timeout(1000).times(2)).sendTodoEvent(event);
+        verify(deadLetterEventPort, after(50).never()).saveDeadLetter(any(), anyInt(), anyString());
+    }
+
+    @Test
+    void shouldMoveEventToDeadLetterAfterMaxAttempts() {
+        // Given
+        TodoEvent event = event("event-2");
+        when(publisher.sendTodoEvent(event)).thenReturn(false);
+
+        // When
+        retryScheduler.schedule(event, "delivery failed");
+
+        // Then: 첫 전송 + 재시도 2번 = max-attempts(3)번 실패하면 데드 레터에 저장
+        verify(deadLetterEventPort, timeout(1000)).saveDeadLetter(eq(event), eq(3), anyString());
+        verify(publisher, times(2)).sendTodoEvent(event);
+        assertEquals(0, retryScheduler.getPendingCount());
+    }
+
+    @Test
+    void shouldMoveEventToDeadLetterWhenRetryQueueIsFull() throws InterruptedException {
+        // Given: 재시도 큐에 한 건만 기다릴 수 있고, 백오프가 길어서 첫 이벤트가 큐에 남아 있음
+        EventRetryScheduler boundedScheduler = new EventRetryScheduler(publisher, deadLetterEventPort,
+                3, Duration.ofHours(1), Duration.ofHours(1), 1, 1);
+        TodoEvent queued = event("event-3");
+        TodoEvent overflow = event("event-4");
+
+        // When
+        boundedScheduler.schedule(queued, "delivery failed");
+        boundedScheduler.schedule(overflow, "delivery failed");
+
+        // Then: 큐에 넣지 못한 이벤트는 바로 데드 레터에 저장
+        verify(deadLetterEventPort).saveDeadLetter(eq(overflow), eq(1), startsWith("retry queue full"));
+        verify(deadLetterEventPort, never()).saveDeadLetter(eq(queued), anyInt(), anyString());
+        assertEquals(1, boundedScheduler.getPendingCount());
+        boundedScheduler.shutdown();
+    }
+
+    private TodoEvent event(String eventId) {
+        return TodoEvent.builder()
+                .eventId(eventId)
+                .eventType(TodoEvent.EventType.CREATED.name())
+                .todoId(1L)
+                .title("retry")
+                .build();
+    }
+}
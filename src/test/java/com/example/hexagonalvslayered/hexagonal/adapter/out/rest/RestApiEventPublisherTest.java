@@ -4,22 +4,32 @@ import com.example.hexagonalvslayered.hexagonal.config.RestTemplateConfig;
 import com.example.hexagonalvslayered.hexagonal.domain.event.TodoCompletedEvent;
 import com.example.hexagonalvslayered.hexagonal.domain.event.TodoCreatedEvent;
 import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import com.example.hexagonalvslayered.hexagonal.infrastructure.codec.TodoEventBinaryHttpMessageConverter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -32,11 +42,17 @@ class RestApiEventPublisherTest {
     @Mock
     private RestTemplateConfig restTemplateConfig;
 
+    @Mock
+    private ObjectProvider<EventRetryScheduler> eventRetrySchedulerProvider;
+    
+    @Mock
+    private EventRetryScheduler eventRetryScheduler;
+    
     private RestApiEventPublisherAdapter eventPublisher;
 
     @BeforeEach
     void setUp() {
-        eventPublisher = new RestApiEventPublisherAdapter(restTemplate, restTemplateConfig);
+        eventPublisher = new RestApiEventPublisherAdapter(restTemplate, restTemplateConfig, eventRetrySchedulerProvider);
         when(restTemplateConfig.getFullEventUrl()).thenReturn("http://test-url/api/events");
         when(restTemplate.postForEntity(anyString(), any(), eq(Void.class)))
                 .thenReturn(new ResponseEntity<>(HttpStatus.OK));
@@ -94,4 +110,53 @@ class RestApiEventPublisherTest {
         // Then
         verify(restTemplate).postForEntity(anyString(), eq(event), eq(Void.class));
     }
-} 
\ No newline at end of file
+    
+    @Test
+    void shouldScheduleRetryWhenPublishFails() {
+        // Given
+        TodoEvent event = TodoEvent.builder()
+                .todoId(1L)
+                .title("Test Todo")
+                .eventType(TodoEvent.EventType.CREATED.name())
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(restTemplate.postForEntity(anyString(), any(), eq(Void.class)))
+                .thenThrow(new ResourceAccessException("connection refused"));
+        doAnswer(invocation -> {
+            invocation.<Consumer<EventRetryScheduler>>getArgument(0).accept(eventRetryScheduler);
+            return null;
+        }).when(eventRetrySchedulerProvider).ifAvailable(any());
+        
+        // When
+        eventPublisher.publishTodoEvent(event);
+        
+        // Then: 호출 스레드에서 다시 시도하지 않고 재시도 스케줄러에 넘김
+        verify(restTemplate).postForEntity(anyString(), eq(event), eq(Void.class));
+        verify(eventRetryScheduler).schedule(eq(event), anyString());
+    }
+    
+    @Test
+    void shouldFallBackToJsonWhenReceiverRejectsBinaryFormat() {
+        // Given: 수신 측이 바이너리 형식을 지원하지 않음
+        TodoEvent event = TodoEvent.builder()
+                .todoId(1L)
+                .title("Test Todo")
+                .eventType(TodoEvent.EventType.CREATED.name())
+                .createdAt(LocalDateTime.now())
+                .build();
+        when(restTemplateConfig.isBinaryEvents()).thenReturn(true);
+        when(restTemplate.postForEntity(anyString(), any(HttpEntity.class), eq(Void.class)))
+                .thenThrow(HttpClientErrorException.create(HttpStatus.UNSUPPORTED_MEDIA_TYPE,
+                        "Unsupported Media Type", HttpHeaders.EMPTY, null, null));
+        
+        // When
+        eventPublisher.publishTodoEvent(event);
+        eventPublisher.publishTodoEvent(event);
+        
+        // Then: 첫 전송만 바이너리로 시도하고, 이후는 JSON으로 전송
+        verify(restTemplate).postForEntity(anyString(), argThat((Object body) -> body instanceof HttpEntity<?> entity
+                && TodoEventBinaryHttpMessageConverter.MEDIA_TYPE.equals(entity.getHeaders().getContentType())),
+                eq(Void.class));
+        verify(restTemplate, times(2)).postForEntity(anyString(), eq(event), eq(Void.class));
+    }
+} 
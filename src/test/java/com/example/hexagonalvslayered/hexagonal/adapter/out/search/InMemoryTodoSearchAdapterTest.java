@@ -0,0 +1,120 @@
+package com.example.hexagonalvslayered.hexagonal.adapter.out.search;
+
+import com.example.hexagonalvslayered.hexagonal.domain.TodoSnapshot;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class InMemoryTodoSearchAdapterTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final InMemoryTodoSearchAdapter searchAdapter =
+            new InMemoryTodoSearchAdapter(2, 3, Duration.ofMinutes(10), clock::get);
+
+    @Test
+    void shouldRankTitleMatchesAboveDescriptionMatches() {
+        // Given
+        searchAdapter.index(snapshot(1L, "장보기", "우유 사기", 0L));
+        searchAdapter.index(snapshot(2L, "우유 주문", "마트에서", 0L));
+        
+        // When
+        List<Long> result = searchAdapter.search("우유", 10);
+        
+        // Then
+        assertEquals(List.of(2L, 1L), result);
+    }
+
+    @Test
+    void shouldMatchAllTermsAndUseLastTermAsPrefix() {
+        // Given
+        searchAdapter.index(snapshot(1L, "Write report", "quarterly numbers", 0L));
+        searchAdapter.index(snapshot(2L, "Write tests", null, 0L));
+        
+        // When
+        List<Long> result = searchAdapter.search("write QUART", 10);
+        
+        // Then
+        assertEquals(List.of(1L), result);
+    }
+
+    @Test
+    void shouldReplaceTermsOnUpdateAndIgnoreStaleVersions() {
+        // Given
+        searchAdapter.index(snapshot(1L, "old title", null, 0L));
+        searchAdapter.index(snapshot(1L, "new title", null, 1L));
+        
+        // When: 늦게 도착한 이전 버전
+        searchAdapter.index(snapshot(1L, "old title", null, 0L));
+        
+        // Then
+        assertTrue(searchAdapter.search("old", 10).isEmpty());
+        assertEquals(List.of(1L), searchAdapter.search("new", 10));
+    }
+
+    @Test
+    void shouldNotFindRemovedTodo() {
+        // Given
+        searchAdapter.index(snapshot(1L, "삭제할 할 일", null, 0L));
+        
+        // When
+        searchAdapter.remove(1L);
+        searchAdapter.index(snapshot(1L, "삭제할 할 일", null, 1L));
+        
+        // Then
+        assertTrue(searchAdapter.search("삭제할", 10).isEmpty());
+    }
+
+    @Test
+    void shouldNotExpandPrefixShorterThanMinimumLength() {
+        // Given
+        searchAdapter.index(snapshot(1L, "a", null, 0L));
+        searchAdapter.index(snapshot(2L, "apple", null, 0L));
+
+        // When & Then: 한 글자는 정확히 일치하는 단어만, 두 글자부터 접두어 검색
+        assertEquals(List.of(1L), searchAdapter.search("a", 10));
+        assertEquals(List.of(2L), searchAdapter.search("ap", 10));
+    }
+
+    @Test
+    void shouldExpandPrefixToLimitedNumberOfTerms() {
+        // Given: 접두어 "task"로 시작하는 단어 5개 (최대 3개까지 확장)
+        for (long id = 1; id <= 5; id++) {
+            searchAdapter.index(snapshot(id, "task" + id, null, 0L));
+        }
+
+        // When
+        List<Long> result = searchAdapter.search("task", 10);
+
+        // Then: 사전 순으로 앞의 3개 단어만 확장
+        assertEquals(List.of(1L, 2L, 3L), result);
+    }
+
+    @Test
+    void shouldPruneOldTombstonesAndEmptyPostings() {
+        // Given
+        searchAdapter.index(snapshot(1L, "첫 번째", null, 0L));
+        searchAdapter.index(snapshot(2L, "두 번째", null, 0L));
+        searchAdapter.remove(1L);
+        int termsBeforePrune = searchAdapter.termCount();
+
+        // When: 보존 기간이 지난 뒤 다른 Todo가 삭제됨
+        clock.addAndGet(Duration.ofMinutes(11).toNanos());
+        searchAdapter.remove(2L);
+
+        // Then: 오래된 tombstone과 빈 포스팅 목록이 정리됨
+        assertEquals(1, searchAdapter.tombstoneCount());
+        assertTrue(searchAdapter.termCount() < termsBeforePrune);
+        assertEquals(0, searchAdapter.termCount());
+    }
+
+    private static TodoSnapshot snapshot(Long id, String title, String description, Long version) {
+        LocalDateTime now = LocalDateTime.now();
+        return new TodoSnapshot(id, title, description, false, now, now, version);
+    }
+}
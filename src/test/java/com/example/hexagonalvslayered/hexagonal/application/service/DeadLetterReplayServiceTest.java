@@ -0,0 +1,76 @@
+package com.example.hexagonalvslayered.hexagonal.application.service;
+
+import com.example.hexagonalvslayered.hexagonal.application.port.in.ReplayDeadLetterEventsUseCase.ReplayResult;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.DeadLetterEventPort;
+import com.example.hexagonalvslayered.hexagonal.application.port.out.PublishEventPort;
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class DeadLetterReplayServiceTest {
+
+    @Mock
+    private DeadLetterEventPort deadLetterEventPort;
+
+    @Mock
+    private PublishEventPort publishEventPort;
+
+    @Test
+    void shouldDeleteOnlyReplayedEventsAndStopAtFirstFailedRequest() {
+        // Given: 2개씩 전송하고 두 번째 요청이 실패
+        DeadLetterReplayService replayService = new DeadLetterReplayService(deadLetterEventPort, publishEventPort, 2);
+        List<TodoEvent> events = List.of(event("event-1"), event("event-2"), event("event-3"),
+                event("event-4"), event("event-5"));
+        when(deadLetterEventPort.loadDeadLetters(10)).thenReturn(events);
+        when(publishEventPort.sendTodoEvents(anyList())).thenReturn(true, false);
+        when(deadLetterEventPort.countDeadLetters()).thenReturn(3L);
+
+        // When
+        ReplayResult result = replayService.replayDeadLetters(10);
+
+        // Then: 실패한 요청 이후의 이벤트는 보내지 않고 남겨 둠
+        verify(publishEventPort, times(2)).sendTodoEvents(anyList());
+        verify(publishEventPort, never()).sendTodoEvent(any());
+        verify(deadLetterEventPort).deleteDeadLetters(List.of("event-1", "event-2"));
+        assertEquals(new ReplayResult(2, 3, 3L), result);
+    }
+
+    @Test
+    void shouldNotDeleteAnythingWhenFirstRequestFails() {
+        // Given
+        DeadLetterReplayService replayService = new DeadLetterReplayService(deadLetterEventPort, publishEventPort, 1);
+        when(deadLetterEventPort.loadDeadLetters(10)).thenReturn(List.of(event("event-1"), event("event-2")));
+        when(publishEventPort.sendTodoEvent(any())).thenReturn(false);
+        when(deadLetterEventPort.countDeadLetters()).thenReturn(2L);
+
+        // When
+        ReplayResult result = replayService.replayDeadLetters(10);
+
+        // Then
+        verify(publishEventPort, times(1)).sendTodoEvent(any());
+        verify(deadLetterEventPort, never()).deleteDeadLetters(anyList());
+        assertEquals(new ReplayResult(0, 2, 2L), result);
+    }
+
+    private static TodoEvent event(String eventId) {
+        return TodoEvent.builder()
+                .eventId(eventId)
+                .eventType(TodoEvent.EventType.CREATED.name())
+                .todoId(1L)
+                .title("replay")
+                .build();
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.hexagonalvslayered.hexagonal.infrastructure.codec;
+
+import com.example.hexagonalvslayered.hexagonal.domain.event.TodoEvent;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TodoEventBinaryCodecTest {
+    
+    @Test
+    void shouldRoundTripAllFields() {
+        // Given
+        TodoEvent event = TodoEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType(TodoEvent.EventType.UPDATED.name())
+                .todoId(123_456L)
+                .title("할 일 제목")
+                .description("설명")
+                .completed(true)
+                .createdAt(LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_000))
+                .updatedAt(LocalDateTime.of(1969, 12, 31, 23, 59, 59, 999_999_000))
+                .build();
+    
+        // When
+        TodoEvent decoded = TodoEventBinaryCodec.decode(TodoEventBinaryCodec.encode(event));
+    
+        // Then
+        assertEquals(event, decoded);
+    }
+    
+    @Test
+    void shouldKeepNonUuidEventIdAndUnknownEventType() {
+        // Given
+        TodoEvent event = TodoEvent.builder()
+                .eventId("legacy-42")
+                .eventType("ARCHIVED")
+                .build();
+    
+        // When
+        TodoEvent decoded = TodoEventBinaryCodec.decode(TodoEventBinaryCodec.encode(event));
+    
+        // Then
+        assertEquals("legacy-42", decoded.getEventId());
+        assertEquals("ARCHIVED", decoded.getEventType());
+        assertNull(decoded.getTodoId());
+        assertNull(decoded.getCreatedAt());
+    }
+    
+    @Test
+    void shouldTruncateTimestampsToMicros() {
+        // Given
+        TodoEvent event = TodoEvent.builder()
+                .createdAt(LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_789))
+                .build();
+    
+        // When
+        TodoEvent decoded = TodoEventBinaryCodec.decode(TodoEventBinaryCodec.encode(event));
+    
+        // Then
+        assertEquals(LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_000), decoded.getCreatedAt());
+    }
+    
+    @Test
+    void shouldRoundTripEventList() {
+        // Given
+        List<TodoEvent> events = List.of(event(1L), event(2L), event(300L));
+    
+        // When
+        List<TodoEvent> decoded = TodoEventBinaryCodec.decodeAll(TodoEventBinaryCodec.encodeAll(events));
+    
+        // Then
+        assertEquals(events, decoded);
+    }
+    
+    @Test
+    void shouldBeMuchSmallerThanJson() throws Exception {
+        // Given
+        ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        TodoEvent event = event(42L);
+    
+        // When
+        int jsonSize = objectMapper.writeValueAsBytes(event).length;
+        int binarySize = TodoEventBinaryCodec.encode(event).length;
+    
+        // Then
+        assertTrue(binarySize * 2 < jsonSize, "binary " + binarySize + " bytes, json " + jsonSize + " bytes");
+    }
+    
+    @Test
+    void shouldRejectMalformedMessages() {
+        byte[] encoded = TodoEventBinaryCodec.encode(event(1L));
+    
+        assertThrows(IllegalArgumentException.class, () -> TodoEventBinaryCodec.decode(new byte[] {2, 0, 0}));
+        assertThrows(IllegalArgumentException.class,
+                () -> TodoEventBinaryCodec.decode(Arrays.copyOf(encoded, encoded.length - 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> TodoEventBinaryCodec.decode(Arrays.copyOf(encoded, encoded.length + 1)));
+    }
+    
+    private static TodoEvent event(Long todoId) {
+        return TodoEvent.builder()
+                .eventId(UUID.randomUUID().toString())
+                .eventType(TodoEvent.EventType.CREATED.name())
+                .todoId(todoId)
+                .title("Test Todo")
+                .createdAt(LocalDateTime.of(2024, 3, 1, 9, 30, 15, 123_456_000))
+                .build();
+    }
+}
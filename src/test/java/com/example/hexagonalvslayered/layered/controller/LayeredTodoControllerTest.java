@@ -0,0 +1,200 @@
+package com.example.hexagonalvslayered.layered.controller;
+
+import com.example.hexagonalvslayered.common.web.TodoQueryParameters;
+import com.example.hexagonalvslayered.layered.dto.TodoDto;
+import com.example.hexagonalvslayered.layered.dto.TodoPageDto;
+import com.example.hexagonalvslayered.layered.dto.TodoRequest;
+import com.example.hexagonalvslayered.layered.dto.TodoSearchRequest;
+import com.example.hexagonalvslayered.layered.service.LayeredTodoService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@WebMvcTest(LayeredTodoController.class)
+class LayeredTodoControllerTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private LayeredTodoService todoService;
+
+    @Test
+    void shouldReturnPageWithNextCursor() throws Exception {
+        // Given
+        when(todoService.getTodoListVersion()).thenReturn(1L);
+        when(todoService.getTodosAfter(10L, 2))
+                .thenReturn(new TodoPageDto(List.of(todo(11L), todo(12L)), 12L));
+
+        // When & Then
+        mockMvc.perform(get("/api/layered/todos").param("after", "10").param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items.length()").value(2))
+                .andExpect(jsonPath("$.items[0].id").value(11))
+                .andExpect(jsonPath("$.nextCursor").value(12));
+    }
+
+    @Test
+    void shouldReturnLastPageWithoutCursor() throws Exception {
+        // Given: 첫 페이지 요청 (after 없음)
+        when(todoService.getTodoListVersion()).thenReturn(1L);
+        when(todoService.getTodosAfter(null, 5)).thenReturn(new TodoPageDto(List.of(todo(1L)), null));
+
+        // When & Then
+        mockMvc.perform(get("/api/layered/todos").param("limit", "5"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void shouldPassFilterAndSortToService() throws Exception {
+        // Given
+        when(todoService.getTodoListVersion()).thenReturn(1L);
+        when(todoService.searchTodos(any(), any())).thenReturn(List.of(todo(2L), todo(1L)));
+
+        // When & Then
+        mockMvc.perform(get("/api/layered/todos")
+                        .param("completed", "true")
+                        .param("createdFrom", "2024-01-01T00:00:00")
+                        .param("sort", "createdAt,desc"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(2));
+
+        ArgumentCaptor<TodoSearchRequest> search = ArgumentCaptor.forClass(TodoSearchRequest.class);
+        verify(todoService).searchTodos(search.capture(), eq(new TodoQueryParameters.SortOrder("createdAt", true)));
+        assertEquals(Boolean.TRUE, search.getValue().getCompleted());
+        assertEquals(LocalDateTime.of(2024, 1, 1, 0, 0), search.getValue().getCreatedFrom());
+        verify(todoService, never()).getAllTodos();
+    }
+
+    @Test
+    void shouldRejectUnsupportedSort() throws Exception {
+        // When & Then: 지원하지 않는 속성이나 방향은 조회 없이 400
+        mockMvc.perform(get("/api/layered/todos").param("sort", "title"))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(get("/api/layered/todos").param("sort", "createdAt,sideways"))
+                .andExpect(status().isBadRequest());
+        verify(todoService, never()).searchTodos(any(), any());
+    }
+
+    @Test
+    void shouldRejectFiltersCombinedWithLimit() throws Exception {
+        // When & Then: 조건을 무시한 페이지를 반환하지 않음
+        mockMvc.perform(get("/api/layered/todos").param("limit", "10").param("completed", "true"))
+                .andExpect(status().isBadRequest());
+        verify(todoService, never()).getTodosAfter(any(), anyInt());
+    }
+
+    @Test
+    void shouldStreamTodosAsNdjson() throws Exception {
+        // Given
+        doAnswer(invocation -> {
+            Consumer<TodoDto> consumer = invocation.getArgument(0);
+            consumer.accept(todo(1L));
+            consumer.accept(todo(2L));
+            return null;
+        }).when(todoService).exportAllTodos(any());
+
+        // When: 응답 본문은 비동기로 쓰임
+        MvcResult result = mockMvc.perform(get("/api/layered/todos/export"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then: 한 줄에 Todo 하나
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        String[] lines = body.split("\n");
+        assertEquals(2, lines.length);
+        assertTrue(lines[0].startsWith("{\"id\":1,"));
+        assertTrue(lines[1].startsWith("{\"id\":2,"));
+    }
+
+    @Test
+    void shouldReturnNotModifiedForUnchangedListWithoutReadingTodos() throws Exception {
+        // Given: 클라이언트가 가진 ETag와 현재 목록 버전이 같음
+        when(todoService.getTodoListVersion()).thenReturn(3L);
+
+        // When & Then
+        mockMvc.perform(get("/api/layered/todos").header(HttpHeaders.IF_NONE_MATCH, "\"todos-3\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"todos-3\""))
+                .andExpect(content().string(""));
+        verify(todoService, never()).getAllTodos();
+    }
+
+    @Test
+    void shouldReturnNotModifiedForUnchangedTodo() throws Exception {
+        // Given
+        when(todoService.getTodoById(1L)).thenReturn(todo(1L));
+
+        // When & Then: 행 버전이 같으면 304, 바뀌면 새 ETag와 함께 200
+        mockMvc.perform(get("/api/layered/todos/1").header(HttpHeaders.IF_NONE_MATCH, "\"todo-1-0\""))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        mockMvc.perform(get("/api/layered/todos/1").header(HttpHeaders.IF_NONE_MATCH, "\"todo-1-1\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"todo-1-0\""))
+                .andExpect(jsonPath("$.id").value(1));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void shouldCreateTodosInBatch() throws Exception {
+        // Given
+        when(todoService.createTodos(anyList())).thenReturn(List.of(todo(1L), todo(2L)));
+
+        // When & Then
+        mockMvc.perform(post("/api/layered/todos/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("[{\"title\":\"첫 번째\"},{\"title\":\"두 번째\",\"description\":\"설명\"}]"))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[1].id").value(2));
+
+        // 요청 순서대로 한 번의 서비스 호출로 전달
+        ArgumentCaptor<List<TodoRequest>> requests = ArgumentCaptor.forClass(List.class);
+        verify(todoService).createTodos(requests.capture());
+        assertEquals(List.of("첫 번째", "두 번째"), requests.getValue().stream()
+                .map(TodoRequest::getTitle)
+                .collect(Collectors.toList()));
+    }
+
+    private static TodoDto todo(Long id) {
+        return new TodoDto(id, "Todo " + id, "설명", false, NOW, NOW, 0L);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.hexagonalvslayered.layered.repository;
+
+import com.example.hexagonalvslayered.layered.dto.TodoSearchRequest;
+import com.example.hexagonalvslayered.layered.model.Todo;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DataJpaTest
+class LayeredTodoRepositoryTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 1, 1, 12, 0);
+
+    @Autowired
+    private LayeredTodoRepository todoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void shouldFindMatchingTodosAsViewsWithoutManagedEntities() {
+        // Given
+        todoRepository.saveAll(List.of(todo("첫 번째", true, NOW.minusDays(2)),
+                todo("두 번째", false, NOW.minusDays(1)),
+                todo("세 번째", true, NOW)));
+        entityManager.flush();
+        entityManager.clear();
+        TodoSearchRequest search = TodoSearchRequest.builder().completed(true).build();
+
+        // When
+        List<TodoView> views = todoRepository.findViews(TodoSpecifications.matching(search),
+                Sort.by(Sort.Direction.DESC, "createdAt"), 10);
+
+        // Then: 조건과 정렬이 적용되고, 영속성 컨텍스트에는 엔티티가 올라오지 않음
+        assertEquals(List.of("세 번째", "첫 번째"), views.stream().map(TodoView::title).collect(Collectors.toList()));
+        assertEquals(0, entityManager.unwrap(Session.class).getStatistics().getEntityCount());
+    }
+
+    @Test
+    void shouldLimitNumberOfViews() {
+        // Given
+        todoRepository.saveAll(List.of(todo("첫 번째", false, NOW.minusDays(1)), todo("두 번째", false, NOW)));
+
+        // When
+        List<TodoView> views = todoRepository.findViews(TodoSpecifications.matching(new TodoSearchRequest()),
+                Sort.by("id"), 1);
+
+        // Then
+        assertEquals(1, views.size());
+    }
+
+    private static Todo todo(String title, boolean completed, LocalDateTime createdAt) {
+        return Todo.builder()
+                .title(title)
+                .description("설명")
+                .completed(completed)
+                .createdAt(createdAt)
+                .updatedAt(createdAt)
+                .build();
+    }
+}
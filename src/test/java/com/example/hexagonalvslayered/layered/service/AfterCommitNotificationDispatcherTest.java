@@ -0,0 +1,105 @@
+package com.example.hexagonalvslayered.layered.service;
+
+import com.example.hexagonalvslayered.common.AimdConcurrencyLimiter;
+import com.example.hexagonalvslayered.common.CircuitBreaker;
+import com.example.hexagonalvslayered.common.NotificationResilienceGuard;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AfterCommitNotificationDispatcherTest {
+
+    private final List<Runnable> queued = new ArrayList<>();
+    private final AtomicInteger sent = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Test
+    void shouldQueueNotificationOnlyAfterCommit() {
+        // Given
+        AfterCommitNotificationDispatcher dispatcher = new AfterCommitNotificationDispatcher(queued::add, NotificationResilienceGuard.permissive(new SimpleMeterRegistry()));
+
+        // When
+        dispatcher.dispatchAfterCommit(sent::incrementAndGet);
+
+        // Then: 커밋 전에는 큐에 넣지 않고, 커밋 후 큐에 들어간 작업이 알림을 전송
+        assertTrue(queued.isEmpty());
+        TransactionSynchronizationUtils.triggerAfterCommit();
+        assertEquals(1, queued.size());
+        queued.get(0).run();
+        assertEquals(1, sent.get());
+    }
+
+    @Test
+    void shouldNotSendNotificationOnRollback() {
+        // Given
+        AfterCommitNotificationDispatcher dispatcher = new AfterCommitNotificationDispatcher(queued::add, NotificationResilienceGuard.permissive(new SimpleMeterRegistry()));
+
+        // When
+        dispatcher.dispatchAfterCommit(sent::incrementAndGet);
+        TransactionSynchronizationUtils.triggerAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Then
+        assertTrue(queued.isEmpty());
+        assertEquals(0, sent.get());
+    }
+
+    @Test
+    void shouldRunOnCallerThreadWhenQueueIsFull() {
+        // Given: 큐가 가득 찬 실행기
+        AfterCommitNotificationDispatcher dispatcher = new AfterCommitNotificationDispatcher(task -> {
+            throw new RejectedExecutionException("queue full");
+        }, NotificationResilienceGuard.permissive(new SimpleMeterRegistry()));
+
+        // When
+        dispatcher.dispatchAfterCommit(sent::incrementAndGet);
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        // Then
+        assertEquals(1, sent.get());
+    }
+
+    @Test
+    void shouldDropNotificationWhenConcurrencyLimitIsReached() {
+        // Given: 동시 실행 한도 1을 다른 알림이 사용 중
+        NotificationResilienceGuard guard = guard(1);
+        NotificationResilienceGuard.Permit inFlight = guard.tryAcquire();
+        AfterCommitNotificationDispatcher dispatcher = new AfterCommitNotificationDispatcher(queued::add, guard);
+
+        // When
+        dispatcher.dispatchAfterCommit(sent::incrementAndGet);
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        // Then: 큐에 넣지 않고 버림
+        assertTrue(queued.isEmpty());
+        inFlight.complete(true);
+    }
+
+    private static NotificationResilienceGuard guard(int limit) {
+        return new NotificationResilienceGuard(
+                new CircuitBreaker(0.5, Duration.ofSeconds(1), 10, 10, Duration.ofSeconds(5), 1),
+                new AimdConcurrencyLimiter(limit, 1, limit, 0.5, Duration.ofSeconds(1)),
+                new SimpleMeterRegistry());
+    }
+}